@@ -55,6 +55,16 @@ public interface RamConstants {
     int DEFAULT_LOGRECORD_BATCH_SIZE = 50;
     Long DEFAULT_LOGRECORD_BATCHING_TIMEOUT = 10000L;
     int LOGRECORD_BATCHING_SENDER_TASK_TIMEOUT = 3;//hours
+    long DEFAULT_LOGRECORD_UPDATES_WINDOW = 500L;//millis
+    int DEFAULT_RECEIVER_UPLOAD_THREADS = 4;
+    int DEFAULT_RECEIVER_UPLOAD_QUEUE_SIZE = 100;
+    long DEFAULT_RECEIVER_UPLOAD_DRAIN_TIMEOUT = 60000L;//millis
+    int DEFAULT_STANDALONE_JOURNAL_SYNC_LINES = 100;
+    long DEFAULT_STANDALONE_JOURNAL_SYNC_INTERVAL = 1000L;//millis
+    int DEFAULT_SPOOL_MAX_REQUESTS = 10000;
+    long DEFAULT_SPOOL_MAX_BYTES = 268435456L;
+    long DEFAULT_SPOOL_BACKOFF_INITIAL = 1000L;//millis
+    long DEFAULT_SPOOL_BACKOFF_MAX = 60000L;//millis
     String UUID = "uuid";
     String UPDATE_TESTING_STATUSES = "updTestingStatus";
     String KAFKA_PRODUCERS_POOL_MAX_TOTAL_PER_KEY = "kafka.producers.pool.maxTotalPerKey";
@@ -91,6 +101,9 @@ public interface RamConstants {
     String COMPRESSION_TYPE = "lz4";
     String ACTION_PARAMETER_VALUE_SIZE_LIMIT_TO_TRIM_CHARS = "atp.adapter.action-parameter-size-limit-to-trim.chars";
     int DEFAULT_ACTION_PARAMETER_VALUE_SIZE_LIMIT_TO_TRIM_CHARS = 256;
+    String MESSAGE_SIZE_POLICY_KEY = "atp.adapter.message-size-policy";
+    String MESSAGE_SIZE_LIMIT_CHARS_KEY = "atp.adapter.message-size-limit.chars";
+    int DEFAULT_MESSAGE_SIZE_LIMIT_CHARS = 1048576;
     String ADAPTER_TYPE_KEY = "ram.adapter.type";
     String BUSINESS_IDS_KEYS_KEY = "atp.logging.business.keys";
     String DEFAULT_ER_NAME = "Default ER";
@@ -99,9 +112,23 @@ public interface RamConstants {
     String ATP_RAM_URL_KEY = "atp.ram.url";
     String ATP_RAM_IMPORTER_URL_KEY = "atp.ram.importer.url";
     String ATP_RAM_RECEIVER_URL_KEY = "atp.ram.receiver.url";
+    String ATP_RAM_RECEIVER_UPLOAD_THREADS_KEY = "atp.ram.receiver.upload.threads";
+    String ATP_RAM_RECEIVER_UPLOAD_QUEUE_SIZE_KEY = "atp.ram.receiver.upload.queue.size";
+    String ATP_RAM_RECEIVER_UPLOAD_DRAIN_TIMEOUT_KEY = "atp.ram.receiver.upload.drain.timeout";
     String ATP_RAM_IMPORTER_LOGRECORD_BATCH_SIZE_KEY = "atp.ram.importer.logrecord.batch.size";
     String ATP_RAM_IMPORTER_LOGRECORD_BATCH_TIMEOUT_KEY = "atp.ram.importer.logrecord.batch.timeout";
     String ATP_LOGGER_URL_KEY = "atp.logger.url";
+    String ATP_RAM_UPLOAD_DEDUPLICATION_ENABLED_KEY = "atp.ram.upload.deduplication.enabled";
+    String ATP_RAM_LOGRECORD_UPDATES_COALESCING_ENABLED_KEY = "atp.ram.logrecord.updates.coalescing.enabled";
+    String ATP_RAM_LOGRECORD_UPDATES_WINDOW_KEY = "atp.ram.logrecord.updates.window";
+    String ATP_RAM_STANDALONE_JOURNAL_PATH_KEY = "atp.ram.standalone.journal.path";
+    String ATP_RAM_STANDALONE_JOURNAL_SYNC_LINES_KEY = "atp.ram.standalone.journal.sync.lines";
+    String ATP_RAM_STANDALONE_JOURNAL_SYNC_INTERVAL_KEY = "atp.ram.standalone.journal.sync.interval";
+    String ATP_RAM_SPOOL_DIR_KEY = "atp.ram.spool.dir";
+    String ATP_RAM_SPOOL_MAX_REQUESTS_KEY = "atp.ram.spool.max.requests";
+    String ATP_RAM_SPOOL_MAX_BYTES_KEY = "atp.ram.spool.max.bytes";
+    String ATP_RAM_SPOOL_BACKOFF_INITIAL_KEY = "atp.ram.spool.replay.backoff.initial";
+    String ATP_RAM_SPOOL_BACKOFF_MAX_KEY = "atp.ram.spool.replay.backoff.max";
     String LOG_RECORD_ID_KEY = "id";
     String PARENT_RECORD_ID_KEY = "parentId";
     String IS_SECTION_KEY = "isSection";
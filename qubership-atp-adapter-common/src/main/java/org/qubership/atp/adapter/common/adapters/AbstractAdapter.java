@@ -24,16 +24,19 @@ import static org.qubership.atp.ram.enums.ExecutionStatuses.IN_PROGRESS;
 import static org.qubership.atp.ram.enums.ExecutionStatuses.findByValue;
 import static java.util.Objects.isNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +46,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.http.client.fluent.Content;
@@ -66,11 +70,13 @@ import org.qubership.atp.adapter.common.entities.CompoundLogRecordContainer;
 import org.qubership.atp.adapter.common.entities.Message;
 import org.qubership.atp.adapter.common.entities.UploadScreenshotResponse;
 import org.qubership.atp.adapter.common.utils.Config;
+import org.qubership.atp.adapter.common.utils.EncryptedDataMasker;
+import org.qubership.atp.adapter.common.utils.MessageSizePolicy;
 import org.qubership.atp.adapter.common.utils.RequestUtils;
+import org.qubership.atp.adapter.common.utils.UploadDeduplicator;
 import org.qubership.atp.adapter.common.utils.Utils;
 import org.qubership.atp.adapter.common.ws.StartRunRequest;
 import org.qubership.atp.adapter.common.ws.StartRunResponse;
-import org.qubership.atp.crypt.CryptoTools;
 import org.qubership.atp.ram.dto.request.UpdateLogRecordContextVariablesRequest;
 import org.qubership.atp.ram.dto.request.UpdateLogRecordExecutionStatusRequest;
 import org.qubership.atp.ram.dto.request.UpdateLogRecordFields;
@@ -100,6 +106,7 @@ import org.qubership.atp.ram.models.logrecords.TechnicalLogRecord;
 import org.qubership.atp.ram.models.logrecords.UiLogRecord;
 import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
 import org.qubership.atp.ram.models.logrecords.parts.FileMetadata;
+import org.qubership.atp.ram.models.logrecords.parts.FileType;
 import org.qubership.atp.ram.models.logrecords.parts.Response;
 import lombok.SneakyThrows;
 import net.sf.json.JSONObject;
@@ -109,6 +116,7 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
     private static final Logger log = LoggerFactory.getLogger(AbstractAdapter.class);
 
     private static final Map<TypeAction, Class<? extends LogRecord>> logRecordTypeByTypeAction;
+    private static final int COMPOUND_SECTIONS_CACHE_SIZE = 64;
 
     static {
         Map<TypeAction, Class<? extends LogRecord>> map = new HashMap<>();
@@ -130,6 +138,11 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
     protected String atpRamReceiverUrl;
     protected RequestUtils requestUtils;
     protected String uploadUrlTemplate;
+    protected boolean uploadDeduplicationEnabled;
+    protected final UploadDeduplicator uploadDeduplicator = new UploadDeduplicator();
+    protected LogRecordUpdateQueue logRecordUpdates;
+    protected MessageSizePolicy messageSizePolicy;
+    private Map<String, CachedCompoundSection> compoundSections;
 
     protected void setRequestUtils(RequestUtils requestUtils) {
         this.requestUtils = requestUtils;
@@ -150,6 +163,15 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
                 + "/%s"//LR id
                 + RamConstants.STREAM_PATH
                 + "?fileName=%s&contentType=%s&snapshotSource=%s&snapshotExternalSource=%s";
+        uploadDeduplicationEnabled = cfg.getBooleanProperty(RamConstants.ATP_RAM_UPLOAD_DEDUPLICATION_ENABLED_KEY,
+                false);
+        if (cfg.getBooleanProperty(RamConstants.ATP_RAM_LOGRECORD_UPDATES_COALESCING_ENABLED_KEY, false)) {
+            logRecordUpdates = new LogRecordUpdateQueue(
+                    cfg.getLongProperty(RamConstants.ATP_RAM_LOGRECORD_UPDATES_WINDOW_KEY,
+                            RamConstants.DEFAULT_LOGRECORD_UPDATES_WINDOW),
+                    this::sendLogRecordUpdate);
+        }
+        messageSizePolicy = MessageSizePolicy.fromConfig(cfg);
         this.requestUtils = new RequestUtils();
     }
 
@@ -365,6 +387,8 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
 
     @Override
     public TestRunContext stopAtpRun(String testRunId) {
+        flushLogRecordUpdates();
+        uploadDeduplicator.finish(testRunId);
         ObjectNode response = RequestUtils
                 .postRequest(atpRamUrl
                                 + RamConstants.RAM_EXECUTOR_PATH
@@ -418,10 +442,7 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
      */
     @Override
     public TestRunContext openCompoundSection(Message compound, boolean isStep) {
-        CompoundLogRecordContainer logRecordRequest = OBJECT_MAPPER.convertValue(compound,
-                CompoundLogRecordContainer.class);
-        logRecordRequest.setStep(isStep);
-        logRecordRequest.setLastInSection(compound.isLastInSection());
+        CompoundLogRecordContainer logRecordRequest = getCompoundSection(compound, isStep);
         context.setLogRecordUuid(logRecordRequest.getUuid().toString());
         context.addSection(logRecordRequest);
         log.debug("Added section [{}] with name [{}] in context.", logRecordRequest.getUuid(),
@@ -429,6 +450,71 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
         return context;
     }
 
+    /**
+     * Returns compound section converted from the message. Compound chain of ATP step is reopened for every message
+     * logged outside of sections, so converted sections are cached per compound id and reused while the compound
+     * message is the same. Fields changed in context while the section is open are reset before reuse.
+     */
+    private CompoundLogRecordContainer getCompoundSection(Message compound, boolean isStep) {
+        if (compoundSections == null) {
+            compoundSections = new LinkedHashMap<String, CachedCompoundSection>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedCompoundSection> eldest) {
+                    return size() > COMPOUND_SECTIONS_CACHE_SIZE;
+                }
+            };
+        }
+        String key = compound.getUuid() + ':' + isStep;
+        CachedCompoundSection cached = compoundSections.get(key);
+        if (cached == null || !cached.compound.equals(compound) || isOpened(cached.section)) {
+            cached = new CachedCompoundSection(compound, convertCompoundSection(compound, isStep),
+                    convertCompoundSection(compound, isStep));
+            compoundSections.put(key, cached);
+            return cached.section;
+        }
+        CompoundLogRecordContainer section = cached.section;
+        CompoundLogRecordContainer pristine = cached.pristine;
+        section.setExecutionStatus(pristine.getExecutionStatus());
+        section.setTestingStatus(pristine.getTestingStatus());
+        section.setMessage(pristine.getMessage());
+        section.setEndDate(pristine.getEndDate());
+        section.setDuration(pristine.getDuration());
+        section.setFileMetadata(pristine.getFileMetadata() == null
+                ? null : new ArrayList<>(pristine.getFileMetadata()));
+        return section;
+    }
+
+    private CompoundLogRecordContainer convertCompoundSection(Message compound, boolean isStep) {
+        CompoundLogRecordContainer logRecordRequest = OBJECT_MAPPER.convertValue(compound,
+                CompoundLogRecordContainer.class);
+        logRecordRequest.setStep(isStep);
+        logRecordRequest.setLastInSection(compound.isLastInSection());
+        return logRecordRequest;
+    }
+
+    private boolean isOpened(LogRecord section) {
+        for (LogRecord opened : context.getSections()) {
+            if (opened == section) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class CachedCompoundSection {
+
+        private final Message compound;
+        private final CompoundLogRecordContainer section;
+        private final CompoundLogRecordContainer pristine;
+
+        CachedCompoundSection(Message compound, CompoundLogRecordContainer section,
+                              CompoundLogRecordContainer pristine) {
+            this.compound = compound;
+            this.section = section;
+            this.pristine = pristine;
+        }
+    }
+
     //todo add test for this + add checking parent ID for other methods
     private TestRunContext addSection(Message section, boolean isStep) {
         try {
@@ -456,8 +542,8 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
             if (NULL_VALUE.equalsIgnoreCase(message.getUuid())) {
                 message.setUuid(null);
             }
-            message.setMessage(CryptoTools.maskEncryptedData(message.getMessage()));
-            message.setName(CryptoTools.maskEncryptedData(message.getName()));
+            message.setMessage(EncryptedDataMasker.mask(message.getMessage()));
+            message.setName(EncryptedDataMasker.mask(message.getName()));
             LogRecord logRecord;
             if (message.getType() != null) {
                 Class<? extends LogRecord> logRecordType =
@@ -467,6 +553,7 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
                     logRecord.setStepContextVariables(message.getStepContextVariables());
                     logRecord.setMessageParameters(message.getMessageParameters());
                     setParamsForLogRecord(logRecord, isSection, isStepFromAtpCompound);
+                    applyMessageSizePolicy(logRecord);
                     return logRecord;
                 }
             } else {
@@ -476,6 +563,7 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
             logRecord.setStepContextVariables(message.getStepContextVariables());
             logRecord.setMessageParameters(message.getMessageParameters());
             setParamsForLogRecord(logRecord, isSection, isStepFromAtpCompound);
+            applyMessageSizePolicy(logRecord);
             return logRecord;
         } catch (Exception e) {
             log.error("Unable prepare log record", e);
@@ -654,6 +742,9 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
     public TestRunContext closeSection() {
         LogRecord section = context.getCurrentSection();
         log.debug("Close section with id {}", section.getUuid());
+        if (logRecordUpdates != null) {
+            logRecordUpdates.flush(section.getUuid().toString());
+        }
         try {
             section.setExecutionStatus(FINISHED);
             updateLogRecordDurationAndEndDate(section);
@@ -940,6 +1031,47 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
         }
     }
 
+    /**
+     * Apply the message size policy once the log record has its final id, so a spilled message is uploaded
+     * to the same log record it belongs to.
+     */
+    private void applyMessageSizePolicy(LogRecord logRecord) {
+        if (messageSizePolicy != null) {
+            logRecord.setMessage(messageSizePolicy.apply(logRecord.getUuid().toString(), logRecord.getMessage(),
+                    (fileName, body) -> uploadMessageFile(logRecord, fileName, body)));
+        }
+    }
+
+    /**
+     * Upload oversized message of the log record as text file and add the file to the log record files.
+     *
+     * @return true if the file was uploaded
+     */
+    protected boolean uploadMessageFile(LogRecord logRecord, String fileName, String body) throws Exception {
+        String url = String.format(
+                uploadUrlTemplate,
+                logRecord.getUuid(),
+                URLEncoder.encode(fileName, RamConstants.UTF8_CHARSET),
+                "text/plain",
+                "",
+                "");
+        UploadScreenshotResponse response = requestUtils.postRequestStream(
+                url, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), UploadScreenshotResponse.class);
+        if (response == null || Strings.isNullOrEmpty(response.getFileId())) {
+            return false;
+        }
+        addMessageFile(logRecord, fileName);
+        log.debug("Message of LR {} was uploaded as file {}", logRecord.getUuid(), response.getFileId());
+        return true;
+    }
+
+    protected static void addMessageFile(LogRecord logRecord, String fileName) {
+        List<FileMetadata> files = logRecord.getFileMetadata() == null
+                ? new ArrayList<>() : new ArrayList<>(logRecord.getFileMetadata());
+        files.add(new FileMetadata(FileType.COMMON, fileName));
+        logRecord.setFileMetadata(files);
+    }
+
     @SneakyThrows
     protected String getUploadFileUrl(Map<String, Object> attribute, Message message) {
         String fileName = (String) attribute.get(RamConstants.SCREENSHOT_NAME_KEY);
@@ -962,16 +1094,58 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
      */
     protected void uploadFirstFile(Message message) {
         Map<String, Object> attributes = message.getAttributes().get(0);
-        UploadScreenshotResponse response = uploadFile(attributes, message);
-
         String contentType = (String) attributes.get(RamConstants.SCREENSHOT_TYPE_KEY);
-        if (Objects.isNull(contentType) || contentType.equals(RamConstants.CONTENT_TYPE)) {
+        boolean isScreenshot = Objects.isNull(contentType) || contentType.equals(RamConstants.CONTENT_TYPE);
+        UploadScreenshotResponse response = isScreenshot && uploadDeduplicationEnabled
+                ? uploadScreenshotOnce(attributes, message)
+                : uploadFile(attributes, message);
+
+        if (isScreenshot) {
             message.setType(TypeAction.UI.name());
             message.setScreenId(response.getFileId());
             message.setPreview(response.getPreview());
         }
     }
 
+    /**
+     * Upload screenshot to RAM unless the same content was already uploaded in the current test run.
+     * Log record refers to the screenshot by its file id, so the id of the previous upload is reused.
+     */
+    protected UploadScreenshotResponse uploadScreenshotOnce(Map<String, Object> attribute, Message message) {
+        String contentType = (String) attribute.get(RamConstants.SCREENSHOT_TYPE_KEY);
+        byte[] content;
+        try {
+            content = readAttachment(attribute);
+        } catch (IOException e) {
+            log.debug("Unable to read screenshot content for LR {}, uploading it as is", message.getUuid(), e);
+            return uploadFile(attribute, message);
+        }
+        if (content == null) {
+            return uploadFile(attribute, message);
+        }
+        String testRunId = context == null ? null : context.getTestRunId();
+        UploadScreenshotResponse uploaded = uploadDeduplicator.find(testRunId, contentType, content);
+        if (uploaded != null) {
+            log.debug("Screenshot for LR {} is identical to already uploaded file {}, skip uploading",
+                    message.getUuid(), uploaded.getFileId());
+            return uploaded;
+        }
+        Map<String, Object> contentAttribute = new HashMap<>(attribute);
+        contentAttribute.put(RamConstants.ATTACHMENT_STREAM_KEY, new ByteArrayInputStream(content));
+        UploadScreenshotResponse response = uploadFile(contentAttribute, message);
+        uploadDeduplicator.remember(testRunId, contentType, content, response);
+        return response;
+    }
+
+    private byte[] readAttachment(Map<String, Object> attribute) throws IOException {
+        if (attribute.containsKey(RamConstants.ATTACHMENT_STREAM_KEY)) {
+            InputStream stream = (InputStream) attribute.get(RamConstants.ATTACHMENT_STREAM_KEY);
+            return stream == null ? null : IOUtils.toByteArray(stream);
+        }
+        File file = (File) attribute.get(RamConstants.SCREENSHOT_FILE_KEY);
+        return file == null ? null : Files.readAllBytes(file.toPath());
+    }
+
     /**
      * Upload all files to RAM.
      *
@@ -1044,91 +1218,76 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
 
     @Override
     public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp endDate, long duration) {
-        UpdateLogRecordExecutionStatusRequest request = new UpdateLogRecordExecutionStatusRequest(
-                findByValue(executionStatus),
-                null,
-                null,
-                endDate,
-                duration
-        );
-        try {
-            RequestUtils.putRequest(atpRamUrl
-                            + RamConstants.API_PATH
-                            + RamConstants.LOG_RECORDS_PATH
-                            + "/" + logRecordId
-                            + RamConstants.UPDATE_EXECUTION_STATUS_PATH + "/",
-                    OBJECT_MAPPER.writeValueAsString(request));
-        } catch (JsonProcessingException e) {
-            log.error("Can not write request as string with execution status [{}], end date [{}] and duration [{}]",
-                    executionStatus, endDate, duration, e);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.executionFinished(logRecordId, executionStatus, endDate, duration);
+            return;
         }
+        putExecutionStatus(logRecordId, executionStatus, null, null, endDate, duration, true);
     }
 
     @Override
     public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp startDate) {
-        UpdateLogRecordExecutionStatusRequest request = new UpdateLogRecordExecutionStatusRequest(
-                findByValue(executionStatus),
-                null,
-                startDate,
-                null,
-                0
-        );
-        try {
-            RequestUtils.putRequest(atpRamUrl
-                            + RamConstants.API_PATH
-                            + RamConstants.LOG_RECORDS_PATH
-                            + "/" + logRecordId
-                            + RamConstants.UPDATE_EXECUTION_STATUS_PATH,
-                    OBJECT_MAPPER.writeValueAsString(request));
-        } catch (JsonProcessingException e) {
-            log.error("Can not write request as string with execution status [{}] and start date [{}]",
-                    executionStatus, startDate, e);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.executionStarted(logRecordId, executionStatus, null, startDate);
+            return;
         }
+        putExecutionStatus(logRecordId, executionStatus, null, startDate, null, 0, false);
     }
 
     @Override
     public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp startDate, String name) {
+        String maskedName = EncryptedDataMasker.mask(name);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.executionStarted(logRecordId, executionStatus, maskedName, startDate);
+            return;
+        }
+        putExecutionStatus(logRecordId, executionStatus, maskedName, startDate, null, 0, false);
+    }
+
+    private void putExecutionStatus(String logRecordId, String executionStatus, String name, Timestamp startDate,
+                                    Timestamp endDate, long duration, boolean finished) {
         UpdateLogRecordExecutionStatusRequest request = new UpdateLogRecordExecutionStatusRequest(
                 findByValue(executionStatus),
-                CryptoTools.maskEncryptedData(name),
+                name,
                 startDate,
-                null,
-                0
+                endDate,
+                duration
         );
         try {
             RequestUtils.putRequest(atpRamUrl
                             + RamConstants.API_PATH
                             + RamConstants.LOG_RECORDS_PATH
                             + "/" + logRecordId
-                            + RamConstants.UPDATE_EXECUTION_STATUS_PATH,
+                            + RamConstants.UPDATE_EXECUTION_STATUS_PATH
+                            + (finished ? "/" : ""),
                     OBJECT_MAPPER.writeValueAsString(request));
         } catch (JsonProcessingException e) {
-            log.error("Can not write request as string with execution status [{}] and start date [{}]",
-                    executionStatus, startDate, e);
+            log.error("Can not write request as string with execution status [{}], start date [{}], end date [{}] "
+                    + "and duration [{}]", executionStatus, startDate, endDate, duration, e);
         }
     }
 
     @Override
     public void updateContextVariables(String logRecordId, List<ContextVariable> contextVariables) {
         encryptContextVariables(contextVariables);
-        UpdateLogRecordContextVariablesRequest request =
-                new UpdateLogRecordContextVariablesRequest(contextVariables);
-        try {
-            RequestUtils.postRequest(atpRamUrl
-                            + RamConstants.API_PATH
-                            + RamConstants.LOG_RECORDS_PATH
-                            + "/" + logRecordId
-                            + RamConstants.UPDATE_CONTEXT_VARIABLES_PATH,
-                    OBJECT_MAPPER.writeValueAsString(request));
-        } catch (JsonProcessingException e) {
-            log.error("Can not write request as string with context variables [{}]",
-                    contextVariables);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.contextVariables(logRecordId, contextVariables);
+            return;
         }
+        postContextVariables(logRecordId, RamConstants.UPDATE_CONTEXT_VARIABLES_PATH, contextVariables);
     }
 
     @Override
     public void updateStepContextVariables(String logRecordId, List<ContextVariable> contextVariables) {
         encryptContextVariables(contextVariables);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.stepContextVariables(logRecordId, contextVariables);
+            return;
+        }
+        postContextVariables(logRecordId, RamConstants.UPDATE_STEP_CONTEXT_VARIABLES_PATH, contextVariables);
+    }
+
+    private void postContextVariables(String logRecordId, String path, List<ContextVariable> contextVariables) {
         UpdateLogRecordContextVariablesRequest request =
                 new UpdateLogRecordContextVariablesRequest(contextVariables);
         try {
@@ -1136,7 +1295,7 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
                             + RamConstants.API_PATH
                             + RamConstants.LOG_RECORDS_PATH
                             + "/" + logRecordId
-                            + RamConstants.UPDATE_STEP_CONTEXT_VARIABLES_PATH,
+                            + path,
                     OBJECT_MAPPER.writeValueAsString(request));
         } catch (JsonProcessingException e) {
             log.error("Can not write request as string with context variables [{}]",
@@ -1149,8 +1308,8 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
             return;
         }
         contextVariables.forEach(contVar -> {
-            contVar.setBeforeValue(CryptoTools.maskEncryptedData(contVar.getBeforeValue()));
-            contVar.setAfterValue(CryptoTools.maskEncryptedData(contVar.getAfterValue()));
+            contVar.setBeforeValue(EncryptedDataMasker.mask(contVar.getBeforeValue()));
+            contVar.setAfterValue(EncryptedDataMasker.mask(contVar.getAfterValue()));
         });
     }
 
@@ -1158,8 +1317,19 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
                                                              String testingStatus,
                                                              org.qubership.atp.ram.models.logrecords.parts.Request request,
                                                              Response response) {
-        UpdateLogRecordFields body = new UpdateLogRecordFields(
-                TestingStatuses.findByValue(testingStatus), message, null, request, response);
+        TestingStatuses status = TestingStatuses.findByValue(testingStatus);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.fields(logRecordId, status, message, null, request, response);
+            return;
+        }
+        postLogRecordFields(logRecordId, status, message, null, request, response);
+    }
+
+    private void postLogRecordFields(String logRecordId, TestingStatuses status, String message,
+                                     List<FileMetadata> files,
+                                     org.qubership.atp.ram.models.logrecords.parts.Request request,
+                                     Response response) {
+        UpdateLogRecordFields body = new UpdateLogRecordFields(status, message, files, request, response);
         try {
             RequestUtils.postRequest(atpRamUrl
                             + RamConstants.RAM_EXECUTOR_PATH
@@ -1169,10 +1339,44 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
                     OBJECT_MAPPER.writeValueAsString(body));
         } catch (JsonProcessingException e) {
             log.error("Can not write request as string for Log Record {} with testing status [{}], message [{}], "
-                    + "request [{}], response [{}]", logRecordId, testingStatus, message, request, response);
+                    + "files [{}], request [{}], response [{}]", logRecordId, status, message, files, request, response);
         }
     }
 
+    /**
+     * Sends merged updates of one log record: one request per updated part, to the same endpoints the parts
+     * are sent to without coalescing. The start of the log record goes first and its finish goes last.
+     */
+    protected int sendLogRecordUpdate(LogRecordUpdateQueue.PendingUpdate update) {
+        int requests = 0;
+        if (update.isStarted()) {
+            putExecutionStatus(update.getLogRecordId(), update.getExecutionStatus(), update.getName(),
+                    update.getStartDate(), null, 0, false);
+            requests++;
+        }
+        if (update.getContextVariables() != null) {
+            postContextVariables(update.getLogRecordId(), RamConstants.UPDATE_CONTEXT_VARIABLES_PATH,
+                    update.getContextVariables());
+            requests++;
+        }
+        if (update.getStepContextVariables() != null) {
+            postContextVariables(update.getLogRecordId(), RamConstants.UPDATE_STEP_CONTEXT_VARIABLES_PATH,
+                    update.getStepContextVariables());
+            requests++;
+        }
+        if (update.isFieldsChanged()) {
+            postLogRecordFields(update.getLogRecordId(), update.getTestingStatus(), update.getMessage(),
+                    update.getFiles(), update.getRequest(), update.getResponse());
+            requests++;
+        }
+        if (update.isFinished()) {
+            putExecutionStatus(update.getLogRecordId(), update.getFinalExecutionStatus(), null, null,
+                    update.getEndDate(), update.getDuration(), true);
+            requests++;
+        }
+        return requests;
+    }
+
     private void setParamsForLogRecord(LogRecord logRecord, boolean isSection, boolean isStepFromAtpCompound) {
         if (logRecord.getUuid() == null) {
             logRecord.setUuid(UUID.randomUUID());
@@ -1218,6 +1422,9 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
      * Send provided LR and update parent section and TR status according to provided status.
      */
     public TestRunContext sendLogRecord(LogRecord logRecordRequest, String status) {
+        if (logRecordUpdates != null && logRecordRequest.getUuid() != null) {
+            logRecordUpdates.flush(logRecordRequest.getUuid().toString());
+        }
         TestRunContext result = sendLogRecord(logRecordRequest);
         log.debug("Sending log record {}", logRecordRequest);
         updateSectionAndTestRunStatus(status);
@@ -1271,23 +1478,17 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
      */
     public void sendMessageStatusAndFiles(String logRecordId, String message, TestingStatuses status,
                                           List<FileMetadata> files) {
-        UpdateLogRecordFields body = new UpdateLogRecordFields(status, message, files, null, null);
-        try {
-            RequestUtils.postRequest(atpRamUrl
-                            + RamConstants.RAM_EXECUTOR_PATH
-                            + RamConstants.LOG_RECORDS_PATH
-                            + "/" + logRecordId
-                            + RamConstants.UPDATE_PATH,
-                    OBJECT_MAPPER.writeValueAsString(body));
-        } catch (JsonProcessingException e) {
-            log.error("Can not write request as string for Log Record {} with testing status [{}], message [{}], "
-                    + "files [{}]", logRecordId, status, message, files);
+        if (logRecordUpdates != null) {
+            logRecordUpdates.fields(logRecordId, status, message, files, null, null);
+            return;
         }
+        postLogRecordFields(logRecordId, status, message, files, null, null);
     }
 
     @Override
     public void sendRamReportImmediately(String executionRequestUuid) {
         log.debug("sendRamReportImmediately [executionRequestUuid={}]", executionRequestUuid);
+        flushLogRecordUpdates();
         ObjectNode params = OBJECT_MAPPER.createObjectNode();
         params.put(RamConstants.EXECUTION_REQUEST_UUID_KEY, executionRequestUuid);
         params.put(RamConstants.RECIPIENTS_KEY, context.getMailList());
@@ -1479,7 +1680,22 @@ public abstract class AbstractAdapter implements AtpRamAdapter {
     public abstract TestRunContext updateSsmMetricReports(String logRecordId, String problemContextMetricReportId,
                                                           String microservicesReportId);
 
+    /**
+     * Sends all pending log record updates, if updates coalescing is enabled.
+     */
+    protected void flushLogRecordUpdates() {
+        if (logRecordUpdates != null) {
+            logRecordUpdates.flushAll();
+            log.debug("Log record updates: {} received, {} requests sent", logRecordUpdates.getReceivedUpdates(),
+                    logRecordUpdates.getSentUpdates());
+        }
+    }
+
     public void close() {
+        flushLogRecordUpdates();
+        if (logRecordUpdates != null) {
+            logRecordUpdates.close();
+        }
         if (this.context != null && this.context.getTestRunId() != null) {
             TestRunContextHolder.removeContext(this.context.getTestRunId());
         } else {
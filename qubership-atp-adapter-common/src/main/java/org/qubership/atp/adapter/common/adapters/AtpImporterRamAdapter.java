@@ -68,6 +68,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AtpImporterRamAdapter extends AbstractAdapter {
 
     private final BulkLogRecordSender bulkLogRecordSender;
+    private final RequestSpool requestSpool = RequestSpool.fromConfig();
 
     private String atpRamImporterUrl;
     protected String uploadUrlTemplate;
@@ -136,12 +137,12 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     public void updateTestRun(TestRun testRunPatch) throws FailedToCreateRamEntity {
         try {
             log.debug("Patching TR with id {}. ", testRunPatch.getUuid());
-            requestUtils.patchRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.PATCH, atpRamImporterUrl
                             + RamConstants.API_PATH
                             + RamConstants.V1_PATH
                             + RamConstants.TEST_RUN_PATH
                             + "?projectId=" + context.getProjectId(),
-                    testRunPatch, null);
+                    testRunPatch);
         } catch (IOException ioException) {
             log.error("Failed to update TR {} in RAM", context.getTestRunId(), ioException);
             reportDetails("Failed to update TR " + testRunPatch.getUuid() + " in RAM."
@@ -212,7 +213,7 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     public void finishAllTestRuns(List<UUID> testRunUuids, boolean isDelayed) throws FailedToCreateRamEntity {
         try {
             log.debug("Delayed finishing TRs {}", testRunUuids);
-            requestUtils.postRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.POST, atpRamImporterUrl
                             + RamConstants.API_PATH
                             + RamConstants.V1_PATH
                             + RamConstants.TEST_RUN_PATH
@@ -220,7 +221,7 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
                             + RamConstants.FINISH_PATH
                             + "?isDelayed=" + isDelayed
                             + "&projectId=" + context.getProjectId(),
-                    testRunUuids, null);
+                    testRunUuids);
         } catch (IOException ioException) {
             log.error("Failed to finish TRs {} in RAM", testRunUuids, ioException);
             reportDetails("Failed to stop TRs in RAM due to "
@@ -238,14 +239,14 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     public TestRunContext updateExecutionRequestStatus(ExecutionStatuses status, String erId) {
         log.debug("updateExecutionRequestStatus [statuses={}, erId={}]", status, erId);
         try {
-            requestUtils.putRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.PUT, atpRamImporterUrl
                     + RamConstants.API_PATH
                     + RamConstants.V1_PATH
                     + RamConstants.ER_PATH
                     + "/" + erId
                     + RamConstants.UPDATE_EXECUTION_STATUS_PATH
                     + "/" + status.toString()
-                    + "?projectId=" + context.getProjectId(), null, null);
+                    + "?projectId=" + context.getProjectId(), null);
         } catch (IOException ioException) {
             log.error("Failed to update ER {} status", erId, ioException);
             reportDetails("Failed to update ER " + erId + " status"
@@ -285,13 +286,13 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     public void updateContextVariables(String logRecordId, List<ContextVariable> contextVariables) {
         encryptContextVariables(contextVariables);
         try {
-            requestUtils.postRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.POST, atpRamImporterUrl
                     + RamConstants.API_PATH
                     + RamConstants.V1_PATH
                     + RamConstants.LOG_RECORD_PATH
                     + "/" + logRecordId
                     + RamConstants.CONTEXT_VARIABLES_PATH
-                    + "?projectId=" + context.getProjectId(), contextVariables, null);
+                    + "?projectId=" + context.getProjectId(), contextVariables);
         } catch (IOException ioException) {
             log.error("Failed to update context variables for LR {}", logRecordId, ioException);
             reportDetails("Failed to context variables for LR " + logRecordId + ". "
@@ -304,13 +305,13 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     public void updateStepContextVariables(String logRecordId, List<ContextVariable> stepContextVariables) {
         encryptContextVariables(stepContextVariables);
         try {
-            requestUtils.postRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.POST, atpRamImporterUrl
                     + RamConstants.API_PATH
                     + RamConstants.V1_PATH
                     + RamConstants.LOG_RECORD_PATH
                     + "/" + logRecordId
                     + RamConstants.STEP_CONTEXT_VARIABLES_PATH
-                    + "?projectId=" + context.getProjectId(), stepContextVariables, null);
+                    + "?projectId=" + context.getProjectId(), stepContextVariables);
         } catch (IOException ioException) {
             log.error("Failed to update step context variables for LR {}", logRecordId, ioException);
             reportDetails("Failed to step context variables for LR " + logRecordId + ". "
@@ -423,14 +424,14 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     public void sendBrowserLogs(List<BrowserConsoleLogsTable> logRecordRequest, String uuid) {
         try {
             log.debug("Sending browser logs with LR id {}. ", uuid);
-            requestUtils.postRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.POST, atpRamImporterUrl
                             + RamConstants.API_PATH
                             + RamConstants.V1_PATH
                             + RamConstants.LOG_RECORD_PATH
                             + "/" + uuid
                             + RamConstants.BROWSER_LOGS_PATH
                             + "?projectId=" + context.getProjectId(),
-                    logRecordRequest, null);
+                    logRecordRequest);
         } catch (IOException ioException) {
             log.error("Failed to send browser logs with LR id {} in RAM", uuid, ioException);
         }
@@ -449,12 +450,12 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     @Override
     public TestRunContext sendEnvironmentsInfo(EnvironmentsInfo environmentsInfo) {
         try {
-            requestUtils.postRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.POST, atpRamImporterUrl
                     + RamConstants.API_PATH
                     + RamConstants.V1_PATH
                     + RamConstants.ER_PATH
                     + RamConstants.ENVIRONMENTS_INFO_PATH
-                    + "?projectId=" + context.getProjectId(), environmentsInfo, null);
+                    + "?projectId=" + context.getProjectId(), environmentsInfo);
         } catch (IOException error) {
             log.error("Failed to report Environments Info for ER {}", environmentsInfo.getExecutionRequestId(), error);
             reportDetails("Failed to report Environments Info for ER "
@@ -468,12 +469,12 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
     @Override
     public TestRunContext sendToolsInfo(ToolsInfo toolsInfo) {
         try {
-            requestUtils.postRequest(atpRamImporterUrl
+            sendOrSpool(RequestSpool.POST, atpRamImporterUrl
                     + RamConstants.API_PATH
                     + RamConstants.V1_PATH
                     + RamConstants.ER_PATH
                     + RamConstants.TOOLS_INFO_PATH
-                    + "?projectId=" + context.getProjectId(), toolsInfo, null);
+                    + "?projectId=" + context.getProjectId(), toolsInfo);
         } catch (IOException error) {
             log.error("Failed to report Tools Info for ER {}", context.getExecutionRequestId(), error);
             reportDetails("Failed to report Tools Info for ER " + context.getExecutionRequestId() + ". "
@@ -481,4 +482,20 @@ public class AtpImporterRamAdapter extends AbstractAdapter {
         }
         return context;
     }
+
+    /**
+     * Sends request by provided method. If request spool is configured,
+     * the request is spooled when RAM is not available and replayed later.
+     */
+    private void sendOrSpool(String method, String url, Object request) throws IOException {
+        if (requestSpool != null) {
+            requestSpool.send(method, url, request, requestUtils::sendRequest);
+        } else if (RequestSpool.PATCH.equals(method)) {
+            requestUtils.patchRequest(url, request, null);
+        } else if (RequestSpool.PUT.equals(method)) {
+            requestUtils.putRequest(url, request, null);
+        } else {
+            requestUtils.postRequest(url, request, null);
+        }
+    }
 }
@@ -55,8 +55,8 @@ import org.qubership.atp.adapter.common.protos.KafkaLogRecordScriptReport;
 import org.qubership.atp.adapter.common.utils.ActionParametersTrimmer;
 import org.qubership.atp.adapter.common.utils.BuildKafkaParamsUtils;
 import org.qubership.atp.adapter.common.utils.Config;
+import org.qubership.atp.adapter.common.utils.EncryptedDataMasker;
 import org.qubership.atp.adapter.common.utils.ExecutionRequestHelper;
-import org.qubership.atp.crypt.CryptoTools;
 import org.qubership.atp.ram.dto.response.MessageParameter;
 import org.qubership.atp.ram.enums.EngineCategory;
 import org.qubership.atp.ram.enums.TestingStatuses;
@@ -258,7 +258,7 @@ public class AtpKafkaRamAdapter extends AbstractAdapter {
 
     @Override
     public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp startDate, String name) {
-        String maskedName = actionParametersTrimmer.trimActionParametersByLimit(CryptoTools.maskEncryptedData(name));
+        String maskedName = actionParametersTrimmer.trimActionParametersByLimit(EncryptedDataMasker.mask(name));
         KafkaLogRecord.LogRecord.Builder logRecord = KafkaLogRecord.LogRecord.newBuilder()
                 .setUuid(logRecordId)
                 .setName(maskedName)
@@ -47,23 +47,26 @@ import static org.qubership.atp.adapter.common.RamConstants.TYPE_ACTION_KEY;
 import static org.qubership.atp.adapter.common.RamConstants.V1_PATH;
 import static org.qubership.atp.adapter.common.utils.ExecutionRequestHelper.getCurrentTimestamp;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.fluent.Content;
 import org.apache.http.client.fluent.Request;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,10 +78,11 @@ import org.qubership.atp.adapter.common.RamConstants;
 import org.qubership.atp.adapter.common.context.TestRunContext;
 import org.qubership.atp.adapter.common.context.TestRunContextHolder;
 import org.qubership.atp.adapter.common.utils.Config;
+import org.qubership.atp.adapter.common.utils.EncryptedDataMasker;
 import org.qubership.atp.adapter.common.utils.ExecutionRequestHelper;
+import org.qubership.atp.adapter.common.utils.JsonStreamEntity;
 import org.qubership.atp.adapter.common.utils.RequestUtils;
 import org.qubership.atp.adapter.common.ws.StartRunRequest;
-import org.qubership.atp.crypt.CryptoTools;
 import org.qubership.atp.ram.enums.EngineCategory;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.models.BrowserConsoleLogsTable;
@@ -101,12 +105,18 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
     private static final String TEST_RUN_UPDATE_STATUS_PATH = "/tr/updateOrCreate";
 
     private static final Logger log = LoggerFactory.getLogger(AtpReceiverRamAdapter.class);
-    private static final Executor executor = Executors.newCachedThreadPool();
+    private static final AttachmentUploadExecutor uploads = new AttachmentUploadExecutor(
+            Config.getConfig().getIntProperty(RamConstants.ATP_RAM_RECEIVER_UPLOAD_THREADS_KEY,
+                    RamConstants.DEFAULT_RECEIVER_UPLOAD_THREADS),
+            Config.getConfig().getIntProperty(RamConstants.ATP_RAM_RECEIVER_UPLOAD_QUEUE_SIZE_KEY,
+                    RamConstants.DEFAULT_RECEIVER_UPLOAD_QUEUE_SIZE));
 
     private final String atpLoggerUrl;
 
     private String logRecordUrl;
     private String testRunUrl;
+    private final long uploadsDrainTimeout;
+    private final RequestSpool requestSpool;
 
     public AtpReceiverRamAdapter(TestRunContext context) {
         this(context.getTestRunName());
@@ -127,6 +137,9 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
         atpRamUrl = cfg.getProperty(ATP_RAM_URL_KEY, "http://localhost:8080");
         logRecordUrl = atpLoggerUrl + "/lr" + FIND_OR_CREATE_PATH;
         testRunUrl = atpLoggerUrl + "/tr" + CREATE_PATH;
+        uploadsDrainTimeout = cfg.getLongProperty(RamConstants.ATP_RAM_RECEIVER_UPLOAD_DRAIN_TIMEOUT_KEY,
+                RamConstants.DEFAULT_RECEIVER_UPLOAD_DRAIN_TIMEOUT);
+        requestSpool = RequestSpool.fromConfig();
         if (Strings.isNullOrEmpty(testRunName)) {
             log.warn("Cannot get context, testRunName is empty");
         } else {
@@ -163,7 +176,7 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
         ObjectNode testRunRequest = OBJECT_MAPPER.createObjectNode();
         testRunRequest.put("testRunId", this.context.getTestRunId());
         testRunRequest.put("urlToBrowserOrLogs", this.context.getUrlToBrowserOrLogs().toString());
-        sendRequest(url, testRunRequest.toString());
+        postOrSpool(url, testRunRequest.toString());
         log.debug("TestRun with id: {} was updated with url to browser: {}",
                 this.context.getTestRunId(),
                 this.context.getUrlToBrowserOrLogs());
@@ -172,12 +185,15 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
 
     @Override
     public TestRunContext stopAtpRun(String testRunId) {
+        uploads.await(testRunId, uploadsDrainTimeout);
+        flushLogRecordUpdates();
+        uploadDeduplicator.finish(testRunId);
         String url = atpLoggerUrl + "/tr/stop";
         ObjectNode testRunRequest = OBJECT_MAPPER.createObjectNode();
         testRunRequest.put("testRunId", testRunId);
         testRunRequest.put("urlToBrowserOrLogs", this.context.getUrlToBrowserOrLogs().toString());
-        String output = sendRequest(url, testRunRequest.toString()).toString();
-        log.debug("TestRun with id: " + testRunId + " was stopped with status: " + output);
+        postOrSpool(url, testRunRequest.toString());
+        log.debug("TestRun with id: " + testRunId + " was stopped");
         return null;
     }
 
@@ -197,26 +213,37 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
                     (String) attributes.get(SCREENSHOT_TYPE_KEY), (String) attributes.get(SCREENSHOT_SOURCE_KEY),
                     (String) attributes.get(SCREENSHOT_EXTERNAL_SOURCE_KEY));
         }
-        ObjectNode logRecordRequest = OBJECT_MAPPER.createObjectNode();
-        logRecordRequest.put(TEST_RUN_ID_KEY, context.getTestRunId());
-        logRecordRequest.put(LOG_RECORD_ID_KEY, uuid);
-        logRecordRequest.put(PARENT_RECORD_ID_KEY, context.getCurrentSectionId());
-        logRecordRequest.put(IS_SECTION_KEY, false);
-        logRecordRequest.put(IS_COMPAUND_KEY, false);
-        logRecordRequest.put(NAME_KEY, CryptoTools.maskEncryptedData(name));
-        logRecordRequest.put(MESSAGE_KEY, message);
-        logRecordRequest.put(TESTING_STATUS_KEY, status);
-        logRecordRequest.put(START_DATE_KEY, context.getStartDate().toString());
-        logRecordRequest.put(FINISH_DATE_KEY, getCurrentTimestamp().toString());
-        logRecordRequest.put(CONFIG_INFO_ID_KEY, configInfo.toString());
-        logRecordRequest.put(TYPE_ACTION_KEY, type);
-        logRecordRequest.put(SERVER, context.getQaHost());
-        if (!Strings.isNullOrEmpty(context.getAtpLogRecordId())) {
-            ObjectNode atpSource = OBJECT_MAPPER.createObjectNode();
-            atpSource.put("atpObjectId", context.getAtpLogRecordId());
-            logRecordRequest.set("atpSource", atpSource);
-        }
-        sendRequest(logRecordUrl, logRecordRequest.toString());
+        String testRunId = context.getTestRunId();
+        String parentRecordId = context.getCurrentSectionId();
+        String maskedName = EncryptedDataMasker.mask(name);
+        String limitedMessage = messageSizePolicy == null ? message : messageSizePolicy.apply(uuid, message,
+                (fileName, body) -> uploadMessage(uuid, fileName, body));
+        String startDate = context.getStartDate().toString();
+        String finishDate = getCurrentTimestamp().toString();
+        String server = context.getQaHost();
+        String atpLogRecordId = context.getAtpLogRecordId();
+        postOrSpool(logRecordUrl, new JsonStreamEntity(generator -> {
+            generator.writeStartObject();
+            generator.writeStringField(TEST_RUN_ID_KEY, testRunId);
+            generator.writeStringField(LOG_RECORD_ID_KEY, uuid);
+            generator.writeStringField(PARENT_RECORD_ID_KEY, parentRecordId);
+            generator.writeBooleanField(IS_SECTION_KEY, false);
+            generator.writeBooleanField(IS_COMPAUND_KEY, false);
+            generator.writeStringField(NAME_KEY, maskedName);
+            generator.writeStringField(MESSAGE_KEY, limitedMessage);
+            generator.writeStringField(TESTING_STATUS_KEY, status);
+            generator.writeStringField(START_DATE_KEY, startDate);
+            generator.writeStringField(FINISH_DATE_KEY, finishDate);
+            generator.writeStringField(CONFIG_INFO_ID_KEY, configInfo.toString());
+            generator.writeStringField(TYPE_ACTION_KEY, type);
+            generator.writeStringField(SERVER, server);
+            if (!Strings.isNullOrEmpty(atpLogRecordId)) {
+                generator.writeObjectFieldStart("atpSource");
+                generator.writeStringField("atpObjectId", atpLogRecordId);
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }));
         return context;
     }
 
@@ -295,6 +322,8 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
 
     @Override
     public void sendRamReportImmediately(String executionRequestUuid) {
+        uploads.await(context.getTestRunId(), uploadsDrainTimeout);
+        flushLogRecordUpdates();
         ObjectNode params = OBJECT_MAPPER.createObjectNode();
         params.put("executionRequestUuid", executionRequestUuid);
         params.put("recipients", context.getMailList());
@@ -337,7 +366,7 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
                 statuses,
                 RamConstants.ATP_EXECUTION_REQUEST_ID_KEY,
                 erId);
-        sendRequest(
+        postOrSpool(
                 this.atpLoggerUrl + EXECUTION_REQUEST_UPDATE_STATUS_PATH,
                 updateStatusRequest.toString());
         return this.context;
@@ -349,7 +378,7 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
                 statuses,
                 TEST_RUN_ID_KEY,
                 trId);
-        sendRequest(
+        postOrSpool(
                 atpLoggerUrl + TEST_RUN_UPDATE_STATUS_PATH,
                 updateStatusRequest.toString());
         return this.context;
@@ -364,44 +393,108 @@ public class AtpReceiverRamAdapter extends AbstractAdapter {
      * Sending request to the specified url.
      */
     private ObjectNode sendRequest(String url, String request) {
-        ObjectNode result = OBJECT_MAPPER.createObjectNode();
+        return sendRequest(url, new StringEntity(request, ContentType.APPLICATION_JSON));
+    }
+
+    /**
+     * Sending request with provided body to the specified url.
+     */
+    private ObjectNode sendRequest(String url, HttpEntity request) {
         try {
-            final Content postResult = RequestUtils.getHttpExecutor()
-                    .execute(Request.Post(url)
-                            .bodyString(request, ContentType.APPLICATION_JSON)).returnContent();
-            String output = postResult.asString();
-            if (log.isDebugEnabled()) {
-                log.debug("LOGGER RESPONSE: " + output);
+            return execute(url, request);
+        } catch (IOException io) {
+            log.error("Error due sending request", io);
+        }
+        return OBJECT_MAPPER.createObjectNode();
+    }
+
+    /**
+     * Sending request to the specified url, the request is spooled if RAM is not available
+     * or if previous requests are still spooled. The request is dropped if the spool is full.
+     */
+    private void postOrSpool(String url, String request) {
+        postOrSpool(url, new StringEntity(request, ContentType.APPLICATION_JSON));
+    }
+
+    private void postOrSpool(String url, HttpEntity request) {
+        if (requestSpool == null) {
+            sendRequest(url, request);
+            return;
+        }
+        if (requestSpool.isEmpty()) {
+            try {
+                execute(url, request);
+                return;
+            } catch (IOException io) {
+                if (!RequestSpool.isRetriable(io)) {
+                    log.error("Error due sending request", io);
+                    return;
+                }
+                log.warn("ATP Report Receiver is not available, request to {} is spooled: {}", url, io.getMessage());
             }
-            result = OBJECT_MAPPER.readValue(output, ObjectNode.class);
+        }
+        try {
+            requestSpool.offer(RequestSpool.POST, url, EntityUtils.toString(request, StandardCharsets.UTF_8));
+        } catch (IOException io) {
+            log.error("Unable to spool request to {}", url, io);
+        }
+    }
+
+    private ObjectNode execute(String url, HttpEntity request) throws IOException {
+        final Content postResult = RequestUtils.getHttpExecutor()
+                .execute(Request.Post(url).body(request)).returnContent();
+        String output = postResult.asString();
+        if (log.isDebugEnabled()) {
+            log.debug("LOGGER RESPONSE: " + output);
+        }
+        try {
+            return OBJECT_MAPPER.readValue(output, ObjectNode.class);
         } catch (JsonParseException jpe) {
             log.error("Cannot parse response from ATP Report Receiver", jpe);
-        } catch (IOException io) {
-            log.error("Error due sending request", io);
         }
-        return result;
+        return OBJECT_MAPPER.createObjectNode();
     }
 
     private void upload(String uuid, String fileName, File file, String contentType, String snapshotSource, String snapshotExternalSource) {
         if (!Objects.nonNull(file)) {
             return;
         }
-        Runnable task = () -> {
+        uploads.submit(context.getTestRunId(), requestSpool, httpExecutor -> {
             try (InputStream stream = new FileInputStream(file)) {
-                final Content postResult = RequestUtils.getHttpExecutor()
-                        .execute(Request.Post(atpLoggerUrl + "/lr/upload/" + uuid + "/stream?fileName="
-                                + fileName + "&contentType=" + contentType + "&snapshotSource="
-                                + URLEncoder.encode(StringUtils.defaultIfEmpty(snapshotSource, ""), "UTF-8")
-                                + "&snapshotExternalSource=" + URLEncoder.encode(
-                                StringUtils.defaultIfEmpty(snapshotExternalSource, ""), "UTF-8"))
-                                .bodyStream(stream, ContentType.APPLICATION_JSON)).returnContent();
-                String output = postResult.asString();
-                log.debug("GridFS FileId: {} ", output);
-            } catch (Exception io) {
-                log.error("Error due upload attach", io);
+                postUpload(httpExecutor, uuid, fileName, contentType, snapshotSource, snapshotExternalSource, stream);
             }
-        };
-        executor.execute(task);
+        });
+    }
+
+    /**
+     * Upload oversized message in the calling thread, so the message size policy truncates it instead
+     * when the upload fails. Message is not uploaded while requests are spooled, its log record is not created yet.
+     */
+    private boolean uploadMessage(String uuid, String fileName, String message) {
+        if (requestSpool != null && !requestSpool.isEmpty()) {
+            return false;
+        }
+        try (InputStream stream = new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8))) {
+            postUpload(RequestUtils.getHttpExecutor(), uuid, fileName, "text/plain", null, null, stream);
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to upload message of LR {} as file {}", uuid, fileName, e);
+            return false;
+        }
+    }
+
+    private void postUpload(org.apache.http.client.fluent.Executor httpExecutor, String uuid, String fileName,
+                            String contentType, String snapshotSource, String snapshotExternalSource,
+                            InputStream stream) throws IOException {
+        final Content postResult = httpExecutor
+                .execute(Request.Post(atpLoggerUrl + "/lr/upload/" + uuid + "/stream?fileName="
+                        + fileName + "&contentType=" + contentType + "&snapshotSource="
+                        + URLEncoder.encode(StringUtils.defaultIfEmpty(snapshotSource, ""), "UTF-8")
+                        + "&snapshotExternalSource=" + URLEncoder.encode(
+                        StringUtils.defaultIfEmpty(snapshotExternalSource, ""), "UTF-8"))
+                        .bodyStream(stream, ContentType.APPLICATION_JSON)).returnContent();
+        String output = postResult.asString();
+        log.debug("GridFS FileId: {} ", output);
     }
 
     private String sendConfigInfo(Map<String, String> configFiles, String category) {
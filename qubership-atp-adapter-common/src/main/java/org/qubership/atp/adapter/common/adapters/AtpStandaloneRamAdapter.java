@@ -26,16 +26,39 @@ import static org.qubership.atp.adapter.common.RamConstants.OBJECT_MAPPER;
 import static org.qubership.atp.adapter.common.RamConstants.RAM_EXECUTOR_PATH;
 import static org.qubership.atp.adapter.common.RamConstants.SAVE_CONFIGS_PATH;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Strings;
+import org.qubership.atp.adapter.common.RamConstants;
 import org.qubership.atp.adapter.common.context.TestRunContext;
+import org.qubership.atp.adapter.common.entities.Message;
+import org.qubership.atp.adapter.common.entities.UploadScreenshotResponse;
+import org.qubership.atp.adapter.common.utils.Config;
+import org.qubership.atp.adapter.common.utils.EncryptedDataMasker;
 import org.qubership.atp.adapter.common.utils.ExecutionRequestHelper;
 import org.qubership.atp.adapter.common.utils.RequestUtils;
+import org.qubership.atp.adapter.common.ws.StartRunRequest;
 import org.qubership.atp.ram.enums.EngineCategory;
+import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.BrowserConsoleLogsTable;
 import org.qubership.atp.ram.models.EnvironmentsInfo;
 import org.qubership.atp.ram.models.LogRecord;
@@ -47,11 +70,29 @@ import org.qubership.atp.ram.models.logrecords.RestLogRecord;
 import org.qubership.atp.ram.models.logrecords.SqlLogRecord;
 import org.qubership.atp.ram.models.logrecords.SshLogRecord;
 import org.qubership.atp.ram.models.logrecords.UiLogRecord;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.FileMetadata;
+import org.qubership.atp.ram.models.logrecords.parts.Request;
+import org.qubership.atp.ram.models.logrecords.parts.Response;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Deprecated
 public class AtpStandaloneRamAdapter extends AbstractAdapter {
 
+    private static final Map<Path, LogRecordJournal> journals = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(AtpStandaloneRamAdapter::closeJournals, "ram-journal-close"));
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    private final LogRecordJournal journal;
+    private final AtomicBoolean journalReleased = new AtomicBoolean();
+
     public AtpStandaloneRamAdapter() {
         this(ExecutionRequestHelper.generateRequestName());
     }
@@ -66,11 +107,239 @@ public class AtpStandaloneRamAdapter extends AbstractAdapter {
      */
     public AtpStandaloneRamAdapter(String testRunName) {
         super(testRunName);
+        journal = openJournal(Config.getConfig());
+    }
+
+    /**
+     * Opens journal configured by {@link RamConstants#ATP_RAM_STANDALONE_JOURNAL_PATH_KEY}.
+     * Adapters writing to the same path share one journal, it is closed when the last of them is closed.
+     */
+    private static LogRecordJournal openJournal(Config cfg) {
+        String journalPath = cfg.getProperty(RamConstants.ATP_RAM_STANDALONE_JOURNAL_PATH_KEY);
+        if (Strings.isNullOrEmpty(journalPath)) {
+            return null;
+        }
+        Path path = Paths.get(journalPath).toAbsolutePath().normalize();
+        try {
+            return journals.compute(path, (key, journal) -> {
+                if (journal == null) {
+                    try {
+                        journal = new LogRecordJournal(key,
+                                cfg.getIntProperty(RamConstants.ATP_RAM_STANDALONE_JOURNAL_SYNC_LINES_KEY,
+                                        RamConstants.DEFAULT_STANDALONE_JOURNAL_SYNC_LINES),
+                                cfg.getLongProperty(RamConstants.ATP_RAM_STANDALONE_JOURNAL_SYNC_INTERVAL_KEY,
+                                        RamConstants.DEFAULT_STANDALONE_JOURNAL_SYNC_INTERVAL));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                journal.retain();
+                return journal;
+            });
+        } catch (UncheckedIOException e) {
+            log.error("Unable to open journal {}, log records will be sent to RAM", path, e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Closes shared journal if the adapter was its last user.
+     */
+    private static void releaseJournal(LogRecordJournal journal) {
+        journals.computeIfPresent(journal.getPath(), (key, current) -> {
+            if (current != journal || !journal.release()) {
+                return current;
+            }
+            closeJournal(journal);
+            return null;
+        });
+    }
+
+    /**
+     * Closes journals of adapters which were not closed before JVM shutdown.
+     */
+    private static void closeJournals() {
+        new ArrayList<>(journals.keySet()).forEach(path -> journals.computeIfPresent(path, (key, journal) -> {
+            closeJournal(journal);
+            return null;
+        }));
+    }
+
+    private static void closeJournal(LogRecordJournal journal) {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.error("Unable to close journal {}", journal.getPath(), e);
+        }
+    }
+
+    private TestRunContext journal(String event, Object payload) {
+        try {
+            journal.append(event, payload);
+        } catch (IOException e) {
+            log.error("Unable to write {} event to journal {}", event, journal.getPath(), e);
+        }
+        return context;
+    }
+
+    private TestRunContext journal(LogRecord logRecord) {
+        if (journal == null) {
+            return null;
+        }
+        journal(LogRecordJournal.LOG_RECORD_EVENT, logRecord);
+        if (logRecord.getUuid() != null) {
+            context.setLogRecordUuid(logRecord.getUuid().toString());
+        }
+        return context;
+    }
+
+    private void syncJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.sync();
+        } catch (IOException e) {
+            log.error("Unable to sync journal {}", journal.getPath(), e);
+        }
+    }
+
+    private ObjectNode payload(String logRecordId) {
+        ObjectNode payload = OBJECT_MAPPER.createObjectNode();
+        payload.put(LogRecordJournal.LOG_RECORD_ID_KEY, logRecordId);
+        return payload;
+    }
+
+    /**
+     * Stores attachment next to the journal and journals it with a generated file id, which the log record refers to
+     * instead of the RAM file id. The replay uploads the file and maps the id.
+     *
+     * @return generated file id
+     */
+    private String journalAttachment(String logRecordId, String fileName, String contentType, String source,
+                                     String externalSource, InputStream content) throws IOException {
+        String fileId = UUID.randomUUID().toString();
+        Path file = journal.storeAttachment(fileId, content);
+        journal(LogRecordJournal.ATTACHMENT_EVENT, payload(logRecordId)
+                .put(LogRecordJournal.FILE_ID_KEY, fileId)
+                .put(LogRecordJournal.FILE_NAME_KEY, fileName)
+                .put(LogRecordJournal.CONTENT_TYPE_KEY, contentType)
+                .put(LogRecordJournal.SOURCE_KEY, source)
+                .put(LogRecordJournal.EXTERNAL_SOURCE_KEY, externalSource)
+                .put(LogRecordJournal.FILE_PATH_KEY, file.toString()));
+        return fileId;
+    }
+
+    @Override
+    protected UploadScreenshotResponse uploadFile(Map<String, Object> attribute, Message message) {
+        if (journal == null) {
+            return super.uploadFile(attribute, message);
+        }
+        String fileName = (String) attribute.get(RamConstants.SCREENSHOT_NAME_KEY);
+        String contentType = (String) attribute.get(RamConstants.SCREENSHOT_TYPE_KEY);
+        String source = (String) attribute.get(RamConstants.SCREENSHOT_SOURCE_KEY);
+        String externalSource = (String) attribute.get(RamConstants.SCREENSHOT_EXTERNAL_SOURCE_KEY);
+        UploadScreenshotResponse response = new UploadScreenshotResponse();
+        try {
+            if (attribute.containsKey(RamConstants.ATTACHMENT_STREAM_KEY)) {
+                response.setFileId(journalAttachment(message.getUuid(), fileName, contentType, source,
+                        externalSource, (InputStream) attribute.get(RamConstants.ATTACHMENT_STREAM_KEY)));
+            } else {
+                File file = (File) attribute.get(RamConstants.SCREENSHOT_FILE_KEY);
+                if (file == null) {
+                    log.error("Can't find file taken from `{}` attribute field. Can't upload file.",
+                            RamConstants.SCREENSHOT_FILE_KEY);
+                    return response;
+                }
+                try (InputStream content = Files.newInputStream(file.toPath())) {
+                    response.setFileId(journalAttachment(message.getUuid(), fileName, contentType, source,
+                            externalSource, content));
+                }
+            }
+        } catch (Exception e) {
+            message.setFileMetadata(new ArrayList<>());
+            log.error("Unable to store file '{}' of LR {} in journal {}", fileName, message.getUuid(),
+                    journal.getPath(), e);
+        }
+        return response;
+    }
+
+    @Override
+    public void uploadFileForLogRecord(String logRecordId, InputStream fileContent, String fileName) {
+        if (journal == null) {
+            super.uploadFileForLogRecord(logRecordId, fileContent, fileName);
+            return;
+        }
+        try {
+            journalAttachment(logRecordId, fileName, "text/html", fileName, "", fileContent);
+        } catch (IOException e) {
+            log.error("Unable to store file '{}' of LR {} in journal {}", fileName, logRecordId, journal.getPath(), e);
+        }
+    }
+
+    @Override
+    protected boolean uploadMessageFile(LogRecord logRecord, String fileName, String body) throws Exception {
+        if (journal == null) {
+            return super.uploadMessageFile(logRecord, fileName, body);
+        }
+        journalAttachment(logRecord.getUuid().toString(), fileName, "text/plain", "", "",
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        addMessageFile(logRecord, fileName);
+        return true;
+    }
+
+    @Override
+    public void updateMessageTestingStatusRequestAndResponse(String logRecordId, String message,
+                                                             String testingStatus, Request request,
+                                                             Response response) {
+        if (journal == null) {
+            super.updateMessageTestingStatusRequestAndResponse(logRecordId, message, testingStatus, request,
+                    response);
+            return;
+        }
+        ObjectNode payload = payload(logRecordId)
+                .put(LogRecordJournal.MESSAGE_KEY, message)
+                .put(LogRecordJournal.STATUS_KEY, testingStatus);
+        payload.set(LogRecordJournal.REQUEST_KEY, OBJECT_MAPPER.valueToTree(request));
+        payload.set(LogRecordJournal.RESPONSE_KEY, OBJECT_MAPPER.valueToTree(response));
+        journal(LogRecordJournal.REQUEST_AND_RESPONSE_EVENT, payload);
+    }
+
+    /**
+     * Starts test run locally: ids missing in the request are generated and the request is journaled,
+     * so the replay can start the same test run in the target adapter.
+     */
+    @Override
+    public TestRunContext startAtpRun(StartRunRequest request, TestRunContext initialContext) {
+        if (journal == null) {
+            return super.startAtpRun(request, initialContext);
+        }
+        this.context = initialContext;
+        context.setMailList(request.getMailList());
+        context.setTestRunId(Strings.isNullOrEmpty(request.getTestRunId())
+                ? UUID.randomUUID().toString() : request.getTestRunId());
+        context.setExecutionRequestId((Objects.nonNull(request.getAtpExecutionRequestId())
+                ? request.getAtpExecutionRequestId() : UUID.randomUUID()).toString());
+        if (Objects.nonNull(request.getProjectId())) {
+            context.setProjectId(request.getProjectId().toString());
+        }
+        if (Objects.nonNull(request.getTestPlanId())) {
+            context.setTestPlanId(request.getTestPlanId().toString());
+        }
+        ObjectNode payload = OBJECT_MAPPER.createObjectNode();
+        payload.put(LogRecordJournal.TEST_RUN_ID_KEY, context.getTestRunId());
+        payload.set(LogRecordJournal.REQUEST_KEY, OBJECT_MAPPER.valueToTree(request));
+        journal(LogRecordJournal.TEST_RUN_START_EVENT, payload);
+        log.info("Started TR {} in journal {}", context.getTestRunId(), journal.getPath());
+        return context;
     }
 
     @SneakyThrows
     @Override
     public TestRunContext sendLogRecord(LogRecord logRecordRequest) {
+        if (journal != null) {
+            return journal(logRecordRequest);
+        }
         ObjectNode resp = RequestUtils.postRequest(
                 atpRamUrl + RAM_EXECUTOR_PATH + LOG_RECORDS_PATH + FIND_OR_CREATE_PATH,
                 new ObjectMapper().writeValueAsString(logRecordRequest));
@@ -80,37 +349,37 @@ public class AtpStandaloneRamAdapter extends AbstractAdapter {
 
     @Override
     public TestRunContext sendUiLogRecord(UiLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
     public TestRunContext sendRestLogRecord(RestLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
     public TestRunContext sendSqlLogRecord(SqlLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
     public TestRunContext sendSshLogRecord(SshLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
     public TestRunContext sendMiaLogRecord(MiaLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
     public TestRunContext sendItfLogRecord(ItfLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
     public TestRunContext sendBvLogRecord(BvLogRecord logRecordRequest) {
-        return null;
+        return journal(logRecordRequest);
     }
 
     @Override
@@ -118,7 +387,11 @@ public class AtpStandaloneRamAdapter extends AbstractAdapter {
 
     @Override
     public TestRunContext updateTestingStatus(String logRecordId, String status) {
-        return null;
+        if (journal == null) {
+            return null;
+        }
+        return journal(LogRecordJournal.TESTING_STATUS_EVENT,
+                payload(logRecordId).put(LogRecordJournal.STATUS_KEY, status));
     }
 
     @Override
@@ -141,14 +414,111 @@ public class AtpStandaloneRamAdapter extends AbstractAdapter {
 
     @Override
     public TestRunContext updateMessageAndTestingStatus(String logRecordId, String message, String testingStatus) {
-        return null;
+        if (journal == null) {
+            return null;
+        }
+        return journal(LogRecordJournal.MESSAGE_AND_TESTING_STATUS_EVENT, payload(logRecordId)
+                .put(LogRecordJournal.MESSAGE_KEY, message)
+                .put(LogRecordJournal.STATUS_KEY, testingStatus));
     }
 
     @Override
     public TestRunContext updateMessageWithIsGroup(String logRecordId, boolean isGroup) {
+        if (journal == null) {
+            return null;
+        }
+        return journal(LogRecordJournal.IS_GROUP_EVENT,
+                payload(logRecordId).put(LogRecordJournal.IS_GROUP_KEY, isGroup));
+    }
+
+    @Override
+    public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp endDate, long duration) {
+        if (journal == null) {
+            super.updateExecutionStatus(logRecordId, executionStatus, endDate, duration);
+            return;
+        }
+        journal(LogRecordJournal.EXECUTION_STATUS_EVENT, payload(logRecordId)
+                .put(LogRecordJournal.EXECUTION_STATUS_KEY, executionStatus)
+                .put(LogRecordJournal.END_DATE_KEY, endDate == null ? null : endDate.getTime())
+                .put(LogRecordJournal.DURATION_KEY, duration));
+    }
+
+    @Override
+    public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp startDate) {
+        updateExecutionStatus(logRecordId, executionStatus, startDate, null);
+    }
+
+    @Override
+    public void updateExecutionStatus(String logRecordId, String executionStatus, Timestamp startDate, String name) {
+        if (journal == null) {
+            if (name == null) {
+                super.updateExecutionStatus(logRecordId, executionStatus, startDate);
+            } else {
+                super.updateExecutionStatus(logRecordId, executionStatus, startDate, name);
+            }
+            return;
+        }
+        journal(LogRecordJournal.EXECUTION_STATUS_EVENT, payload(logRecordId)
+                .put(LogRecordJournal.EXECUTION_STATUS_KEY, executionStatus)
+                .put(LogRecordJournal.START_DATE_KEY, startDate == null ? null : startDate.getTime())
+                .put(LogRecordJournal.NAME_KEY, name == null ? null : EncryptedDataMasker.mask(name)));
+    }
+
+    @Override
+    public void updateContextVariables(String logRecordId, List<ContextVariable> contextVariables) {
+        if (journal == null) {
+            super.updateContextVariables(logRecordId, contextVariables);
+            return;
+        }
+        encryptContextVariables(contextVariables);
+        journal(LogRecordJournal.CONTEXT_VARIABLES_EVENT, payload(logRecordId)
+                .set(LogRecordJournal.CONTEXT_VARIABLES_KEY, OBJECT_MAPPER.valueToTree(contextVariables)));
+    }
+
+    @Override
+    public void updateStepContextVariables(String logRecordId, List<ContextVariable> contextVariables) {
+        if (journal == null) {
+            super.updateStepContextVariables(logRecordId, contextVariables);
+            return;
+        }
+        encryptContextVariables(contextVariables);
+        journal(LogRecordJournal.STEP_CONTEXT_VARIABLES_EVENT, payload(logRecordId)
+                .set(LogRecordJournal.CONTEXT_VARIABLES_KEY, OBJECT_MAPPER.valueToTree(contextVariables)));
+    }
+
+    @Override
+    public void sendMessageStatusAndFiles(String logRecordId, String message, TestingStatuses status,
+                                          List<FileMetadata> files) {
+        if (journal == null) {
+            super.sendMessageStatusAndFiles(logRecordId, message, status, files);
+            return;
+        }
+        ObjectNode payload = payload(logRecordId).put(LogRecordJournal.MESSAGE_KEY, message);
+        payload.set(LogRecordJournal.STATUS_KEY, OBJECT_MAPPER.valueToTree(status));
+        payload.set(LogRecordJournal.FILES_KEY, OBJECT_MAPPER.valueToTree(files));
+        journal(LogRecordJournal.MESSAGE_STATUS_AND_FILES_EVENT, payload);
+    }
+
+    @Override
+    public TestRunContext stopAtpRun(String testRunId) {
+        if (journal == null) {
+            return super.stopAtpRun(testRunId);
+        }
+        journal(LogRecordJournal.TEST_RUN_STOP_EVENT,
+                OBJECT_MAPPER.createObjectNode().put(LogRecordJournal.TEST_RUN_ID_KEY, testRunId));
+        syncJournal();
+        uploadDeduplicator.finish(testRunId);
         return null;
     }
 
+    @Override
+    public void close() {
+        if (journal != null && journalReleased.compareAndSet(false, true)) {
+            releaseJournal(journal);
+        }
+        super.close();
+    }
+
     @Override
     public TestRunContext sendEnvironmentsInfo(EnvironmentsInfo incomingEnvironmentsInfo) {
         return null;
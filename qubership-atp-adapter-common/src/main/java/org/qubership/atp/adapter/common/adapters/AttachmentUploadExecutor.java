@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.client.fluent.Executor;
+
+import org.qubership.atp.adapter.common.utils.RequestUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs attachment uploads on a bounded pool. When all threads are busy and the queue is full, the upload
+ * runs in the submitting thread, which slows down the producer instead of growing the backlog.
+ * Every pool thread keeps its own http executor, so connections are reused between uploads.
+ * Uploads are tracked per test run to let {@link #await(String, long)} wait for them before the run is stopped.
+ * Uploads submitted while requests are spooled are held until the spool is drained, so attachments are not sent
+ * before the log records they belong to.
+ */
+@Slf4j
+public class AttachmentUploadExecutor {
+
+    private final ThreadPoolExecutor pool;
+    private final ThreadLocal<Executor> httpExecutor = ThreadLocal.withInitial(RequestUtils::getHttpExecutor);
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+    private final AtomicLong completedUploads = new AtomicLong();
+    private final AtomicLong failedUploads = new AtomicLong();
+    private final AtomicLong heldUploads = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Creates executor with provided number of threads and queue capacity.
+     */
+    public AttachmentUploadExecutor(int threads, int queueSize) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "ram-attachment-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Returns http executor of the current thread.
+     */
+    public Executor getHttpExecutor() {
+        return httpExecutor.get();
+    }
+
+    /**
+     * Submits the upload of the test run.
+     */
+    public void submit(String testRunId, Upload upload) {
+        submit(testRunId, null, upload);
+    }
+
+    /**
+     * Submits the upload of the test run, which is held until provided spool is drained.
+     *
+     * @param spool request spool, null if requests are not spooled
+     */
+    public void submit(String testRunId, RequestSpool spool, Upload upload) {
+        Batch batch = batches.compute(String.valueOf(testRunId), (id, current) -> {
+            Batch started = current == null ? new Batch() : current;
+            started.started();
+            return started;
+        });
+        long submittedAt = System.nanoTime();
+        Runnable task = () -> {
+            try {
+                upload.run(getHttpExecutor());
+                completedUploads.incrementAndGet();
+            } catch (Exception e) {
+                failedUploads.incrementAndGet();
+                log.error("Error due upload attach", e);
+            } finally {
+                long latency = System.nanoTime() - submittedAt;
+                totalLatencyNanos.addAndGet(latency);
+                maxLatencyNanos.accumulateAndGet(latency, Math::max);
+                batch.finished();
+            }
+        };
+        if (spool == null || !spool.whenDrained(() -> pool.execute(task))) {
+            pool.execute(task);
+        } else {
+            heldUploads.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until all uploads submitted for the test run are finished.
+     *
+     * @return false if the timeout elapsed before that
+     */
+    public boolean await(String testRunId, long timeoutMillis) {
+        Batch batch = batches.get(String.valueOf(testRunId));
+        if (batch == null) {
+            return true;
+        }
+        boolean finished;
+        try {
+            finished = batch.await(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+        if (finished) {
+            batches.computeIfPresent(String.valueOf(testRunId),
+                    (id, current) -> current.getPending() == 0 ? null : current);
+        } else {
+            log.warn("{} attachment upload(s) of test run {} are not finished in {} ms", batch.getPending(),
+                    testRunId, timeoutMillis);
+        }
+        log.debug("Attachment uploads: queue depth {}, completed {}, failed {}, average latency {} ms, "
+                        + "max latency {} ms", getQueueDepth(), completedUploads.get(), failedUploads.get(),
+                getAverageLatencyMillis(), TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+        return finished;
+    }
+
+    public int getQueueDepth() {
+        return pool.getQueue().size();
+    }
+
+    public int getActiveUploads() {
+        return pool.getActiveCount();
+    }
+
+    public long getCompletedUploads() {
+        return completedUploads.get();
+    }
+
+    public long getFailedUploads() {
+        return failedUploads.get();
+    }
+
+    /**
+     * Number of uploads which were held until the request spool was drained.
+     */
+    public long getHeldUploads() {
+        return heldUploads.get();
+    }
+
+    /**
+     * Average time from submission to the end of upload, queueing included.
+     */
+    public long getAverageLatencyMillis() {
+        long uploads = completedUploads.get() + failedUploads.get();
+        return uploads == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / uploads);
+    }
+
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    /**
+     * Upload that sends attachment with provided http executor.
+     */
+    public interface Upload {
+
+        void run(Executor httpExecutor) throws Exception;
+    }
+
+    private static class Batch {
+
+        private int pending;
+
+        synchronized void started() {
+            pending++;
+        }
+
+        synchronized void finished() {
+            pending--;
+            if (pending == 0) {
+                notifyAll();
+            }
+        }
+
+        synchronized int getPending() {
+            return pending;
+        }
+
+        synchronized boolean await(long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (pending > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+            return true;
+        }
+    }
+}
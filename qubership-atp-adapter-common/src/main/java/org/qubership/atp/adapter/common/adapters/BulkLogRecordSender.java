@@ -56,6 +56,7 @@ public class BulkLogRecordSender {
     private final int senderTaskTimeout; //in hours
     private final String atpRamImporterUrl;
     protected RequestUtils requestUtils = new RequestUtils();
+    private final RequestSpool requestSpool = RequestSpool.fromConfig();
     private final ConcurrentHashMap<UUID, ConcurrentLinkedQueue<LogRecordDto>> lrsToErQueue =
             new ConcurrentHashMap<>();
 
@@ -164,14 +165,18 @@ public class BulkLogRecordSender {
     }
 
     private void sendLrBatch(List<LogRecordDto> batch, UUID projectId) {
+        String url = atpRamImporterUrl
+                + RamConstants.API_PATH
+                + RamConstants.V1_PATH
+                + RamConstants.LOG_RECORD_PATH
+                + RamConstants.BULK_PATH
+                + "?projectId=" + projectId;
         try {
-            requestUtils.postRequest(atpRamImporterUrl
-                            + RamConstants.API_PATH
-                            + RamConstants.V1_PATH
-                            + RamConstants.LOG_RECORD_PATH
-                            + RamConstants.BULK_PATH
-                            + "?projectId=" + projectId,
-                    new ArrayList<>(batch), null);
+            if (requestSpool != null) {
+                requestSpool.send(RequestSpool.POST, url, batch, requestUtils::sendRequest);
+            } else {
+                requestUtils.postRequest(url, new ArrayList<>(batch), null);
+            }
         } catch (IOException ioException) {
             log.error("Failed to send LRs {} in RAM", batch, ioException);
         }
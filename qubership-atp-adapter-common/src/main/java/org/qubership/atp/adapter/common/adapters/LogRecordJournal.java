@@ -0,0 +1,362 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import static org.qubership.atp.adapter.common.RamConstants.OBJECT_MAPPER;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.qubership.atp.ram.models.LogRecord;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of reporting events stored as NDJSON: one JSON object per line with event name,
+ * payload class and payload. Appended lines are flushed and synced to disk in batches,
+ * after the configured number of lines, by a timer when the sync interval elapses, and on {@link #sync()}.
+ * Journal is read line by line with {@link #read(Path, Consumer)}, so files of any size can be replayed.
+ * Attachments are stored as files in the {@code <journal file name>.files} directory next to the journal.
+ */
+@Slf4j
+public class LogRecordJournal implements Closeable {
+
+    public static final String LOG_RECORD_EVENT = "logRecord";
+    public static final String TESTING_STATUS_EVENT = "testingStatus";
+    public static final String MESSAGE_AND_TESTING_STATUS_EVENT = "messageAndTestingStatus";
+    public static final String IS_GROUP_EVENT = "isGroup";
+    public static final String EXECUTION_STATUS_EVENT = "executionStatus";
+    public static final String CONTEXT_VARIABLES_EVENT = "contextVariables";
+    public static final String STEP_CONTEXT_VARIABLES_EVENT = "stepContextVariables";
+    public static final String MESSAGE_STATUS_AND_FILES_EVENT = "messageStatusAndFiles";
+    public static final String TEST_RUN_START_EVENT = "testRunStart";
+    public static final String TEST_RUN_STOP_EVENT = "testRunStop";
+    public static final String ATTACHMENT_EVENT = "attachment";
+    public static final String REQUEST_AND_RESPONSE_EVENT = "messageRequestAndResponse";
+
+    static final String EVENT_KEY = "event";
+    static final String CLASS_KEY = "class";
+    static final String PAYLOAD_KEY = "payload";
+
+    static final String LOG_RECORD_ID_KEY = "logRecordId";
+    static final String STATUS_KEY = "status";
+    static final String MESSAGE_KEY = "message";
+    static final String IS_GROUP_KEY = "isGroup";
+    static final String EXECUTION_STATUS_KEY = "executionStatus";
+    static final String NAME_KEY = "name";
+    static final String START_DATE_KEY = "startDate";
+    static final String END_DATE_KEY = "endDate";
+    static final String DURATION_KEY = "duration";
+    static final String CONTEXT_VARIABLES_KEY = "contextVariables";
+    static final String FILES_KEY = "files";
+    static final String TEST_RUN_ID_KEY = "testRunId";
+    static final String REQUEST_KEY = "request";
+    static final String RESPONSE_KEY = "response";
+    static final String FILE_ID_KEY = "fileId";
+    static final String FILE_NAME_KEY = "fileName";
+    static final String FILE_PATH_KEY = "filePath";
+    static final String CONTENT_TYPE_KEY = "contentType";
+    static final String SOURCE_KEY = "source";
+    static final String EXTERNAL_SOURCE_KEY = "externalSource";
+
+    private static final AtomicInteger SYNC_THREAD_NUMBER = new AtomicInteger();
+
+    private static final ObjectMapper READER = OBJECT_MAPPER.copy()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Getter
+    private final Path path;
+    private final FileChannel channel;
+    private final OutputStream out;
+    private final int syncLines;
+    private final long syncIntervalMillis;
+    private final ScheduledExecutorService syncTimer;
+    private int unsyncedLines;
+    private long lastSync = System.currentTimeMillis();
+    private long appendedLines;
+    private int references;
+    private boolean closed;
+
+    /**
+     * Opens journal for appending, creating the file and its directories if they do not exist.
+     */
+    public LogRecordJournal(Path path, int syncLines, long syncIntervalMillis) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.out = new BufferedOutputStream(Channels.newOutputStream(channel));
+        this.syncLines = Math.max(1, syncLines);
+        this.syncIntervalMillis = syncIntervalMillis;
+        if (syncIntervalMillis > 0) {
+            String threadName = "ram-journal-sync-" + SYNC_THREAD_NUMBER.incrementAndGet();
+            syncTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncTimer.scheduleWithFixedDelay(this::syncUnsynced, syncIntervalMillis, syncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            syncTimer = null;
+        }
+    }
+
+    /**
+     * Appends log record of any type, the record class is kept to restore it on reading.
+     */
+    public void appendLogRecord(LogRecord logRecord) throws IOException {
+        append(LOG_RECORD_EVENT, logRecord);
+    }
+
+    /**
+     * Appends event with provided payload.
+     */
+    public synchronized void append(String event, Object payload) throws IOException {
+        if (closed) {
+            throw new IOException("Journal " + path + " is closed");
+        }
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.writeStartObject();
+            generator.writeStringField(EVENT_KEY, event);
+            if (payload != null) {
+                generator.writeStringField(CLASS_KEY, payload.getClass().getName());
+            }
+            generator.writeObjectField(PAYLOAD_KEY, payload);
+            generator.writeEndObject();
+        }
+        out.write('\n');
+        appendedLines++;
+        unsyncedLines++;
+        if (unsyncedLines >= syncLines || System.currentTimeMillis() - lastSync >= syncIntervalMillis) {
+            sync();
+        }
+    }
+
+    /**
+     * Writes buffered lines and forces them to disk.
+     */
+    public synchronized void sync() throws IOException {
+        if (closed) {
+            return;
+        }
+        out.flush();
+        if (unsyncedLines > 0) {
+            channel.force(false);
+        }
+        unsyncedLines = 0;
+        lastSync = System.currentTimeMillis();
+    }
+
+    /**
+     * Stores attachment content in the attachments directory and forces it to disk, so the event referring to it
+     * can be appended after.
+     *
+     * @return path of the stored file relative to the journal directory
+     */
+    public Path storeAttachment(String fileId, InputStream content) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path file = directory.resolve(path.getFileName() + ".files").resolve(fileId);
+        Files.createDirectories(file.getParent());
+        Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+        try (FileChannel attachment = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            attachment.force(false);
+        }
+        return directory.relativize(file);
+    }
+
+    /**
+     * Resolves path of the attachment stored by {@link #storeAttachment(String, InputStream)}.
+     *
+     * @param journal journal file, if null the path is resolved against the working directory
+     */
+    public static Path resolveAttachment(Path journal, String attachment) {
+        return journal == null ? Paths.get(attachment) : journal.toAbsolutePath().getParent().resolve(attachment);
+    }
+
+    public synchronized long getAppendedLines() {
+        return appendedLines;
+    }
+
+    /**
+     * Syncs lines appended since the last sync, so they reach the disk even if nothing is appended later.
+     */
+    private synchronized void syncUnsynced() {
+        if (closed || unsyncedLines == 0) {
+            return;
+        }
+        try {
+            sync();
+        } catch (IOException e) {
+            log.error("Unable to sync journal {}", path, e);
+        }
+    }
+
+    /**
+     * Registers one more user of the shared journal.
+     */
+    synchronized void retain() {
+        references++;
+    }
+
+    /**
+     * Unregisters user of the shared journal.
+     *
+     * @return true if the journal has no users anymore
+     */
+    synchronized boolean release() {
+        return --references <= 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (syncTimer != null) {
+            syncTimer.shutdownNow();
+        }
+        try {
+            sync();
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+
+    /**
+     * Reads journal line by line and passes every entry to the consumer.
+     * Lines which can not be parsed, e.g. the last line of a journal which was not closed, are skipped.
+     *
+     * @return number of entries passed to the consumer
+     */
+    public static long read(Path path, Consumer consumer) throws IOException {
+        long entries = 0;
+        long lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                ObjectNode node;
+                try {
+                    node = READER.readValue(line, ObjectNode.class);
+                } catch (IOException e) {
+                    log.warn("Skip malformed line {} of journal {}", lineNumber, path, e);
+                    continue;
+                }
+                consumer.accept(new Entry(node.path(EVENT_KEY).asText(),
+                        node.hasNonNull(CLASS_KEY) ? node.get(CLASS_KEY).asText() : null,
+                        node.get(PAYLOAD_KEY)));
+                entries++;
+            }
+        }
+        return entries;
+    }
+
+    public interface Consumer {
+        void accept(Entry entry) throws IOException;
+    }
+
+    @Getter
+    public static class Entry {
+        private final String event;
+        private final String className;
+        private final JsonNode payload;
+
+        Entry(String event, String className, JsonNode payload) {
+            this.event = event;
+            this.className = className;
+            this.payload = payload;
+        }
+
+        /**
+         * Restores log record of the class it was appended with.
+         */
+        public LogRecord getLogRecord() throws IOException {
+            Class<?> type;
+            try {
+                type = className == null ? LogRecord.class : Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Unknown log record class " + className, e);
+            }
+            if (!LogRecord.class.isAssignableFrom(type)) {
+                throw new IOException("Class " + className + " is not a log record");
+            }
+            return (LogRecord) READER.treeToValue(payload, type);
+        }
+
+        /**
+         * Restores value of the payload field.
+         */
+        public <T> T getValue(String field, Class<T> type) throws IOException {
+            JsonNode value = payload == null ? null : payload.get(field);
+            return value == null || value.isNull() ? null : READER.treeToValue(value, type);
+        }
+
+        /**
+         * Restores generic value of the payload field, e.g. a list.
+         */
+        public <T> T getValue(String field, TypeReference<T> type) throws IOException {
+            JsonNode value = payload == null ? null : payload.get(field);
+            return value == null || value.isNull() ? null : READER.readValue(READER.treeAsTokens(value), type);
+        }
+
+        public String getText(String field) {
+            JsonNode value = payload == null ? null : payload.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+
+        public Long getLong(String field) {
+            JsonNode value = payload == null ? null : payload.get(field);
+            return value == null || value.isNull() ? null : value.asLong();
+        }
+
+        public boolean getBoolean(String field) {
+            return payload != null && payload.path(field).asBoolean();
+        }
+    }
+}
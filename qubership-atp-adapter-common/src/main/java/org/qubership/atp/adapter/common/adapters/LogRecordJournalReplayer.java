@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.CONTENT_TYPE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.CONTEXT_VARIABLES_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.DURATION_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.END_DATE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.EXECUTION_STATUS_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.EXTERNAL_SOURCE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.FILES_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.FILE_ID_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.FILE_NAME_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.FILE_PATH_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.IS_GROUP_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.LOG_RECORD_ID_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.MESSAGE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.NAME_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.REQUEST_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.RESPONSE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.SOURCE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.START_DATE_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.STATUS_KEY;
+import static org.qubership.atp.adapter.common.adapters.LogRecordJournal.TEST_RUN_ID_KEY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Strings;
+import org.qubership.atp.adapter.common.AtpRamAdapter;
+import org.qubership.atp.adapter.common.RamConstants;
+import org.qubership.atp.adapter.common.adapters.providers.RamAdapterProvider;
+import org.qubership.atp.adapter.common.context.TestRunContext;
+import org.qubership.atp.adapter.common.entities.Message;
+import org.qubership.atp.adapter.common.entities.UploadScreenshotResponse;
+import org.qubership.atp.adapter.common.ws.StartRunRequest;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.logrecords.BvLogRecord;
+import org.qubership.atp.ram.models.logrecords.ItfLogRecord;
+import org.qubership.atp.ram.models.logrecords.MiaLogRecord;
+import org.qubership.atp.ram.models.logrecords.RestLogRecord;
+import org.qubership.atp.ram.models.logrecords.SqlLogRecord;
+import org.qubership.atp.ram.models.logrecords.SshLogRecord;
+import org.qubership.atp.ram.models.logrecords.UiLogRecord;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.FileMetadata;
+import org.qubership.atp.ram.models.logrecords.parts.Request;
+import org.qubership.atp.ram.models.logrecords.parts.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends events of a {@link LogRecordJournal} to another adapter in the order they were appended, without delays.
+ * Journaled test runs are started in the target adapter again and log records are moved to the started test runs.
+ * Journaled attachments are uploaded again and log records refer to the uploaded files.
+ */
+@Slf4j
+public class LogRecordJournalReplayer {
+
+    private static final TypeReference<List<ContextVariable>> CONTEXT_VARIABLES_TYPE =
+            new TypeReference<List<ContextVariable>>() {
+            };
+    private static final TypeReference<List<FileMetadata>> FILES_TYPE = new TypeReference<List<FileMetadata>>() {
+    };
+
+    private final AbstractAdapter target;
+    private final Map<String, String> testRunIds = new HashMap<>();
+    private final Map<String, String> fileIds = new HashMap<>();
+    private Path journal;
+
+    public LogRecordJournalReplayer(AbstractAdapter target) {
+        this.target = target;
+    }
+
+    /**
+     * Replays journal file into the target adapter.
+     *
+     * @return number of replayed events
+     */
+    public long replay(Path journal) throws IOException {
+        long started = System.currentTimeMillis();
+        this.journal = journal;
+        long events = LogRecordJournal.read(journal, this::replay);
+        log.info("{} events of journal {} were replayed in {} ms", events, journal,
+                System.currentTimeMillis() - started);
+        return events;
+    }
+
+    void replay(LogRecordJournal.Entry entry) throws IOException {
+        switch (entry.getEvent()) {
+            case LogRecordJournal.TEST_RUN_START_EVENT:
+                replayTestRunStart(entry);
+                break;
+            case LogRecordJournal.TEST_RUN_STOP_EVENT:
+                target.stopAtpRun(testRunId(entry.getText(TEST_RUN_ID_KEY)));
+                break;
+            case LogRecordJournal.LOG_RECORD_EVENT:
+                send(entry.getLogRecord());
+                break;
+            case LogRecordJournal.TESTING_STATUS_EVENT:
+                target.updateTestingStatus(entry.getText(LOG_RECORD_ID_KEY), entry.getText(STATUS_KEY));
+                break;
+            case LogRecordJournal.MESSAGE_AND_TESTING_STATUS_EVENT:
+                target.updateMessageAndTestingStatus(entry.getText(LOG_RECORD_ID_KEY), entry.getText(MESSAGE_KEY),
+                        entry.getText(STATUS_KEY));
+                break;
+            case LogRecordJournal.IS_GROUP_EVENT:
+                target.updateMessageWithIsGroup(entry.getText(LOG_RECORD_ID_KEY), entry.getBoolean(IS_GROUP_KEY));
+                break;
+            case LogRecordJournal.EXECUTION_STATUS_EVENT:
+                replayExecutionStatus(entry);
+                break;
+            case LogRecordJournal.CONTEXT_VARIABLES_EVENT:
+                target.updateContextVariables(entry.getText(LOG_RECORD_ID_KEY),
+                        entry.getValue(CONTEXT_VARIABLES_KEY, CONTEXT_VARIABLES_TYPE));
+                break;
+            case LogRecordJournal.STEP_CONTEXT_VARIABLES_EVENT:
+                target.updateStepContextVariables(entry.getText(LOG_RECORD_ID_KEY),
+                        entry.getValue(CONTEXT_VARIABLES_KEY, CONTEXT_VARIABLES_TYPE));
+                break;
+            case LogRecordJournal.ATTACHMENT_EVENT:
+                replayAttachment(entry);
+                break;
+            case LogRecordJournal.REQUEST_AND_RESPONSE_EVENT:
+                target.updateMessageTestingStatusRequestAndResponse(entry.getText(LOG_RECORD_ID_KEY),
+                        entry.getText(MESSAGE_KEY), entry.getText(STATUS_KEY),
+                        entry.getValue(REQUEST_KEY, Request.class), entry.getValue(RESPONSE_KEY, Response.class));
+                break;
+            case LogRecordJournal.MESSAGE_STATUS_AND_FILES_EVENT:
+                target.sendMessageStatusAndFiles(entry.getText(LOG_RECORD_ID_KEY), entry.getText(MESSAGE_KEY),
+                        entry.getValue(STATUS_KEY, TestingStatuses.class), entry.getValue(FILES_KEY, FILES_TYPE));
+                break;
+            default:
+                log.warn("Skip unknown journal event {}", entry.getEvent());
+        }
+    }
+
+    private void replayTestRunStart(LogRecordJournal.Entry entry) throws IOException {
+        StartRunRequest request = entry.getValue(REQUEST_KEY, StartRunRequest.class);
+        TestRunContext context = target.startAtpRun(request, new TestRunContext());
+        testRunIds.put(entry.getText(TEST_RUN_ID_KEY), context.getTestRunId());
+    }
+
+    /**
+     * Id of the test run started by the replay for the journaled test run id.
+     */
+    private String testRunId(String journaledTestRunId) {
+        return testRunIds.getOrDefault(journaledTestRunId, journaledTestRunId);
+    }
+
+    /**
+     * Uploads journaled attachment to the log record it was stored for, the journaled file id is mapped to the id of
+     * the uploaded file.
+     */
+    private void replayAttachment(LogRecordJournal.Entry entry) {
+        String logRecordId = entry.getText(LOG_RECORD_ID_KEY);
+        Path file = LogRecordJournal.resolveAttachment(journal, entry.getText(FILE_PATH_KEY));
+        if (!Files.exists(file)) {
+            log.warn("Skip attachment of LR {}, file {} does not exist", logRecordId, file);
+            return;
+        }
+        Map<String, Object> attribute = new HashMap<>();
+        attribute.put(RamConstants.SCREENSHOT_NAME_KEY, entry.getText(FILE_NAME_KEY));
+        attribute.put(RamConstants.SCREENSHOT_TYPE_KEY, entry.getText(CONTENT_TYPE_KEY));
+        attribute.put(RamConstants.SCREENSHOT_SOURCE_KEY, entry.getText(SOURCE_KEY));
+        attribute.put(RamConstants.SCREENSHOT_EXTERNAL_SOURCE_KEY, entry.getText(EXTERNAL_SOURCE_KEY));
+        attribute.put(RamConstants.SCREENSHOT_FILE_KEY, file.toFile());
+        Message message = new Message();
+        message.setUuid(logRecordId);
+        UploadScreenshotResponse response = target.uploadFile(attribute, message);
+        if (response != null && !Strings.isNullOrEmpty(response.getFileId())) {
+            fileIds.put(entry.getText(FILE_ID_KEY), response.getFileId());
+        }
+    }
+
+    private void send(LogRecord logRecord) {
+        if (logRecord.getTestRunId() != null) {
+            logRecord.setTestRunId(UUID.fromString(testRunId(logRecord.getTestRunId().toString())));
+        }
+        if (logRecord instanceof UiLogRecord) {
+            UiLogRecord uiLogRecord = (UiLogRecord) logRecord;
+            if (uiLogRecord.getScreenId() != null) {
+                uiLogRecord.setScreenId(fileIds.getOrDefault(uiLogRecord.getScreenId(), uiLogRecord.getScreenId()));
+            }
+            target.sendUiLogRecord((UiLogRecord) logRecord);
+        } else if (logRecord instanceof RestLogRecord) {
+            target.sendRestLogRecord((RestLogRecord) logRecord);
+        } else if (logRecord instanceof SqlLogRecord) {
+            target.sendSqlLogRecord((SqlLogRecord) logRecord);
+        } else if (logRecord instanceof SshLogRecord) {
+            target.sendSshLogRecord((SshLogRecord) logRecord);
+        } else if (logRecord instanceof MiaLogRecord) {
+            target.sendMiaLogRecord((MiaLogRecord) logRecord);
+        } else if (logRecord instanceof ItfLogRecord) {
+            target.sendItfLogRecord((ItfLogRecord) logRecord);
+        } else if (logRecord instanceof BvLogRecord) {
+            target.sendBvLogRecord((BvLogRecord) logRecord);
+        } else {
+            target.sendLogRecord(logRecord);
+        }
+    }
+
+    private void replayExecutionStatus(LogRecordJournal.Entry entry) {
+        String logRecordId = entry.getText(LOG_RECORD_ID_KEY);
+        String executionStatus = entry.getText(EXECUTION_STATUS_KEY);
+        Timestamp endDate = toTimestamp(entry.getLong(END_DATE_KEY));
+        if (endDate != null) {
+            Long duration = entry.getLong(DURATION_KEY);
+            target.updateExecutionStatus(logRecordId, executionStatus, endDate, duration == null ? 0 : duration);
+            return;
+        }
+        Timestamp startDate = toTimestamp(entry.getLong(START_DATE_KEY));
+        String name = entry.getText(NAME_KEY);
+        if (name != null) {
+            target.updateExecutionStatus(logRecordId, executionStatus, startDate, name);
+        } else {
+            target.updateExecutionStatus(logRecordId, executionStatus, startDate);
+        }
+    }
+
+    private static Timestamp toTimestamp(Long time) {
+        return time == null ? null : new Timestamp(time);
+    }
+
+    /**
+     * Replays journal files into the adapter configured by {@code ram.adapter.type} property.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: LogRecordJournalReplayer <journal.ndjson>...");
+            return;
+        }
+        AtpRamAdapter adapter = RamAdapterProvider.getNewAdapter("Journal replay");
+        if (!(adapter instanceof AbstractAdapter)) {
+            throw new IllegalStateException("Adapter " + adapter.getClass().getName() + " can not replay journal");
+        }
+        try {
+            LogRecordJournalReplayer replayer = new LogRecordJournalReplayer((AbstractAdapter) adapter);
+            for (String journal : args) {
+                replayer.replay(Paths.get(journal));
+            }
+        } finally {
+            adapter.close();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.FileMetadata;
+import org.qubership.atp.ram.models.logrecords.parts.Request;
+import org.qubership.atp.ram.models.logrecords.parts.Response;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects partial updates of log records and sends them merged per log record.
+ * Scalar fields are merged by last non-null value, context variables and files are appended in the order they were
+ * reported. Pending updates of a log record are sent when it is finished (execution status with end date is
+ * reported), when {@link #flush(String)} is invoked for it or when the window after its first pending update elapses.
+ * Updates of one log record are sent in order, updates of different log records are sent independently.
+ */
+@Slf4j
+public class LogRecordUpdateQueue {
+
+    private static final AtomicInteger SCHEDULER_NUMBER = new AtomicInteger();
+
+    private final Map<String, PendingUpdate> pending = new LinkedHashMap<>();
+    private final Set<String> sending = new HashSet<>();
+    private final long windowMillis;
+    private final Sender sender;
+    private final AtomicLong receivedUpdates = new AtomicLong();
+    private final AtomicLong sentUpdates = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+
+    public LogRecordUpdateQueue(long windowMillis, Sender sender) {
+        this.windowMillis = windowMillis;
+        this.sender = sender;
+    }
+
+    /**
+     * Merges execution status update with start date and name.
+     */
+    public synchronized void executionStarted(String logRecordId, String executionStatus, String name,
+                                              Timestamp startDate) {
+        PendingUpdate update = pendingFor(logRecordId);
+        update.started = true;
+        update.executionStatus = executionStatus;
+        update.name = name != null ? name : update.name;
+        update.startDate = startDate != null ? startDate : update.startDate;
+    }
+
+    /**
+     * Merges execution status update with end date and duration. Update with end date finishes the log record
+     * and flushes it.
+     */
+    public void executionFinished(String logRecordId, String executionStatus, Timestamp endDate, long duration) {
+        synchronized (this) {
+            PendingUpdate update = pendingFor(logRecordId);
+            update.finished = true;
+            update.finalExecutionStatus = executionStatus;
+            update.endDate = endDate != null ? endDate : update.endDate;
+            update.duration = duration;
+        }
+        if (endDate != null) {
+            flush(logRecordId);
+        }
+    }
+
+    /**
+     * Appends context variables to pending ones.
+     */
+    public synchronized void contextVariables(String logRecordId, List<ContextVariable> contextVariables) {
+        PendingUpdate update = pendingFor(logRecordId);
+        update.contextVariables = append(update.contextVariables, contextVariables);
+    }
+
+    /**
+     * Appends step context variables to pending ones.
+     */
+    public synchronized void stepContextVariables(String logRecordId, List<ContextVariable> contextVariables) {
+        PendingUpdate update = pendingFor(logRecordId);
+        update.stepContextVariables = append(update.stepContextVariables, contextVariables);
+    }
+
+    /**
+     * Merges testing status, message, request and response update and appends files to pending ones.
+     */
+    public synchronized void fields(String logRecordId, TestingStatuses testingStatus, String message,
+                                    List<FileMetadata> files, Request request, Response response) {
+        PendingUpdate update = pendingFor(logRecordId);
+        update.fieldsChanged = true;
+        update.testingStatus = testingStatus != null ? testingStatus : update.testingStatus;
+        update.message = message != null ? message : update.message;
+        if (files != null) {
+            update.files = append(update.files, files);
+        }
+        update.request = request != null ? request : update.request;
+        update.response = response != null ? response : update.response;
+    }
+
+    /**
+     * Sends pending updates of the log record if there are any.
+     * Waits until updates of the same log record taken by another thread are sent.
+     */
+    public void flush(String logRecordId) {
+        PendingUpdate update;
+        synchronized (this) {
+            boolean interrupted = false;
+            while (sending.contains(logRecordId)) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            update = pending.remove(logRecordId);
+            if (update == null) {
+                return;
+            }
+            sending.add(logRecordId);
+        }
+        try {
+            send(update);
+        } finally {
+            synchronized (this) {
+                sending.remove(logRecordId);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Sends pending updates of all log records in the order they were first updated.
+     */
+    public void flushAll() {
+        List<String> logRecordIds;
+        synchronized (this) {
+            logRecordIds = new ArrayList<>(pending.keySet());
+        }
+        logRecordIds.forEach(this::flush);
+    }
+
+    /**
+     * Sends all pending updates and stops the timer of the queue.
+     */
+    public void close() {
+        flushAll();
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    public long getReceivedUpdates() {
+        return receivedUpdates.get();
+    }
+
+    public long getSentUpdates() {
+        return sentUpdates.get();
+    }
+
+    private PendingUpdate pendingFor(String logRecordId) {
+        receivedUpdates.incrementAndGet();
+        PendingUpdate update = pending.get(logRecordId);
+        if (update == null) {
+            update = new PendingUpdate(logRecordId);
+            pending.put(logRecordId, update);
+            if (scheduler == null) {
+                String threadName = "ram-log-record-updates-" + SCHEDULER_NUMBER.incrementAndGet();
+                scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            scheduler.schedule(() -> flush(logRecordId), windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return update;
+    }
+
+    private static <T> List<T> append(List<T> pendingItems, List<T> items) {
+        List<T> result = pendingItems == null ? new ArrayList<>() : pendingItems;
+        if (items != null) {
+            result.addAll(items);
+        }
+        return result;
+    }
+
+    private void send(PendingUpdate update) {
+        try {
+            sentUpdates.addAndGet(sender.send(update));
+        } catch (Exception e) {
+            log.error("Failed to send pending updates of Log Record {}", update.getLogRecordId(), e);
+        }
+    }
+
+    /**
+     * Sends merged updates of one log record.
+     */
+    public interface Sender {
+
+        /**
+         * Sends the update and returns the number of requests sent.
+         */
+        int send(PendingUpdate update);
+    }
+
+    /**
+     * Updates of one log record merged since the last flush.
+     */
+    @Getter
+    public static class PendingUpdate {
+
+        private final String logRecordId;
+        private boolean started;
+        private String executionStatus;
+        private String name;
+        private Timestamp startDate;
+        private boolean finished;
+        private String finalExecutionStatus;
+        private Timestamp endDate;
+        private long duration;
+        private List<ContextVariable> contextVariables;
+        private List<ContextVariable> stepContextVariables;
+        private boolean fieldsChanged;
+        private TestingStatuses testingStatus;
+        private String message;
+        private List<FileMetadata> files;
+        private Request request;
+        private Response response;
+
+        PendingUpdate(String logRecordId) {
+            this.logRecordId = logRecordId;
+        }
+    }
+}
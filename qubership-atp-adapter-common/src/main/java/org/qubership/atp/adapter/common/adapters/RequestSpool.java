@@ -0,0 +1,464 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import static org.qubership.atp.adapter.common.RamConstants.OBJECT_MAPPER;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.client.HttpResponseException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Strings;
+import org.qubership.atp.adapter.common.RamConstants;
+import org.qubership.atp.adapter.common.utils.Config;
+import org.qubership.atp.adapter.common.utils.RequestUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded on-disk spool of requests which could not be delivered to RAM.
+ * Every spooled request is stored as a separate file, files are named by spooling order.
+ * While the spool is not empty, new requests are spooled as well, so RAM receives all requests in the original order.
+ * Spooled requests are replayed in background one by one; when replay fails, it is retried
+ * with exponential backoff. Requests rejected by RAM with client error, requests which can not be sent
+ * and spooled files which can not be parsed are dropped.
+ * Requests left in the spool directory by previous runs are replayed as well. The directory is locked by the spool,
+ * so requests of one directory are replayed by one process only.
+ */
+@Slf4j
+public class RequestSpool implements Closeable {
+
+    public static final String POST = "POST";
+    public static final String PUT = "PUT";
+    public static final String PATCH = "PATCH";
+
+    private static final String SPOOL_FILE_SUFFIX = ".req";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String LOCK_FILE_NAME = "spool.lock";
+    private static final Map<Path, RequestSpool> spools = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService replayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ram-request-spool-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path directory;
+    private final int maxRequests;
+    private final long maxBytes;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Sender sender;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final ConcurrentSkipListMap<Long, SpooledFile> files = new ConcurrentSkipListMap<>();
+    private final List<Runnable> drainedActions = new ArrayList<>();
+    private final AtomicLong spooledRequests = new AtomicLong();
+    private final AtomicLong replayedRequests = new AtomicLong();
+    private final AtomicLong droppedRequests = new AtomicLong();
+    private long sequence;
+    private long bytes;
+    private long backoffMillis;
+    private boolean replayScheduled;
+    private boolean closed;
+
+    /**
+     * Sends request with JSON body to RAM.
+     */
+    public interface Sender {
+        void send(String method, String url, String body) throws IOException;
+    }
+
+    /**
+     * Creates spool in provided directory and schedules replay of requests found there.
+     *
+     * @throws IOException if the directory can not be created or it is locked by another spool
+     */
+    public RequestSpool(Path directory, int maxRequests, long maxBytes, long initialBackoffMillis,
+                        long maxBackoffMillis, Sender sender) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IOException("Request spool directory " + directory + " is used by another spool");
+        }
+        this.lock = acquired;
+        this.maxRequests = maxRequests;
+        this.maxBytes = maxBytes;
+        this.initialBackoffMillis = Math.max(1L, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+        this.backoffMillis = this.initialBackoffMillis;
+        this.sender = sender;
+        load();
+    }
+
+    /**
+     * Returns spool shared by all adapters for the directory configured by
+     * {@link RamConstants#ATP_RAM_SPOOL_DIR_KEY} or null if spooling is not configured.
+     */
+    public static RequestSpool fromConfig() {
+        Config cfg = Config.getConfig();
+        String directory = cfg.getProperty(RamConstants.ATP_RAM_SPOOL_DIR_KEY);
+        if (Strings.isNullOrEmpty(directory)) {
+            return null;
+        }
+        Path path = Paths.get(directory).toAbsolutePath().normalize();
+        try {
+            return spools.computeIfAbsent(path, key -> {
+                try {
+                    return new RequestSpool(key,
+                            cfg.getIntProperty(RamConstants.ATP_RAM_SPOOL_MAX_REQUESTS_KEY,
+                                    RamConstants.DEFAULT_SPOOL_MAX_REQUESTS),
+                            cfg.getLongProperty(RamConstants.ATP_RAM_SPOOL_MAX_BYTES_KEY,
+                                    RamConstants.DEFAULT_SPOOL_MAX_BYTES),
+                            cfg.getLongProperty(RamConstants.ATP_RAM_SPOOL_BACKOFF_INITIAL_KEY,
+                                    RamConstants.DEFAULT_SPOOL_BACKOFF_INITIAL),
+                            cfg.getLongProperty(RamConstants.ATP_RAM_SPOOL_BACKOFF_MAX_KEY,
+                                    RamConstants.DEFAULT_SPOOL_BACKOFF_MAX),
+                            new RequestUtils()::sendRequest);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.error("Unable to create request spool in {}, failed requests will not be spooled", path,
+                    e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Sends request with provided sender if nothing is spooled. Request is spooled instead if the spool is not empty,
+     * or if sending failed because RAM is not available. Request which can not be spooled while the spool
+     * is not empty is dropped, sending it would overtake the spooled requests.
+     *
+     * @param body request body which is serialized to JSON, null if request has no body
+     * @throws IOException if request was neither sent nor spooled
+     */
+    public void send(String method, String url, Object body, Sender sender) throws IOException {
+        String json = body == null ? null
+                : body instanceof String ? (String) body : OBJECT_MAPPER.writeValueAsString(body);
+        if (!isEmpty()) {
+            if (!offer(method, url, json)) {
+                throw new IOException("Request spool " + directory + " is full, " + method + " request to " + url
+                        + " is dropped");
+            }
+            return;
+        }
+        try {
+            sender.send(method, url, json);
+        } catch (IOException e) {
+            if (!isRetriable(e) || !offer(method, url, json)) {
+                throw e;
+            }
+            log.warn("RAM is not available, {} request to {} is spooled: {}", method, url, e.getMessage());
+        }
+    }
+
+    /**
+     * Puts request to the spool.
+     *
+     * @return false if the spool is full or closed, or the request can not be written
+     */
+    public synchronized boolean offer(String method, String url, String body) {
+        if (closed) {
+            droppedRequests.incrementAndGet();
+            log.error("Request spool {} is closed, {} request to {} is dropped", directory, method, url);
+            return false;
+        }
+        byte[] content = (method + '\n' + url + '\n' + System.currentTimeMillis() + '\n' + Strings.nullToEmpty(body))
+                .getBytes(StandardCharsets.UTF_8);
+        if (files.size() >= maxRequests || bytes + content.length > maxBytes) {
+            droppedRequests.incrementAndGet();
+            log.error("Request spool {} is full ({} requests, {} bytes), {} request to {} is dropped",
+                    directory, files.size(), bytes, method, url);
+            return false;
+        }
+        long number = ++sequence;
+        Path file = directory.resolve(String.format("%019d%s", number, SPOOL_FILE_SUFFIX));
+        Path temporary = directory.resolve(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(content));
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            droppedRequests.incrementAndGet();
+            log.error("Unable to spool {} request to {}", method, url, e);
+            return false;
+        }
+        files.put(number, new SpooledFile(file, content.length, System.currentTimeMillis()));
+        bytes += content.length;
+        spooledRequests.incrementAndGet();
+        scheduleReplay(backoffMillis);
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    /**
+     * Runs the action once all spooled requests are replayed, e.g. to upload attachments of spooled log records.
+     *
+     * @return false if nothing is spooled and the action can be run right away
+     */
+    public synchronized boolean whenDrained(Runnable action) {
+        if (files.isEmpty()) {
+            return false;
+        }
+        drainedActions.add(action);
+        return true;
+    }
+
+    public int getDepth() {
+        return files.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns how long the oldest spooled request waits for replay, 0 if nothing is spooled.
+     */
+    public long getReplayLagMillis() {
+        Map.Entry<Long, SpooledFile> oldest = files.firstEntry();
+        return oldest == null ? 0 : System.currentTimeMillis() - oldest.getValue().spooledAt;
+    }
+
+    public long getSpooledRequests() {
+        return spooledRequests.get();
+    }
+
+    public long getReplayedRequests() {
+        return replayedRequests.get();
+    }
+
+    public long getDroppedRequests() {
+        return droppedRequests.get();
+    }
+
+    /**
+     * Replays spooled requests in order until the spool is empty or RAM is not available.
+     */
+    void replay() {
+        synchronized (this) {
+            replayScheduled = false;
+            if (closed) {
+                return;
+            }
+        }
+        Map.Entry<Long, SpooledFile> head;
+        while (!isClosed() && (head = files.firstEntry()) != null) {
+            SpooledFile file = head.getValue();
+            try {
+                String[] request = read(file.path);
+                sender.send(request[0], request[1], request[2]);
+                replayedRequests.incrementAndGet();
+            } catch (IOException e) {
+                if (isRetriable(e) && Files.exists(file.path)) {
+                    synchronized (this) {
+                        log.warn("Replay of spooled requests failed, {} requests left, next attempt in {} ms: {}",
+                                files.size(), backoffMillis, e.getMessage());
+                        scheduleReplay(backoffMillis);
+                        backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                    }
+                    return;
+                }
+                droppedRequests.incrementAndGet();
+                log.error("Spooled request {} is rejected and dropped", file.path, e);
+            } catch (RuntimeException e) {
+                droppedRequests.incrementAndGet();
+                log.error("Spooled request {} can not be sent and is dropped", file.path, e);
+            }
+            remove(head.getKey(), file);
+        }
+        List<Runnable> actions;
+        synchronized (this) {
+            backoffMillis = initialBackoffMillis;
+            if (closed || !files.isEmpty()) {
+                return;
+            }
+            actions = new ArrayList<>(drainedActions);
+            drainedActions.clear();
+        }
+        log.info("Request spool {} is drained, {} requests replayed", directory, replayedRequests.get());
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.error("Unable to run action held until request spool {} is drained", directory, e);
+            }
+        }
+    }
+
+    /**
+     * Unlocks the spool directory, spooled requests are left there to be replayed by the next spool.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            lock.release();
+        } finally {
+            lockChannel.close();
+        }
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private synchronized void remove(long number, SpooledFile file) {
+        try {
+            Files.deleteIfExists(file.path);
+        } catch (IOException e) {
+            log.warn("Unable to delete replayed request {}", file.path, e);
+        }
+        if (files.remove(number) != null) {
+            bytes -= file.size;
+        }
+    }
+
+    private synchronized void scheduleReplay(long delayMillis) {
+        if (!replayScheduled) {
+            replayScheduled = true;
+            replayer.schedule(this::replay, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void load() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                "*" + SPOOL_FILE_SUFFIX + TEMPORARY_FILE_SUFFIX)) {
+            for (Path file : stream) {
+                log.warn("Delete request {} which was not spooled completely", file);
+                Files.deleteIfExists(file);
+            }
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SPOOL_FILE_SUFFIX)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                long number;
+                try {
+                    number = Long.parseLong(name.substring(0, name.length() - SPOOL_FILE_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                long size = Files.size(file);
+                files.put(number, new SpooledFile(file, size, Files.getLastModifiedTime(file).toMillis()));
+                bytes += size;
+                sequence = Math.max(sequence, number);
+            }
+        }
+        if (!files.isEmpty()) {
+            log.info("Request spool {} contains {} requests of previous runs, they will be replayed",
+                    directory, files.size());
+            scheduleReplay(0);
+        }
+    }
+
+    private static String[] read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String method = reader.readLine();
+            String url = reader.readLine();
+            reader.readLine();//spooled at
+            StringBuilder body = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                body.append(buffer, 0, read);
+            }
+            if (method == null || url == null) {
+                throw new MalformedRequestException("Spooled request " + file + " is incomplete");
+            }
+            return new String[] {method, url, body.length() == 0 ? null : body.toString()};
+        }
+    }
+
+    /**
+     * Connection failures, server errors and throttling are retried, client errors and malformed spool files are not.
+     */
+    static boolean isRetriable(IOException e) {
+        if (e instanceof MalformedRequestException) {
+            return false;
+        }
+        if (e instanceof HttpResponseException) {
+            int status = ((HttpResponseException) e).getStatusCode();
+            return status >= 500 || status == 429;
+        }
+        return !(e instanceof JsonProcessingException);
+    }
+
+    /**
+     * Spooled file can not be parsed, so replaying it again would not help.
+     */
+    static class MalformedRequestException extends IOException {
+        MalformedRequestException(String message) {
+            super(message);
+        }
+    }
+
+    private static class SpooledFile {
+        private final Path path;
+        private final long size;
+        private final long spooledAt;
+
+        private SpooledFile(Path path, long size, long spooledAt) {
+            this.path = path;
+            this.size = size;
+            this.spooledAt = spooledAt;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import org.qubership.atp.crypt.CryptoTools;
+
+/**
+ * Masks encrypted values before they are sent to RAM.
+ * Values without the encrypted value marker are returned as is after a single scan,
+ * so {@link CryptoTools#maskEncryptedData(String)} is only called for values which may contain encrypted data.
+ * Masked values do not contain the marker anymore, so masking the same value again is a plain scan as well.
+ */
+public final class EncryptedDataMasker {
+
+    static final String ENCRYPTED_MARKER = "{ENC}";
+
+    private EncryptedDataMasker() {
+    }
+
+    /**
+     * Returns value with encrypted data masked or the same value if it has no encrypted data marker.
+     */
+    public static String mask(String value) {
+        if (!hasEncryptedMarker(value)) {
+            return value;
+        }
+        return CryptoTools.maskEncryptedData(value);
+    }
+
+    /**
+     * Checks whether value contains the encrypted value marker, ignoring case.
+     */
+    public static boolean hasEncryptedMarker(String value) {
+        if (value == null) {
+            return false;
+        }
+        int last = value.length() - ENCRYPTED_MARKER.length();
+        for (int i = value.indexOf('{'); i >= 0 && i <= last; i = value.indexOf('{', i + 1)) {
+            if (value.regionMatches(true, i, ENCRYPTED_MARKER, 0, ENCRYPTED_MARKER.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
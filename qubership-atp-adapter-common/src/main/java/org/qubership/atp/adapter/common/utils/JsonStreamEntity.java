@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import static org.qubership.atp.adapter.common.RamConstants.OBJECT_MAPPER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * JSON request entity which is written by {@link JsonGenerator} directly to the request stream,
+ * so that request body is neither built as a tree nor serialized to a string before sending.
+ */
+public class JsonStreamEntity extends AbstractHttpEntity {
+
+    private final Body body;
+
+    /**
+     * Writes JSON body into provided generator.
+     */
+    public interface Body {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    public JsonStreamEntity(Body body) {
+        this.body = body;
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Body is written on demand, so content is only materialized here for callers which need the stream.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            body.write(generator);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.atp.adapter.common.RamConstants;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits size of log record messages sent to RAM.
+ * Messages longer than the limit are either truncated or attached to the log record as a file
+ * and replaced with their beginning and a reference to the file.
+ */
+@Slf4j
+public class MessageSizePolicy {
+
+    static final String TRUNCATED_SUFFIX = "\n... [message is truncated, %d of %d characters are shown]";
+    static final String SPILLED_SUFFIX = "\n... [full message of %d characters is attached as file %s]";
+
+    private final Mode mode;
+    private final int limitChars;
+    private final AtomicLong keptMessages = new AtomicLong();
+    private final AtomicLong truncatedMessages = new AtomicLong();
+    private final AtomicLong spilledMessages = new AtomicLong();
+
+    public enum Mode {
+        /**
+         * Messages are sent as is.
+         */
+        NONE,
+        /**
+         * Oversized messages are cut to the limit.
+         */
+        TRUNCATE,
+        /**
+         * Oversized messages are uploaded as log record attachment, the record keeps the beginning of the message.
+         * If the upload is not possible, the message is truncated.
+         */
+        ATTACHMENT
+    }
+
+    /**
+     * Uploads full message as a file of the log record.
+     */
+    public interface Spill {
+        /**
+         * Returns true if the message was uploaded as a file with provided name.
+         */
+        boolean upload(String fileName, String message) throws Exception;
+    }
+
+    public MessageSizePolicy(Mode mode, int limitChars) {
+        this.mode = mode;
+        this.limitChars = limitChars;
+    }
+
+    /**
+     * Creates policy from {@link RamConstants#MESSAGE_SIZE_POLICY_KEY}
+     * and {@link RamConstants#MESSAGE_SIZE_LIMIT_CHARS_KEY} properties.
+     */
+    public static MessageSizePolicy fromConfig(Config cfg) {
+        String mode = cfg.getProperty(RamConstants.MESSAGE_SIZE_POLICY_KEY, Mode.NONE.name());
+        Mode policyMode;
+        try {
+            policyMode = Mode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown message size policy '{}', messages are sent as is", mode);
+            policyMode = Mode.NONE;
+        }
+        return new MessageSizePolicy(policyMode, cfg.getIntProperty(RamConstants.MESSAGE_SIZE_LIMIT_CHARS_KEY,
+                RamConstants.DEFAULT_MESSAGE_SIZE_LIMIT_CHARS));
+    }
+
+    /**
+     * Returns message which fits the limit according to the policy.
+     *
+     * @param logRecordId id of the log record the message belongs to, may be null
+     * @param message message
+     * @param spill uploader of the full message, may be null if the adapter can not upload files
+     * @return message to be sent
+     */
+    public String apply(String logRecordId, String message, Spill spill) {
+        if (mode == Mode.NONE || message == null || message.length() <= limitChars) {
+            if (message != null && mode != Mode.NONE) {
+                keptMessages.incrementAndGet();
+            }
+            return message;
+        }
+        if (mode == Mode.ATTACHMENT && spill != null && logRecordId != null) {
+            String fileName = "message-" + logRecordId + ".txt";
+            try {
+                if (spill.upload(fileName, message)) {
+                    spilledMessages.incrementAndGet();
+                    return head(message) + String.format(SPILLED_SUFFIX, message.length(), fileName);
+                }
+            } catch (Exception e) {
+                log.warn("Unable to attach message of LR {} as file, message will be truncated", logRecordId, e);
+            }
+        }
+        truncatedMessages.incrementAndGet();
+        String head = head(message);
+        return head + String.format(TRUNCATED_SUFFIX, head.length(), message.length());
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public long getKeptMessages() {
+        return keptMessages.get();
+    }
+
+    public long getTruncatedMessages() {
+        return truncatedMessages.get();
+    }
+
+    public long getSpilledMessages() {
+        return spilledMessages.get();
+    }
+
+    private String head(String message) {
+        int end = limitChars;
+        if (end > 0 && Character.isHighSurrogate(message.charAt(end - 1))) {
+            end--;
+        }
+        return message.substring(0, end);
+    }
+}
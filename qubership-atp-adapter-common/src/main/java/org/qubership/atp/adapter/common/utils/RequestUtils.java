@@ -240,6 +240,35 @@ public class RequestUtils {
         return null;
     }
 
+    /**
+     * Sending request with JSON body by provided HTTP method to the specified url, response body is ignored.
+     *
+     * @param method  POST, PUT or PATCH
+     * @param url     request url
+     * @param request JSON body, provide null if request has no body
+     * @throws IOException in case of response status >= 300.
+     */
+    public void sendRequest(String method, String url, String request) throws IOException {
+        Request httpRequest;
+        switch (method) {
+            case "POST":
+                httpRequest = Request.Post(url);
+                break;
+            case "PUT":
+                httpRequest = Request.Put(url);
+                break;
+            case "PATCH":
+                httpRequest = Request.Patch(url);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported request method " + method);
+        }
+        if (request != null) {
+            httpRequest.bodyString(request, ContentType.APPLICATION_JSON);
+        }
+        getHttpExecutor().execute(httpRequest).returnContent();
+    }
+
     /**
      * Sending request to the specified url and returns result as String.
      *
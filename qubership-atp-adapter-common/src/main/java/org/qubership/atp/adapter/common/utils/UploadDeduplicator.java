@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Strings;
+import org.qubership.atp.adapter.common.entities.UploadScreenshotResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers uploaded attachments by content hash within one test run, so that identical content
+ * is resolved to the already uploaded file instead of being sent again.
+ */
+@Slf4j
+public class UploadDeduplicator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Map<String, UploadScreenshotResponse> uploadedByHash = new ConcurrentHashMap<>();
+    private final AtomicLong deduplicatedBytes = new AtomicLong();
+    private final AtomicLong deduplicatedFiles = new AtomicLong();
+    private volatile String testRunId;
+
+    /**
+     * Returns upload response remembered for the content in provided test run or null.
+     * Switching to another test run forgets everything remembered for the previous one.
+     */
+    public UploadScreenshotResponse find(String testRunId, String contentType, byte[] content) {
+        resetIfRunChanged(testRunId);
+        UploadScreenshotResponse response = uploadedByHash.get(key(contentType, content));
+        if (response != null) {
+            deduplicatedBytes.addAndGet(content.length);
+            deduplicatedFiles.incrementAndGet();
+        }
+        return response;
+    }
+
+    /**
+     * Remembers successful upload of the content in provided test run.
+     */
+    public void remember(String testRunId, String contentType, byte[] content, UploadScreenshotResponse response) {
+        if (response == null || Strings.isNullOrEmpty(response.getFileId())) {
+            return;
+        }
+        resetIfRunChanged(testRunId);
+        uploadedByHash.putIfAbsent(key(contentType, content), response);
+    }
+
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes.get();
+    }
+
+    public long getDeduplicatedFiles() {
+        return deduplicatedFiles.get();
+    }
+
+    /**
+     * Logs counters of the stopped test run and forgets everything remembered for it.
+     */
+    public synchronized void finish(String testRunId) {
+        if (testRunId != null && testRunId.equals(this.testRunId)) {
+            reset(null);
+        }
+    }
+
+    private synchronized void resetIfRunChanged(String testRunId) {
+        if (!Objects.equals(this.testRunId, testRunId)) {
+            reset(testRunId);
+        }
+    }
+
+    private void reset(String testRunId) {
+        if (this.testRunId != null) {
+            log.info("Test run {}: {} duplicated attachment(s), {} bytes were not uploaded again",
+                    this.testRunId, deduplicatedFiles.get(), deduplicatedBytes.get());
+        }
+        uploadedByHash.clear();
+        deduplicatedBytes.set(0);
+        deduplicatedFiles.set(0);
+        this.testRunId = testRunId;
+    }
+
+    private static String key(String contentType, byte[] content) {
+        return Strings.nullToEmpty(contentType) + ':' + sha256(content);
+    }
+
+    static String sha256(byte[] content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        byte[] hash = digest.digest(content);
+        char[] result = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            result[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            result[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(result);
+    }
+}
@@ -704,4 +704,33 @@ public class AbstractAdapterTest {
         assertTrue("Result String with URL doesnt contain correct fileName param",
                 result.contains("fileName=screenshotNameKey+withSpaceCharacter&"));
     }
+
+    @Test
+    public void openCompoundSection_sameCompoundReopened_convertedSectionIsReusedWithStateReset() {
+        String compoundId = UUID.randomUUID().toString();
+        Message compound = new Message(compoundId, "", "Step", "", TestingStatuses.UNKNOWN.toString(),
+                TypeAction.TECHNICAL.name(), false);
+
+        abstractAdapter.openCompoundSection(compound, true);
+        LogRecord opened = abstractAdapter.getContext().getCurrentSection();
+        opened.setTestingStatus(TestingStatuses.FAILED);
+        opened.setMessage("changed while opened");
+        abstractAdapter.getContext().removeSection();
+
+        abstractAdapter.openCompoundSection(new Message(compoundId, "", "Step", "",
+                TestingStatuses.UNKNOWN.toString(), TypeAction.TECHNICAL.name(), false), true);
+        LogRecord reopened = abstractAdapter.getContext().getCurrentSection();
+        abstractAdapter.getContext().removeSection();
+
+        assertTrue(opened == reopened);
+        assertEquals(TestingStatuses.UNKNOWN, reopened.getTestingStatus());
+        assertEquals("", reopened.getMessage());
+
+        abstractAdapter.openCompoundSection(new Message(compoundId, "", "Step", "",
+                TestingStatuses.FAILED.toString(), TypeAction.TECHNICAL.name(), false), true);
+        LogRecord changed = abstractAdapter.getContext().getCurrentSection();
+
+        assertFalse(opened == changed);
+        assertEquals(TestingStatuses.FAILED, changed.getTestingStatus());
+    }
 }
@@ -16,20 +16,41 @@
 
 package org.qubership.atp.adapter.common.adapters;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
 import org.qubership.atp.adapter.common.AtpRamAdapter;
+import org.qubership.atp.adapter.common.RamConstants;
 import org.qubership.atp.adapter.common.adapters.providers.RamAdapterProvider;
 import org.qubership.atp.adapter.common.context.AtpCompaund;
 import org.qubership.atp.adapter.common.context.TestRunContext;
 import org.qubership.atp.adapter.common.context.TestRunContextHolder;
 import org.qubership.atp.adapter.common.entities.Message;
+import org.qubership.atp.adapter.common.entities.UploadScreenshotResponse;
 import org.qubership.atp.adapter.common.utils.Config;
 import org.qubership.atp.adapter.common.utils.ExecutionRequestHelper;
 import org.qubership.atp.adapter.common.ws.StartRunRequest;
 import org.qubership.atp.ram.models.MetaInfo;
+import org.qubership.atp.ram.models.logrecords.UiLogRecord;
+import org.qubership.atp.ram.models.logrecords.parts.Request;
+import org.qubership.atp.ram.models.logrecords.parts.Response;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
@@ -37,7 +58,11 @@ import net.sf.json.JSONObject;
 
 public class AtpStandaloneRamAdapterTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private AtpRamAdapter adapter;
+    private final List<AtpStandaloneRamAdapter> journalAdapters = new ArrayList<>();
 
     private AtpRamAdapter initAdapter() {
         Config.getConfig().setProperty("ram.adapter.type", "standalone");
@@ -48,6 +73,114 @@ public class AtpStandaloneRamAdapterTest {
         return this.adapter;
     }
 
+    @After
+    public void tearDown() {
+        journalAdapters.forEach(AtpStandaloneRamAdapter::close);
+        Config.getConfig().setProperty(RamConstants.ATP_RAM_STANDALONE_JOURNAL_PATH_KEY, "");
+    }
+
+    private AtpStandaloneRamAdapter createJournalAdapter(Path journal) {
+        Config.getConfig().setProperty(RamConstants.ATP_RAM_STANDALONE_JOURNAL_PATH_KEY, journal.toString());
+        AtpStandaloneRamAdapter journalAdapter = new AtpStandaloneRamAdapter(new TestRunContext());
+        journalAdapters.add(journalAdapter);
+        return journalAdapter;
+    }
+
+    @Test
+    public void uploadFileForLogRecord_journalMode_fileIsStoredAndUploadedOnReplay() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("run.ndjson");
+        AtpStandaloneRamAdapter standalone = createJournalAdapter(journal);
+        standalone.uploadFileForLogRecord("lr", new ByteArrayInputStream("<html/>".getBytes(StandardCharsets.UTF_8)),
+                "page.html");
+        standalone.close();
+        AbstractAdapter target = Mockito.mock(AbstractAdapter.class);
+
+        new LogRecordJournalReplayer(target).replay(journal);
+
+        ArgumentCaptor<Map> attribute = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(target).uploadFile(attribute.capture(), message.capture());
+        Assert.assertEquals("lr", message.getValue().getUuid());
+        Assert.assertEquals("page.html", attribute.getValue().get(RamConstants.SCREENSHOT_NAME_KEY));
+        Assert.assertEquals("text/html", attribute.getValue().get(RamConstants.SCREENSHOT_TYPE_KEY));
+        File file = (File) attribute.getValue().get(RamConstants.SCREENSHOT_FILE_KEY);
+        Assert.assertEquals("<html/>", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void uploadFile_journalModeScreenshot_replayedLogRecordRefersToUploadedFile() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("run.ndjson");
+        AtpStandaloneRamAdapter standalone = createJournalAdapter(journal);
+        UUID logRecordId = UUID.randomUUID();
+        Message message = new Message();
+        message.setUuid(logRecordId.toString());
+        Map<String, Object> attribute = new HashMap<>();
+        attribute.put(RamConstants.SCREENSHOT_NAME_KEY, "screen.png");
+        attribute.put(RamConstants.SCREENSHOT_TYPE_KEY, RamConstants.CONTENT_TYPE);
+        attribute.put(RamConstants.ATTACHMENT_STREAM_KEY, new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        String journaledFileId = standalone.uploadFile(attribute, message).getFileId();
+        UiLogRecord logRecord = new UiLogRecord();
+        logRecord.setUuid(logRecordId);
+        logRecord.setScreenId(journaledFileId);
+        standalone.sendUiLogRecord(logRecord);
+        standalone.close();
+        AbstractAdapter target = Mockito.mock(AbstractAdapter.class);
+        Mockito.when(target.uploadFile(Mockito.anyMap(), Mockito.any(Message.class)))
+                .thenReturn(new UploadScreenshotResponse("ramFileId", null));
+
+        new LogRecordJournalReplayer(target).replay(journal);
+
+        Assert.assertNotNull(journaledFileId);
+        ArgumentCaptor<UiLogRecord> sent = ArgumentCaptor.forClass(UiLogRecord.class);
+        Mockito.verify(target).sendUiLogRecord(sent.capture());
+        Assert.assertEquals("ramFileId", sent.getValue().getScreenId());
+    }
+
+    @Test
+    public void updateMessageTestingStatusRequestAndResponse_journalMode_updateIsReplayed() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("run.ndjson");
+        AtpStandaloneRamAdapter standalone = createJournalAdapter(journal);
+        Request request = new Request();
+        request.setBody("ping");
+        Response response = new Response();
+        response.setBody("pong");
+        standalone.updateMessageTestingStatusRequestAndResponse("lr", "called", "PASSED", request, response);
+        standalone.close();
+        AbstractAdapter target = Mockito.mock(AbstractAdapter.class);
+
+        new LogRecordJournalReplayer(target).replay(journal);
+
+        ArgumentCaptor<Request> replayedRequest = ArgumentCaptor.forClass(Request.class);
+        ArgumentCaptor<Response> replayedResponse = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(target).updateMessageTestingStatusRequestAndResponse(Mockito.eq("lr"), Mockito.eq("called"),
+                Mockito.eq("PASSED"), replayedRequest.capture(), replayedResponse.capture());
+        Assert.assertEquals("ping", replayedRequest.getValue().getBody());
+        Assert.assertEquals("pong", replayedResponse.getValue().getBody());
+    }
+
+    @Test
+    public void close_adaptersShareJournal_journalIsClosedByLastAdapter() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("run.ndjson");
+        AtpStandaloneRamAdapter first = createJournalAdapter(journal);
+        AtpStandaloneRamAdapter second = createJournalAdapter(journal);
+        Assert.assertSame(first.getJournal(), second.getJournal());
+
+        first.close();
+        first.close();
+        second.updateTestingStatus("lr", "PASSED");
+        Assert.assertEquals(1, second.getJournal().getAppendedLines());
+        second.close();
+
+        try {
+            second.getJournal().append(LogRecordJournal.TESTING_STATUS_EVENT, null);
+            Assert.fail("Journal is not closed");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("closed"));
+        }
+        AtpStandaloneRamAdapter reopened = createJournalAdapter(journal);
+        Assert.assertNotSame(second.getJournal(), reopened.getJournal());
+    }
+
     //Input params
     String projectName = "Project";
     String testPlanName = "Test Plan";
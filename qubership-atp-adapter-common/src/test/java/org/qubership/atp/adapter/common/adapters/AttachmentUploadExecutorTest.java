@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import java.net.ConnectException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AttachmentUploadExecutorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private volatile boolean available;
+
+    @Test
+    public void await_uploadsOfTestRun_waitsUntilAllAreFinished() {
+        AttachmentUploadExecutor executor = new AttachmentUploadExecutor(2, 10);
+        AtomicInteger uploaded = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            executor.submit("run", httpExecutor -> {
+                Thread.sleep(20);
+                uploaded.incrementAndGet();
+            });
+        }
+
+        Assert.assertTrue(executor.await("run", 10000));
+        Assert.assertEquals(5, uploaded.get());
+        Assert.assertEquals(5, executor.getCompletedUploads());
+        Assert.assertTrue(executor.await("otherRun", 0));
+    }
+
+    @Test
+    public void await_uploadNotFinishedInTime_returnsFalseAndCountsFailure() throws InterruptedException {
+        AttachmentUploadExecutor executor = new AttachmentUploadExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit("run", httpExecutor -> {
+            release.await(10, TimeUnit.SECONDS);
+            throw new IllegalStateException("upload failed");
+        });
+
+        Assert.assertFalse(executor.await("run", 50));
+        release.countDown();
+        Assert.assertTrue(executor.await("run", 10000));
+        Assert.assertEquals(1, executor.getFailedUploads());
+    }
+
+    @Test
+    public void submit_poolAndQueueAreFull_uploadRunsInSubmittingThread() throws InterruptedException {
+        AttachmentUploadExecutor executor = new AttachmentUploadExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread submitter = Thread.currentThread();
+        AtomicInteger uploadsInSubmitter = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            executor.submit("run", httpExecutor -> {
+                if (Thread.currentThread() == submitter) {
+                    uploadsInSubmitter.incrementAndGet();
+                } else {
+                    release.await(10, TimeUnit.SECONDS);
+                }
+            });
+        }
+        release.countDown();
+
+        Assert.assertTrue(executor.await("run", 10000));
+        Assert.assertEquals(1, uploadsInSubmitter.get());
+    }
+
+    @Test
+    public void submit_requestsAreSpooled_uploadIsHeldUntilSpoolIsDrained() throws Exception {
+        AttachmentUploadExecutor executor = new AttachmentUploadExecutor(1, 1);
+        RequestSpool.Sender sender = (method, url, body) -> {
+            if (!available) {
+                throw new ConnectException("Connection refused");
+            }
+        };
+        RequestSpool spool = new RequestSpool(folder.getRoot().toPath(), 10, 1024, 60000L, 60000L, sender);
+        spool.send(RequestSpool.POST, "url", "{}", sender);
+        AtomicInteger uploaded = new AtomicInteger();
+
+        executor.submit("run", spool, httpExecutor -> uploaded.incrementAndGet());
+
+        Assert.assertFalse(executor.await("run", 50));
+        Assert.assertEquals(0, uploaded.get());
+        Assert.assertEquals(1, executor.getHeldUploads());
+        available = true;
+        spool.replay();
+        Assert.assertTrue(executor.await("run", 10000));
+        Assert.assertEquals(1, uploaded.get());
+    }
+}
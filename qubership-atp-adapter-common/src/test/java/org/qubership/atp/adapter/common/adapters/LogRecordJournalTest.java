@@ -0,0 +1,165 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import static org.qubership.atp.adapter.common.RamConstants.OBJECT_MAPPER;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import org.qubership.atp.adapter.common.context.TestRunContext;
+import org.qubership.atp.adapter.common.ws.StartRunRequest;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.logrecords.RestLogRecord;
+
+public class LogRecordJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void read_appendedEvents_areReadInOrderWithLogRecordClass() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("journal/run.ndjson");
+        RestLogRecord logRecord = new RestLogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setName("rest call");
+
+        try (LogRecordJournal journal = new LogRecordJournal(path, 100, 60000L)) {
+            journal.appendLogRecord(logRecord);
+            journal.append(LogRecordJournal.TESTING_STATUS_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.LOG_RECORD_ID_KEY, "id")
+                    .put(LogRecordJournal.STATUS_KEY, "PASSED"));
+            Assert.assertEquals(2, journal.getAppendedLines());
+        }
+        List<LogRecordJournal.Entry> entries = new ArrayList<>();
+
+        long read = LogRecordJournal.read(path, entries::add);
+
+        Assert.assertEquals(2, read);
+        LogRecord restored = entries.get(0).getLogRecord();
+        Assert.assertTrue(restored instanceof RestLogRecord);
+        Assert.assertEquals(logRecord.getUuid(), restored.getUuid());
+        Assert.assertEquals("rest call", restored.getName());
+        Assert.assertEquals(LogRecordJournal.TESTING_STATUS_EVENT, entries.get(1).getEvent());
+        Assert.assertEquals("PASSED", entries.get(1).getText(LogRecordJournal.STATUS_KEY));
+    }
+
+    @Test
+    public void read_unfinishedLastLine_isSkipped() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("run.ndjson");
+        try (LogRecordJournal journal = new LogRecordJournal(path, 1, 0L)) {
+            journal.append(LogRecordJournal.IS_GROUP_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.LOG_RECORD_ID_KEY, "id")
+                    .put(LogRecordJournal.IS_GROUP_KEY, true));
+        }
+        Files.write(path, "{\"event\":\"logRec".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        Assert.assertEquals(1, LogRecordJournal.read(path, entry -> { }));
+    }
+
+    @Test
+    public void replay_journal_sendsEventsToTargetAdapter() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("run.ndjson");
+        RestLogRecord logRecord = new RestLogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        try (LogRecordJournal journal = new LogRecordJournal(path, 100, 60000L)) {
+            journal.appendLogRecord(logRecord);
+            journal.append(LogRecordJournal.EXECUTION_STATUS_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.LOG_RECORD_ID_KEY, "id")
+                    .put(LogRecordJournal.EXECUTION_STATUS_KEY, "FINISHED")
+                    .put(LogRecordJournal.END_DATE_KEY, 2000L)
+                    .put(LogRecordJournal.DURATION_KEY, 5L));
+        }
+        AbstractAdapter target = Mockito.mock(AbstractAdapter.class);
+
+        long replayed = new LogRecordJournalReplayer(target).replay(path);
+
+        Assert.assertEquals(2, replayed);
+        ArgumentCaptor<RestLogRecord> sent = ArgumentCaptor.forClass(RestLogRecord.class);
+        Mockito.verify(target).sendRestLogRecord(sent.capture());
+        Assert.assertEquals(logRecord.getUuid(), sent.getValue().getUuid());
+        Mockito.verify(target).updateExecutionStatus("id", "FINISHED", new Timestamp(2000L), 5L);
+    }
+
+    @Test
+    public void append_syncIntervalElapsed_linesAreSyncedByTimer() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("run.ndjson");
+        try (LogRecordJournal journal = new LogRecordJournal(path, 100, 200L)) {
+            journal.append(LogRecordJournal.TESTING_STATUS_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.LOG_RECORD_ID_KEY, "first"));
+            journal.append(LogRecordJournal.TESTING_STATUS_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.LOG_RECORD_ID_KEY, "second"));
+
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (LogRecordJournal.read(path, entry -> { }) < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50L);
+            }
+
+            Assert.assertEquals(2, LogRecordJournal.read(path, entry -> { }));
+        }
+    }
+
+    @Test
+    public void replay_testRunStartAndStop_startsTestRunInTargetAndMovesLogRecordsToIt() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("run.ndjson");
+        String journaledTestRunId = UUID.randomUUID().toString();
+        String replayedTestRunId = UUID.randomUUID().toString();
+        StartRunRequest request = StartRunRequest.getRequestBuilder()
+                .setProjectName("project")
+                .setTestPlanName("test plan")
+                .build();
+        RestLogRecord logRecord = new RestLogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setTestRunId(UUID.fromString(journaledTestRunId));
+        try (LogRecordJournal journal = new LogRecordJournal(path, 100, 60000L)) {
+            journal.append(LogRecordJournal.TEST_RUN_START_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.TEST_RUN_ID_KEY, journaledTestRunId)
+                    .set(LogRecordJournal.REQUEST_KEY, OBJECT_MAPPER.valueToTree(request)));
+            journal.appendLogRecord(logRecord);
+            journal.append(LogRecordJournal.TEST_RUN_STOP_EVENT, OBJECT_MAPPER.createObjectNode()
+                    .put(LogRecordJournal.TEST_RUN_ID_KEY, journaledTestRunId));
+        }
+        AbstractAdapter target = Mockito.mock(AbstractAdapter.class);
+        TestRunContext replayedContext = new TestRunContext();
+        replayedContext.setTestRunId(replayedTestRunId);
+        Mockito.when(target.startAtpRun(Mockito.any(StartRunRequest.class), Mockito.any(TestRunContext.class)))
+                .thenReturn(replayedContext);
+
+        new LogRecordJournalReplayer(target).replay(path);
+
+        ArgumentCaptor<StartRunRequest> started = ArgumentCaptor.forClass(StartRunRequest.class);
+        Mockito.verify(target).startAtpRun(started.capture(), Mockito.any(TestRunContext.class));
+        Assert.assertEquals("project", started.getValue().getProjectName());
+        ArgumentCaptor<RestLogRecord> sent = ArgumentCaptor.forClass(RestLogRecord.class);
+        Mockito.verify(target).sendRestLogRecord(sent.capture());
+        Assert.assertEquals(UUID.fromString(replayedTestRunId), sent.getValue().getTestRunId());
+        Mockito.verify(target).stopAtpRun(replayedTestRunId);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.FileMetadata;
+
+public class LogRecordUpdateQueueTest {
+
+    private final List<LogRecordUpdateQueue.PendingUpdate> sent = Collections.synchronizedList(new ArrayList<>());
+
+    private int record(LogRecordUpdateQueue.PendingUpdate update) {
+        sent.add(update);
+        return 1;
+    }
+
+    @Test
+    public void executionFinished_withEndDate_flushesMergedUpdateOfLogRecord() {
+        LogRecordUpdateQueue queue = new LogRecordUpdateQueue(60000, this::record);
+        Timestamp startDate = new Timestamp(1000);
+        Timestamp endDate = new Timestamp(3000);
+
+        queue.executionStarted("lr", "In progress", "step", startDate);
+        queue.fields("lr", TestingStatuses.PASSED, "first", null, null, null);
+        queue.fields("lr", null, "second", null, null, null);
+        Assert.assertTrue(sent.isEmpty());
+        queue.executionFinished("lr", "Finished", endDate, 2000);
+
+        Assert.assertEquals(1, sent.size());
+        LogRecordUpdateQueue.PendingUpdate update = sent.get(0);
+        Assert.assertTrue(update.isStarted());
+        Assert.assertEquals("In progress", update.getExecutionStatus());
+        Assert.assertEquals("step", update.getName());
+        Assert.assertTrue(update.isFinished());
+        Assert.assertEquals("Finished", update.getFinalExecutionStatus());
+        Assert.assertEquals(startDate, update.getStartDate());
+        Assert.assertEquals(endDate, update.getEndDate());
+        Assert.assertEquals(2000, update.getDuration());
+        Assert.assertEquals(TestingStatuses.PASSED, update.getTestingStatus());
+        Assert.assertEquals("second", update.getMessage());
+        Assert.assertEquals(4, queue.getReceivedUpdates());
+        Assert.assertEquals(1, queue.getSentUpdates());
+    }
+
+    @Test
+    public void flushAll_contextVariables_areAppendedPerLogRecordInFirstUpdateOrder() {
+        LogRecordUpdateQueue queue = new LogRecordUpdateQueue(60000, this::record);
+        ContextVariable first = new ContextVariable();
+        ContextVariable second = new ContextVariable();
+
+        queue.contextVariables("lr2", Collections.singletonList(first));
+        queue.stepContextVariables("lr1", Collections.singletonList(first));
+        queue.contextVariables("lr2", Collections.singletonList(second));
+        queue.flushAll();
+
+        Assert.assertEquals(2, sent.size());
+        Assert.assertEquals("lr2", sent.get(0).getLogRecordId());
+        Assert.assertEquals(Arrays.asList(first, second), sent.get(0).getContextVariables());
+        Assert.assertNull(sent.get(0).getStepContextVariables());
+        Assert.assertFalse(sent.get(0).isStarted());
+        Assert.assertFalse(sent.get(0).isFinished());
+        Assert.assertEquals("lr1", sent.get(1).getLogRecordId());
+    }
+
+    @Test
+    public void fields_files_areAppendedToPendingOnes() {
+        LogRecordUpdateQueue queue = new LogRecordUpdateQueue(60000, this::record);
+        FileMetadata first = new FileMetadata();
+        FileMetadata second = new FileMetadata();
+
+        queue.fields("lr", null, "message", Collections.singletonList(first), null, null);
+        queue.fields("lr", null, null, null, null, null);
+        queue.fields("lr", null, null, Collections.singletonList(second), null, null);
+        queue.flush("lr");
+
+        Assert.assertEquals(Arrays.asList(first, second), sent.get(0).getFiles());
+        Assert.assertEquals("message", sent.get(0).getMessage());
+    }
+
+    @Test(timeout = 10000)
+    public void flush_otherLogRecordIsBeingSent_doesNotWaitForIt() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LogRecordUpdateQueue queue = new LogRecordUpdateQueue(60000, update -> {
+            if ("slow".equals(update.getLogRecordId())) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return record(update);
+        });
+        queue.fields("slow", TestingStatuses.PASSED, null, null, null, null);
+        queue.fields("fast", TestingStatuses.PASSED, null, null, null, null);
+        Thread slow = new Thread(() -> queue.flush("slow"));
+        slow.start();
+        sending.await();
+
+        queue.flush("fast");
+
+        Assert.assertEquals(1, sent.size());
+        Assert.assertEquals("fast", sent.get(0).getLogRecordId());
+        release.countDown();
+        slow.join();
+        Assert.assertEquals(2, sent.size());
+    }
+
+    @Test
+    public void fields_windowElapsed_updateIsSent() throws InterruptedException {
+        LogRecordUpdateQueue queue = new LogRecordUpdateQueue(10, this::record);
+
+        queue.fields("lr", TestingStatuses.FAILED, null, null, null, null);
+        for (int i = 0; i < 200 && sent.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        Assert.assertEquals(1, sent.size());
+        Assert.assertTrue(sent.get(0).isFieldsChanged());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.adapters;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.client.HttpResponseException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RequestSpoolTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean available;
+
+    @Test
+    public void send_ramNotAvailable_requestIsSpooledAndFollowingRequestsKeepOrder() throws Exception {
+        RequestSpool spool = createSpool(folder.getRoot().toPath(), 10, 1024);
+
+        spool.send(RequestSpool.POST, "url/1", Collections.singletonMap("id", 1), this::send);
+        available = true;
+        spool.send(RequestSpool.PUT, "url/2", null, this::send);
+
+        Assert.assertTrue(sent.isEmpty());
+        Assert.assertEquals(2, spool.getDepth());
+        Assert.assertEquals(2, spool.getSpooledRequests());
+        Assert.assertTrue(spool.getBytes() > 0);
+    }
+
+    @Test
+    public void replay_ramAvailableAgain_sendsSpooledRequestsInOrder() throws Exception {
+        RequestSpool spool = createSpool(folder.getRoot().toPath(), 10, 1024);
+        spool.send(RequestSpool.POST, "url/1", Collections.singletonMap("id", 1), this::send);
+        spool.send(RequestSpool.PATCH, "url/2", "[]", this::send);
+
+        spool.replay();
+        Assert.assertEquals(2, spool.getDepth());
+        available = true;
+        spool.replay();
+
+        Assert.assertEquals(2, sent.size());
+        Assert.assertEquals("POST url/1 {\"id\":1}", sent.get(0));
+        Assert.assertEquals("PATCH url/2 []", sent.get(1));
+        Assert.assertTrue(spool.isEmpty());
+        Assert.assertEquals(0, spool.getBytes());
+        Assert.assertEquals(0, spool.getReplayLagMillis());
+        Assert.assertEquals(2, spool.getReplayedRequests());
+    }
+
+    @Test
+    public void create_spoolOfPreviousRun_replaysItsRequests() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (RequestSpool previous = createSpool(directory, 10, 1024)) {
+            previous.send(RequestSpool.PUT, "url", null, this::send);
+        }
+        available = true;
+
+        RequestSpool spool = createSpool(directory, 10, 1024);
+        for (int i = 0; i < 100 && !spool.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+
+        Assert.assertTrue(spool.isEmpty());
+        Assert.assertEquals(Collections.singletonList("PUT url null"), sent);
+    }
+
+    @Test
+    public void send_spoolIsFull_requestIsDroppedAndErrorIsThrown() throws Exception {
+        RequestSpool spool = createSpool(folder.getRoot().toPath(), 1, 1024);
+        spool.send(RequestSpool.POST, "url/1", "{}", this::send);
+        available = true;
+
+        try {
+            spool.send(RequestSpool.POST, "url/2", "{}", this::send);
+            Assert.fail("Request is neither sent nor spooled");
+        } catch (IOException expected) {
+            Assert.assertTrue(sent.isEmpty());
+            Assert.assertEquals(1, spool.getDepth());
+            Assert.assertEquals(1, spool.getDroppedRequests());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void create_directoryIsUsedByAnotherSpool_errorIsThrown() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        createSpool(directory, 10, 1024);
+
+        createSpool(directory, 10, 1024);
+    }
+
+    @Test
+    public void whenDrained_requestsAreSpooled_actionRunsAfterReplay() throws Exception {
+        RequestSpool spool = createSpool(folder.getRoot().toPath(), 10, 1024);
+        AtomicInteger actions = new AtomicInteger();
+        Assert.assertFalse(spool.whenDrained(actions::incrementAndGet));
+        spool.send(RequestSpool.POST, "url", "{}", this::send);
+
+        Assert.assertTrue(spool.whenDrained(actions::incrementAndGet));
+        spool.replay();
+        Assert.assertEquals(0, actions.get());
+        available = true;
+        spool.replay();
+
+        Assert.assertEquals(1, actions.get());
+        Assert.assertEquals(Collections.singletonList("POST url {}"), sent);
+    }
+
+    @Test(expected = HttpResponseException.class)
+    public void send_clientError_requestIsNotSpooled() throws Exception {
+        RequestSpool spool = createSpool(folder.getRoot().toPath(), 10, 1024);
+
+        try {
+            spool.send(RequestSpool.POST, "url", "{}", (method, url, body) -> {
+                throw new HttpResponseException(400, "Bad Request");
+            });
+        } finally {
+            Assert.assertTrue(spool.isEmpty());
+        }
+    }
+
+    @Test
+    public void replay_headFileIsCorrupt_fileIsDroppedAndFollowingRequestsAreReplayed() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        RequestSpool spool = createSpool(directory, 10, 1024);
+        spool.send(RequestSpool.POST, "url/1", "{}", this::send);
+        spool.send(RequestSpool.POST, "url/2", "{}", this::send);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*1.req")) {
+            for (Path file : files) {
+                Files.write(file, new byte[0]);
+            }
+        }
+        available = true;
+
+        spool.replay();
+
+        Assert.assertEquals(Collections.singletonList("POST url/2 {}"), sent);
+        Assert.assertTrue(spool.isEmpty());
+        Assert.assertEquals(1, spool.getDroppedRequests());
+        Assert.assertEquals(1, spool.getReplayedRequests());
+    }
+
+    @Test
+    public void replay_senderThrowsRuntimeException_requestIsDroppedAndReplayContinues() throws Exception {
+        RequestSpool spool = createSpool(folder.getRoot().toPath(), 10, 1024);
+        spool.send(RequestSpool.POST, "url/invalid", "{}", this::send);
+        spool.send(RequestSpool.POST, "url/2", "{}", this::send);
+        available = true;
+
+        spool.replay();
+
+        Assert.assertEquals(Collections.singletonList("POST url/2 {}"), sent);
+        Assert.assertTrue(spool.isEmpty());
+        Assert.assertEquals(1, spool.getDroppedRequests());
+    }
+
+    @Test
+    public void create_temporaryFileOfPreviousRun_isDeleted() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        Path temporary = Files.write(directory.resolve("0000000000000000001.req.tmp"), new byte[] {1});
+
+        RequestSpool spool = createSpool(directory, 10, 1024);
+
+        Assert.assertFalse(Files.exists(temporary));
+        Assert.assertTrue(spool.isEmpty());
+    }
+
+    private RequestSpool createSpool(Path directory, int maxRequests, long maxBytes) throws IOException {
+        return new RequestSpool(directory, maxRequests, maxBytes, 60000L, 60000L, this::send);
+    }
+
+    private void send(String method, String url, String body) throws IOException {
+        if (!available) {
+            throw new ConnectException("Connection refused");
+        }
+        if (url.endsWith("/invalid")) {
+            throw new IllegalArgumentException("Invalid URL " + url);
+        }
+        sent.add(method + " " + url + " " + body);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EncryptedDataMaskerTest {
+
+    @Test
+    public void hasEncryptedMarker_markerAnywhereInAnyCase_returnsTrue() {
+        Assert.assertTrue(EncryptedDataMasker.hasEncryptedMarker("{ENC}{a}{b}"));
+        Assert.assertTrue(EncryptedDataMasker.hasEncryptedMarker("password: {{enc}{a}{b}"));
+        Assert.assertTrue(EncryptedDataMasker.hasEncryptedMarker("value {Enc}"));
+    }
+
+    @Test
+    public void hasEncryptedMarker_noMarker_returnsFalse() {
+        Assert.assertFalse(EncryptedDataMasker.hasEncryptedMarker(null));
+        Assert.assertFalse(EncryptedDataMasker.hasEncryptedMarker(""));
+        Assert.assertFalse(EncryptedDataMasker.hasEncryptedMarker("{\"key\": \"{EN\"}"));
+        Assert.assertFalse(EncryptedDataMasker.hasEncryptedMarker("{ENC"));
+    }
+
+    @Test
+    public void mask_largeBodyWithoutMarker_returnsSameValue() {
+        char[] body = new char[1024 * 1024];
+        Arrays.fill(body, '{');
+        String value = new String(body);
+
+        Assert.assertSame(value, EncryptedDataMasker.mask(value));
+        Assert.assertNull(EncryptedDataMasker.mask(null));
+    }
+}
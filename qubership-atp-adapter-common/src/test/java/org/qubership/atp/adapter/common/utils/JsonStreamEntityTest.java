@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import static org.qubership.atp.adapter.common.RamConstants.OBJECT_MAPPER;
+
+import java.io.ByteArrayOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class JsonStreamEntityTest {
+
+    private final JsonStreamEntity entity = new JsonStreamEntity(generator -> {
+        generator.writeStartObject();
+        generator.writeStringField("name", "quote \" and é");
+        generator.writeBooleanField("isSection", false);
+        generator.writeObjectFieldStart("atpSource");
+        generator.writeStringField("atpObjectId", "id");
+        generator.writeEndObject();
+        generator.writeEndObject();
+    });
+
+    @Test
+    public void writeTo_body_isWrittenAsUtf8JsonAndCanBeRepeated() throws Exception {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        entity.writeTo(first);
+        entity.writeTo(second);
+
+        ObjectNode result = OBJECT_MAPPER.readValue(first.toByteArray(), ObjectNode.class);
+        Assert.assertEquals("quote \" and é", result.get("name").asText());
+        Assert.assertFalse(result.get("isSection").asBoolean());
+        Assert.assertEquals("id", result.get("atpSource").get("atpObjectId").asText());
+        Assert.assertArrayEquals(first.toByteArray(), second.toByteArray());
+        Assert.assertTrue(entity.isRepeatable());
+        Assert.assertEquals("application/json; charset=UTF-8", entity.getContentType().getValue());
+    }
+
+    @Test
+    public void getContent_body_returnsWrittenJson() throws Exception {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        entity.writeTo(written);
+
+        Assert.assertArrayEquals(written.toByteArray(), IOUtils.toByteArray(entity.getContent()));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MessageSizePolicyTest {
+
+    private static final String MESSAGE = "0123456789";
+
+    @Test
+    public void apply_noneMode_returnsMessageAsIs() {
+        MessageSizePolicy policy = new MessageSizePolicy(MessageSizePolicy.Mode.NONE, 5);
+
+        Assert.assertSame(MESSAGE, policy.apply("lr", MESSAGE, (fileName, body) -> true));
+        Assert.assertEquals(0, policy.getTruncatedMessages() + policy.getSpilledMessages());
+    }
+
+    @Test
+    public void apply_truncateModeAndMessageOverLimit_returnsHeadWithNote() {
+        MessageSizePolicy policy = new MessageSizePolicy(MessageSizePolicy.Mode.TRUNCATE, 5);
+
+        String result = policy.apply("lr", MESSAGE, null);
+
+        Assert.assertEquals("01234" + String.format(MessageSizePolicy.TRUNCATED_SUFFIX, 5, 10), result);
+        Assert.assertSame("short", policy.apply("lr", "short", null));
+        Assert.assertEquals(1, policy.getTruncatedMessages());
+        Assert.assertEquals(1, policy.getKeptMessages());
+    }
+
+    @Test
+    public void apply_attachmentMode_uploadsFullMessageAndReturnsReference() {
+        MessageSizePolicy policy = new MessageSizePolicy(MessageSizePolicy.Mode.ATTACHMENT, 5);
+        List<String> uploaded = new ArrayList<>();
+
+        String result = policy.apply("lr", MESSAGE, (fileName, body) -> uploaded.add(fileName + "=" + body));
+
+        Assert.assertEquals("01234" + String.format(MessageSizePolicy.SPILLED_SUFFIX, 10, "message-lr.txt"), result);
+        Assert.assertEquals("message-lr.txt=" + MESSAGE, uploaded.get(0));
+        Assert.assertEquals(1, policy.getSpilledMessages());
+    }
+
+    @Test
+    public void apply_attachmentModeAndUploadFailed_truncatesMessage() {
+        MessageSizePolicy policy = new MessageSizePolicy(MessageSizePolicy.Mode.ATTACHMENT, 5);
+
+        String result = policy.apply("lr", MESSAGE, (fileName, body) -> {
+            throw new IllegalStateException("RAM is not available");
+        });
+
+        Assert.assertEquals("01234" + String.format(MessageSizePolicy.TRUNCATED_SUFFIX, 5, 10), result);
+        Assert.assertEquals(1, policy.getTruncatedMessages());
+        Assert.assertEquals(0, policy.getSpilledMessages());
+    }
+
+    @Test
+    public void apply_limitSplitsSurrogatePair_keepsPairOut() {
+        MessageSizePolicy policy = new MessageSizePolicy(MessageSizePolicy.Mode.TRUNCATE, 2);
+
+        String result = policy.apply("lr", "a😀b", null);
+
+        Assert.assertTrue(result.startsWith("a\n"));
+    }
+}
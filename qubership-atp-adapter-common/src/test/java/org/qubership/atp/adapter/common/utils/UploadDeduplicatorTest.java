@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.common.utils;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.common.entities.UploadScreenshotResponse;
+
+public class UploadDeduplicatorTest {
+
+    private static final byte[] CONTENT = "screen".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void find_sameContentInSameRun_returnsUploadedFileAndCountsBytes() {
+        UploadDeduplicator deduplicator = new UploadDeduplicator();
+        UploadScreenshotResponse uploaded = new UploadScreenshotResponse("fileId", "preview");
+
+        Assert.assertNull(deduplicator.find("run", "image/png", CONTENT));
+        deduplicator.remember("run", "image/png", CONTENT, uploaded);
+
+        Assert.assertSame(uploaded, deduplicator.find("run", "image/png", CONTENT.clone()));
+        Assert.assertEquals(CONTENT.length, deduplicator.getDeduplicatedBytes());
+        Assert.assertEquals(1, deduplicator.getDeduplicatedFiles());
+    }
+
+    @Test
+    public void find_otherRunOrContentType_returnsNull() {
+        UploadDeduplicator deduplicator = new UploadDeduplicator();
+        deduplicator.remember("run", "image/png", CONTENT, new UploadScreenshotResponse("fileId", null));
+
+        Assert.assertNull(deduplicator.find("run", "text/html", CONTENT));
+        Assert.assertNull(deduplicator.find("otherRun", "image/png", CONTENT));
+        Assert.assertEquals(0, deduplicator.getDeduplicatedBytes());
+    }
+
+    @Test
+    public void remember_responseWithoutFileId_isIgnored() {
+        UploadDeduplicator deduplicator = new UploadDeduplicator();
+        deduplicator.remember("run", "image/png", CONTENT, new UploadScreenshotResponse());
+
+        Assert.assertNull(deduplicator.find("run", "image/png", CONTENT));
+    }
+
+    @Test
+    public void finish_stoppedRun_forgetsUploadsAndResetsCounters() {
+        UploadDeduplicator deduplicator = new UploadDeduplicator();
+        deduplicator.remember("run", "image/png", CONTENT, new UploadScreenshotResponse("fileId", null));
+        deduplicator.find("run", "image/png", CONTENT);
+
+        deduplicator.finish("otherRun");
+        Assert.assertEquals(1, deduplicator.getDeduplicatedFiles());
+
+        deduplicator.finish("run");
+        Assert.assertEquals(0, deduplicator.getDeduplicatedFiles());
+        Assert.assertEquals(0, deduplicator.getDeduplicatedBytes());
+        Assert.assertNull(deduplicator.find("run", "image/png", CONTENT));
+    }
+}
@@ -20,6 +20,8 @@ import org.qubership.atp.adapter.excel.exceptions.DataNotSetException;
 import org.qubership.atp.adapter.excel.exceptions.InvalidFormatOfSourceException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -41,6 +43,8 @@ public class ExcelSheet {
     private ExcelRow currentRow;
     private int headerRowIndex;
     private Map<Integer, String> headers;
+    private Map<Integer, Map<String, List<Integer>>> columnIndexes;
+    private int columnIndexesMaxRowNum;
 
     public ExcelSheet(ExcelBook excelBook, String sheetName, int currentRowIndex, String... headerRowIdentifiers) throws InvalidFormatOfSourceException {
         this.currentSheet = null;
@@ -49,6 +53,7 @@ public class ExcelSheet {
         this.currentRow = null;
         this.headerRowIndex = -1;
         this.headers = new LinkedHashMap();
+        this.columnIndexes = new HashMap();
         this.excelBook = excelBook;
         this.currentSheetName = sheetName;
         if (!excelBook.hasSheet(sheetName)) {
@@ -151,6 +156,54 @@ public class ExcelSheet {
         return excelRow.getCell(headerIndex);
     }
 
+    /**
+     * Returns numbers of rows (ascending, 1-based) which cell in the column has exactly the provided content.
+     * All values of the column are indexed in a single pass on the first call, so repeated lookups do not rescan
+     * the sheet. The index is rebuilt when rows are added; it does not track cell values changed after it was built.
+     */
+    public List<Integer> getRowNumsByIndexAndContent(int headerIndex, String content) {
+        if (this.columnIndexesMaxRowNum != this.getMaxRowNum()) {
+            this.invalidateColumnIndexes();
+        }
+
+        Map<String, List<Integer>> columnIndex = (Map)this.columnIndexes.get(headerIndex);
+        if (columnIndex == null) {
+            columnIndex = new HashMap();
+            Iterator<ExcelRow> rowIterator = this.iterator();
+
+            while(rowIterator.hasNext()) {
+                ExcelRow excelRow = (ExcelRow)rowIterator.next();
+                if (!excelRow.isCellNull(headerIndex)) {
+                    String value = excelRow.getCell(headerIndex).getValue();
+                    if (value != null) {
+                        List<Integer> rowNums = (List)columnIndex.get(value);
+                        if (rowNums == null) {
+                            rowNums = new ArrayList();
+                            columnIndex.put(value, rowNums);
+                        }
+
+                        rowNums.add(excelRow.getRowNum());
+                    }
+                }
+            }
+
+            this.columnIndexes.put(headerIndex, columnIndex);
+        }
+
+        List<Integer> rowNums = (List)columnIndex.get(content);
+        if (rowNums == null) {
+            log.error("Cell by header index " + headerIndex + " and with value " + content + " is not found");
+            return Collections.emptyList();
+        } else {
+            return Collections.unmodifiableList(rowNums);
+        }
+    }
+
+    public void invalidateColumnIndexes() {
+        this.columnIndexes.clear();
+        this.columnIndexesMaxRowNum = this.getMaxRowNum();
+    }
+
     public ExcelRow getRow(int rowNumber) {
         this.validateRowIndex(rowNumber, true);
         if (this.isRowNull(rowNumber)) {
@@ -243,6 +296,7 @@ public class ExcelSheet {
         }
 
         this.currentSheet.createRow(rowNumber - 1);
+        this.invalidateColumnIndexes();
         return this.getRow(rowNumber);
     }
 
@@ -374,6 +428,7 @@ public class ExcelSheet {
 
     public void close() {
         this.headers.clear();
+        this.columnIndexes.clear();
         this.currentSheet = null;
         this.currentRow.dispose();
         this.currentRow = null;
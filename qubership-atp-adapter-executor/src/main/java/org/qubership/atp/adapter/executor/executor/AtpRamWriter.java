@@ -29,6 +29,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.qubership.atp.ram.models.BrowserConsoleLogsTable;
 import org.apache.commons.collections.CollectionUtils;
@@ -56,6 +64,7 @@ import org.qubership.atp.ram.models.logrecords.parts.ValidationTable;
 import org.qubership.atp.adapter.report.ReportWriter;
 import org.qubership.atp.adapter.report.SourceProvider;
 import org.qubership.atp.adapter.report.WebReportItem;
+import org.qubership.atp.adapter.testcase.Config;
 import net.sf.json.JSONObject;
 
 public class AtpRamWriter implements ReportWriter {
@@ -65,6 +74,16 @@ public class AtpRamWriter implements ReportWriter {
     private static final ReportThreadLocal report = new ReportThreadLocal();
     private static final String SECTION_NAME = "Section";
     private static final String SCREENSHOT_NAME_REGEX = "^screen-thread.*\\.png$";
+    private static final int ATTACHMENTS_THREADS = Config.getInt("atp.ram.attachments.threads", 4);
+    private static final int ATTACHMENTS_MAX_KB = Math.max(1, Config.getInt("atp.ram.attachments.max.kb", 65536));
+    private static final Semaphore ATTACHMENTS_BYTES_BUDGET = new Semaphore(ATTACHMENTS_MAX_KB);
+    private static final AtomicInteger ATTACHMENTS_THREAD_NUMBER = new AtomicInteger();
+    private static final ExecutorService ATTACHMENTS_POOL = Executors.newFixedThreadPool(
+            Math.max(1, ATTACHMENTS_THREADS), runnable -> {
+                Thread thread = new Thread(runnable, "ram-attachments-" + ATTACHMENTS_THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
     private AtpRamAdapter adapter;
     private String testRunId;
     private String executionRequestUuid;
@@ -472,18 +491,22 @@ public class AtpRamWriter implements ReportWriter {
         List<FileMetadata> fileMetadataList = new ArrayList<>();
         List<Map<String, Object>> atp2messages = new ArrayList<>();
         if (files != null && !files.isEmpty()) {
-            files.forEach(file -> {
-                Map<String, Object> atp2message = new HashMap<>();
+            List<Future<PreparedAttachment>> prepared = new ArrayList<>(files.size());
+            files.forEach(file -> prepared.add(prepareAttachment(file, files.size() > 1)));
+            for (Future<PreparedAttachment> future : prepared) {
                 try {
-                    NttAttachment attachment = createAttachment(file, atp2message);
-                    if (attachment.getFileMetadata() != null) {
-                        fileMetadataList.add(attachment.getFileMetadata());
+                    PreparedAttachment attachment = future.get();
+                    if (attachment.attachment.getFileMetadata() != null) {
+                        fileMetadataList.add(attachment.attachment.getFileMetadata());
                     }
-                    atp2messages.add(atp2message);
-                } catch (Exception e) {
+                    atp2messages.add(attachment.atp2message);
+                } catch (ExecutionException e) {
+                    log.error("Cannot create attachment", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                     log.error("Cannot create attachment", e);
                 }
-            });
+            }
             messageBean.setAttributes(atp2messages);
         }
         messageBean.setFileMetadata(fileMetadataList);
@@ -507,7 +530,7 @@ public class AtpRamWriter implements ReportWriter {
         Map<String, Object> atp2message = new HashMap<>();
         if (page != null) {
             try {
-                NttAttachment attachment = createAttachment(page, atp2message);
+                NttAttachment attachment = createAttachment(page, page.getSource(), atp2message);
                 if (attachment.getFileMetadata() != null) {
                     message.setFileMetadata(Collections.singletonList(attachment.getFileMetadata()));
                 }
@@ -524,8 +547,53 @@ public class AtpRamWriter implements ReportWriter {
         return message;
     }
 
-    private NttAttachment createAttachment(SourceProvider file, Map<String, Object> atp2message) throws Exception {
-        NttAttachment attachment = AttachmentCreator.create(file);
+    /**
+     * Prepares attachment on the attachments pool when several files are attached, otherwise in current thread.
+     * Source of the file is always taken in current thread, since source providers may depend on it. Only encoding
+     * and writing of the attachment are left to the pool. Taken sources stay in the attachments bytes budget until
+     * their attachments are written, so current thread waits before handing over more sources than the budget allows.
+     */
+    private Future<PreparedAttachment> prepareAttachment(SourceProvider file, boolean concurrently) {
+        String source;
+        int permits;
+        try {
+            source = file.getSource();
+            permits = source == null ? 0
+                    : (int) Math.min(ATTACHMENTS_MAX_KB, Math.max(1L, source.length() / 1024L));
+            ATTACHMENTS_BYTES_BUDGET.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failedAttachment(e);
+        } catch (RuntimeException e) {
+            return failedAttachment(e);
+        }
+        Callable<PreparedAttachment> task = () -> {
+            try {
+                Map<String, Object> atp2message = new HashMap<>();
+                return new PreparedAttachment(createAttachment(file, source, atp2message), atp2message);
+            } finally {
+                ATTACHMENTS_BYTES_BUDGET.release(permits);
+            }
+        };
+        if (concurrently && ATTACHMENTS_THREADS > 1) {
+            return ATTACHMENTS_POOL.submit(task);
+        }
+        FutureTask<PreparedAttachment> future = new FutureTask<>(task);
+        future.run();
+        return future;
+    }
+
+    private static Future<PreparedAttachment> failedAttachment(Exception e) {
+        FutureTask<PreparedAttachment> future = new FutureTask<>(() -> {
+            throw e;
+        });
+        future.run();
+        return future;
+    }
+
+    private NttAttachment createAttachment(SourceProvider file, String source, Map<String, Object> atp2message)
+            throws Exception {
+        NttAttachment attachment = AttachmentCreator.create(file, source);
         atp2message.put(RamConstants.SCREENSHOT_NAME_KEY, attachment.getFileName());
         atp2message.put(SCREENSHOT_FILE_KEY, attachment.getFileSource());
         atp2message.put(RamConstants.SCREENSHOT_TYPE_KEY, attachment.getContentType());
@@ -646,6 +714,16 @@ public class AtpRamWriter implements ReportWriter {
 
 
 
+    private static class PreparedAttachment {
+        private final NttAttachment attachment;
+        private final Map<String, Object> atp2message;
+
+        private PreparedAttachment(NttAttachment attachment, Map<String, Object> atp2message) {
+            this.attachment = attachment;
+            this.atp2message = atp2message;
+        }
+    }
+
     private static class ReportThreadLocal extends ThreadLocal<AtpRamWriter> {
 
         private static boolean isReportThreadLocal = true;
@@ -38,7 +38,6 @@ import org.qubership.atp.adapter.report.ReportWriter;
 import org.qubership.atp.adapter.report.SourceProvider;
 import org.qubership.atp.adapter.report.WebReportItem;
 import org.qubership.atp.adapter.report.WebReportItem.CloseLog;
-import org.qubership.atp.adapter.utils.Utils;
 
 public class AtpRamWriterAdapter implements ReportAdapter {
 
@@ -64,18 +63,9 @@ public class AtpRamWriterAdapter implements ReportAdapter {
             }
             if (item instanceof Message) {
                 WebReportItem.Message msg = (WebReportItem.Message) item;
-                StringBuilder sb = new StringBuilder();
-                String message = msg.getMessage();
-                if (message != null) {
-                    sb.append(message);
-                }
-
-                if (msg.getThrowable() != null) {
-                    sb.append("<pre>").append(Utils.getStackTrace(msg.getThrowable())).append("</pre>");
-                }
                 String title = msg.getTitle();
                 Level level = msg.getLevel();
-                String message1 = sb.toString();
+                String message1 = msg.getMessageWithStackTrace();
                 SourceProvider page = msg.getPage();
 
                 writer.message(title, level, message1, page);
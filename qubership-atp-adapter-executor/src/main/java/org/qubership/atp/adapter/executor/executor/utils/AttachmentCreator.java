@@ -45,9 +45,15 @@ public class AttachmentCreator {
      * Create NTT attachment.
      */
     public static NttAttachment create(SourceProvider sourceProvider) throws Exception {
+        return create(sourceProvider, sourceProvider.getSource());
+    }
+
+    /**
+     * Create NTT attachment from the source already taken from the provider.
+     */
+    public static NttAttachment create(SourceProvider sourceProvider, String pageSource) throws Exception {
         NttAttachment attachment = new NttAttachment();
 
-        String pageSource = sourceProvider.getSource();
         if (pageSource == null) {
             pageSource = "";
         }
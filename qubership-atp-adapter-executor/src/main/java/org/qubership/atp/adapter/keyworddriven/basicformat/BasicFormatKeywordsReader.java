@@ -17,9 +17,7 @@
 package org.qubership.atp.adapter.keyworddriven.basicformat;
 
 import com.google.code.regexp.Matcher;
-import com.google.code.regexp.Pattern;
 import org.qubership.atp.adapter.excel.ExcelBook;
-import org.qubership.atp.adapter.excel.ExcelCell;
 import org.qubership.atp.adapter.excel.ExcelRow;
 import org.qubership.atp.adapter.excel.ExcelSheet;
 import org.qubership.atp.adapter.keyworddriven.InvalidFormatOfSourceException;
@@ -27,12 +25,13 @@ import org.qubership.atp.adapter.keyworddriven.executable.ExcelKeyword;
 import org.qubership.atp.adapter.keyworddriven.executable.Executable;
 import org.qubership.atp.adapter.keyworddriven.routing.KeywordRouteTable;
 import org.qubership.atp.adapter.keyworddriven.routing.Route;
-import org.qubership.atp.adapter.keyworddriven.routing.RouteItem;
 import org.qubership.atp.adapter.testcase.Config;
 import org.qubership.atp.adapter.utils.excel.ExcelUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -43,6 +42,13 @@ public class BasicFormatKeywordsReader {
     public static final String LEVEL_COLUMN_NAME = Config.getString("BasicFormatKeywordsReader.LEVEL_COLUMN_NAME", "Run");
     public static final String[] HEADERS;
     public static final int KEY_COLUMN_INDEX;
+    private static final int PARSED_KEYWORDS_CACHE_SIZE = 4096;
+    private static final Map<String, List<String>> PARSED_KEYWORDS = new LinkedHashMap<String, List<String>>(16, 0.75F, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return this.size() > PARSED_KEYWORDS_CACHE_SIZE;
+        }
+    };
+    private static int parsedKeywordsVersion = -1;
     private ExcelSheet excelSheet;
 
     public BasicFormatKeywordsReader(ExcelBook excelBook, String sheetName) throws InvalidFormatOfSourceException {
@@ -67,41 +73,38 @@ public class BasicFormatKeywordsReader {
 
     public List<ExcelKeyword> readKeywords(Executable parent, String key) throws InvalidFormatOfSourceException {
         List<ExcelKeyword> result = new ArrayList();
-        ExcelCell cell = this.excelSheet.getCellByIndexAndContent(KEY_COLUMN_INDEX, key);
-        if (cell == null) {
-            return result;
-        } else {
-            for(int index = cell.getPosition().getRowNum(); index <= this.excelSheet.getMaxRowNum(); ++index) {
-                if (this.excelSheet.getRow(index) != null && this.excelSheet.getCurrentRow().getCell(KEY_COLUMN_INDEX).getValue().equals(key)) {
-                    List<String> dataItems = this.parseKeyword(this.excelSheet.getCurrentRow());
-                    ExcelKeyword keyword = null;
-                    if (dataItems.size() == 1 && Route.IS_SPACE_DELIM_ENABLED) {
-                        List<String> data = parseKeyword((String)dataItems.get(0));
-                        keyword = data == null ? null : new ExcelKeyword(parent, data);
-                    }
-
-                    if (keyword == null) {
-                        keyword = new ExcelKeyword(parent, dataItems);
-                    }
+        Iterator var4 = this.excelSheet.getRowNumsByIndexAndContent(KEY_COLUMN_INDEX, key).iterator();
+
+        while(var4.hasNext()) {
+            int index = (Integer)var4.next();
+            this.excelSheet.getRow(index);
+            List<String> dataItems = this.parseKeyword(this.excelSheet.getCurrentRow());
+            ExcelKeyword keyword = null;
+            if (dataItems.size() == 1 && Route.IS_SPACE_DELIM_ENABLED) {
+                List<String> data = parseKeyword((String)dataItems.get(0));
+                keyword = data == null ? null : new ExcelKeyword(parent, data);
+            }
 
-                    keyword.setOptionalProperties(this.parseOptionalProperties(this.excelSheet.getCurrentRow()));
-                    keyword.setSourceFileName(this.excelSheet.getExcelBook().getCurrentFile().getAbsolutePath());
-                    keyword.setSourceSheetName(this.excelSheet.getSheetName());
-                    keyword.setRowNum(this.excelSheet.getCurrentRow().getRowNum());
-                    keyword.setDescription(String.valueOf(keyword.getOptionalProperty(DESCRIPTION_COLUMN_NAME)));
-                    String validationLevelName = keyword.getOptionalProperty(LEVEL_COLUMN_NAME);
-                    if (StringUtils.isBlank(validationLevelName) && Boolean.parseBoolean(Config.getString("report.snapshot.filter", "false"))) {
-                        keyword.setSnapshotEnable(false);
-                    }
+            if (keyword == null) {
+                keyword = new ExcelKeyword(parent, dataItems);
+            }
 
-                    keyword.setValidationLevel(ValidationLevel.parseValidationLevel(validationLevelName));
-                    this.processFlags(keyword, this.excelSheet);
-                    result.add(keyword);
-                }
+            keyword.setOptionalProperties(this.parseOptionalProperties(this.excelSheet.getCurrentRow()));
+            keyword.setSourceFileName(this.excelSheet.getExcelBook().getCurrentFile().getAbsolutePath());
+            keyword.setSourceSheetName(this.excelSheet.getSheetName());
+            keyword.setRowNum(this.excelSheet.getCurrentRow().getRowNum());
+            keyword.setDescription(String.valueOf(keyword.getOptionalProperty(DESCRIPTION_COLUMN_NAME)));
+            String validationLevelName = keyword.getOptionalProperty(LEVEL_COLUMN_NAME);
+            if (StringUtils.isBlank(validationLevelName) && Boolean.parseBoolean(Config.getString("report.snapshot.filter", "false"))) {
+                keyword.setSnapshotEnable(false);
             }
 
-            return result;
+            keyword.setValidationLevel(ValidationLevel.parseValidationLevel(validationLevelName));
+            this.processFlags(keyword, this.excelSheet);
+            result.add(keyword);
         }
+
+        return result;
     }
 
     protected void processFlags(Executable keyword, ExcelSheet excelSheet) {
@@ -124,13 +127,46 @@ public class BasicFormatKeywordsReader {
     }
 
     public static List<String> parseKeyword(String keyword) {
+        List<String> cached;
+        synchronized(PARSED_KEYWORDS) {
+            if (parsedKeywordsVersion != KeywordRouteTable.getModificationCount()) {
+                PARSED_KEYWORDS.clear();
+                parsedKeywordsVersion = KeywordRouteTable.getModificationCount();
+            }
+
+            cached = (List)PARSED_KEYWORDS.get(keyword);
+        }
+
+        if (cached != null) {
+            return new ArrayList(cached);
+        } else {
+            int version = KeywordRouteTable.getModificationCount();
+            List<String> dataItems = parseKeywordByRoute(keyword);
+            if (dataItems != null) {
+                synchronized(PARSED_KEYWORDS) {
+                    if (parsedKeywordsVersion == version) {
+                        PARSED_KEYWORDS.put(keyword, new ArrayList(dataItems));
+                    }
+                }
+            }
+
+            return dataItems;
+        }
+    }
+
+    static int getParsedKeywordsCount() {
+        synchronized(PARSED_KEYWORDS) {
+            return PARSED_KEYWORDS.size();
+        }
+    }
+
+    private static List<String> parseKeywordByRoute(String keyword) {
         Route route = KeywordRouteTable.searchRoute(keyword);
         if (route == null) {
             return null;
         } else {
             ArrayList<String> dataItems = new ArrayList();
-            Pattern pattern = buildNamedPattern(route.getRouteItems(), route);
-            Matcher m = pattern.matcher(keyword);
+            Matcher m = route.getNamedRouteMask().matcher(keyword);
             m.find();
             dataItems.addAll(m.namedGroups().values());
 
@@ -143,22 +179,6 @@ public class BasicFormatKeywordsReader {
         }
     }
 
-    private static Pattern buildNamedPattern(List<RouteItem> routeItems, Route route) {
-        StringBuilder clued = new StringBuilder("^");
-
-        for(int index = 0; index < routeItems.size(); ++index) {
-            RouteItem item = (RouteItem)routeItems.get(index);
-            String tab = index > 0 ? route.getDelim() : "";
-            clued.append("(?<").append(String.valueOf(index)).append(">").append(tab).append(item.getCellContentPattern()).append(")");
-            if (item.isParameter()) {
-                clued.append("?");
-            }
-        }
-
-        clued.append("$");
-        return Pattern.compile(clued.toString(), 34);
-    }
-
     public boolean sourceIsValid() {
         return this.excelSheet.getHeaders().values().containsAll(Arrays.asList(this.getHeaders()));
     }
@@ -21,4 +21,20 @@ import org.qubership.atp.adapter.report.Report;
 
 public interface ParamReplacer {
     String replaceParam(Executable var1, String var2, Report var3);
+
+    /**
+     * Opening marker of placeholders handled by this replacer, e.g. <code>${</code>.
+     * Replacers which declare both markers take part in compiled templates and are
+     * invoked only with the placeholder text itself. Null means the replacer must see the whole string.
+     */
+    default String getPlaceholderStart() {
+        return null;
+    }
+
+    /**
+     * Closing marker of placeholders handled by this replacer, e.g. <code>}</code>.
+     */
+    default String getPlaceholderEnd() {
+        return null;
+    }
 }
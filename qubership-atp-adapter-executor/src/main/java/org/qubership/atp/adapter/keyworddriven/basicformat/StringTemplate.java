@@ -0,0 +1,187 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.basicformat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.qubership.atp.adapter.keyworddriven.executable.Executable;
+import org.qubership.atp.adapter.report.Report;
+
+/**
+ * Text parsed once into literal and placeholder segments.
+ * Rendering is a single pass which calls a replacer only for placeholders present in the text.
+ * A template is compiled only when every registered replacer declares its placeholder markers,
+ * otherwise it stays uncompiled and rendering falls back to sequential replacement.
+ * As with sequential replacement, the value of a placeholder is passed to the replacers registered after
+ * its owner, so placeholders produced by one replacer are resolved by the following ones.
+ */
+public class StringTemplate {
+    private final String source;
+    private final int replacersVersion;
+    private final List<Segment> segments;
+    private final List<ParamReplacer> replacers;
+
+    private StringTemplate(String source, int replacersVersion, List<Segment> segments,
+                           List<ParamReplacer> replacers) {
+        this.source = source;
+        this.replacersVersion = replacersVersion;
+        this.segments = segments;
+        this.replacers = replacers;
+    }
+
+    /**
+     * Parse text into segments using placeholder markers of the given replacers.
+     *
+     * @param source           text to parse
+     * @param replacers        registered replacers in application order
+     * @param replacersVersion version of the replacers list the template is compiled against
+     * @return compiled template; uncompiled if some replacer does not declare markers
+     * or placeholders are nested
+     */
+    public static StringTemplate compile(String source, List<ParamReplacer> replacers, int replacersVersion) {
+        if (source == null) {
+            return new StringTemplate(null, replacersVersion, null, null);
+        }
+        if (replacers.isEmpty()) {
+            return new StringTemplate(source, replacersVersion,
+                    Collections.singletonList(new Segment(source, -1)), Collections.emptyList());
+        }
+        if (!isCompilable(replacers)) {
+            return new StringTemplate(source, replacersVersion, null, null);
+        }
+        List<ParamReplacer> owners = new ArrayList<>(replacers);
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        while (true) {
+            int start = -1;
+            int end = -1;
+            int owner = -1;
+            for (int i = 0; i < owners.size(); i++) {
+                ParamReplacer replacer = owners.get(i);
+                String prefix = replacer.getPlaceholderStart();
+                int candidate = source.indexOf(prefix, literalStart);
+                if (candidate < 0 || (start >= 0 && candidate >= start)) {
+                    continue;
+                }
+                int suffix = source.indexOf(replacer.getPlaceholderEnd(), candidate + prefix.length());
+                if (suffix < 0) {
+                    continue;
+                }
+                int nested = source.indexOf(prefix, candidate + prefix.length());
+                if (nested >= 0 && nested < suffix) {
+                    return new StringTemplate(source, replacersVersion, null, null);
+                }
+                start = candidate;
+                end = suffix + replacer.getPlaceholderEnd().length();
+                owner = i;
+            }
+            if (owner < 0) {
+                break;
+            }
+            if (start > literalStart) {
+                segments.add(new Segment(source.substring(literalStart, start), -1));
+            }
+            segments.add(new Segment(source.substring(start, end), owner));
+            literalStart = end;
+        }
+        if (literalStart < source.length() || segments.isEmpty()) {
+            segments.add(new Segment(source.substring(literalStart), -1));
+        }
+        return new StringTemplate(source, replacersVersion, segments, owners);
+    }
+
+    /**
+     * Returns true if every replacer declares its placeholder markers, so texts can be compiled.
+     */
+    public static boolean isCompilable(List<ParamReplacer> replacers) {
+        for (ParamReplacer replacer : replacers) {
+            if (isEmpty(replacer.getPlaceholderStart()) || isEmpty(replacer.getPlaceholderEnd())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    public String getSource() {
+        return this.source;
+    }
+
+    public int getReplacersVersion() {
+        return this.replacersVersion;
+    }
+
+    public boolean isCompiled() {
+        return this.segments != null;
+    }
+
+    /**
+     * Returns true if the template has no placeholders at all.
+     */
+    public boolean isLiteral() {
+        return this.segments != null && this.segments.size() == 1 && this.segments.get(0).owner < 0;
+    }
+
+    /**
+     * Render compiled template in a single pass.
+     *
+     * @throws IllegalStateException if template is not compiled
+     */
+    public String render(Executable section, Report report) {
+        if (this.segments == null) {
+            throw new IllegalStateException("Template is not compiled: " + this.source);
+        }
+        if (this.isLiteral()) {
+            return this.source;
+        }
+        StringBuilder result = new StringBuilder(this.source.length());
+        for (Segment segment : this.segments) {
+            if (segment.owner < 0) {
+                result.append(segment.text);
+            } else {
+                result.append(this.replace(segment, section, report));
+            }
+        }
+        return result.toString();
+    }
+
+    private String replace(Segment segment, Executable section, Report report) {
+        String value = this.replacers.get(segment.owner).replaceParam(section, segment.text, report);
+        for (int i = segment.owner + 1; value != null && i < this.replacers.size(); i++) {
+            ParamReplacer replacer = this.replacers.get(i);
+            if (value.contains(replacer.getPlaceholderStart())) {
+                value = replacer.replaceParam(section, value, report);
+            }
+        }
+        return value;
+    }
+
+    private static class Segment {
+        private final String text;
+        private final int owner;
+
+        private Segment(String text, int owner) {
+            this.text = text;
+            this.owner = owner;
+        }
+    }
+}
@@ -26,12 +26,14 @@ import org.apache.commons.logging.LogFactory;
 public class StringValueSubstitution {
     private static final Log log = LogFactory.getLog(StringValueSubstitution.class);
     private static LinkedList<ParamReplacer> replacers = new LinkedList();
+    private static volatile int replacersVersion = 0;
 
     public StringValueSubstitution() {
     }
 
     protected static void addReplacerFirst(ParamReplacer replacer) {
         replacers.addFirst(replacer);
+        ++replacersVersion;
         if (log.isTraceEnabled()) {
             log.trace("ParamReplacer added : " + replacer);
         }
@@ -40,6 +42,7 @@ public class StringValueSubstitution {
 
     public static void addReplacerLast(ParamReplacer replacer) {
         replacers.addLast(replacer);
+        ++replacersVersion;
         if (log.isTraceEnabled()) {
             log.trace("ParamReplacer added : " + replacer);
         }
@@ -50,6 +53,35 @@ public class StringValueSubstitution {
         return replacers;
     }
 
+    public static StringTemplate compile(String data) {
+        return StringTemplate.compile(data, replacers, replacersVersion);
+    }
+
+    /**
+     * Returns true if keyword texts can be compiled into templates, i.e. every registered replacer
+     * declares its placeholder markers. Otherwise there is nothing to cache and texts are replaced sequentially.
+     */
+    public static boolean isCompilable() {
+        return !replacers.isEmpty() && StringTemplate.isCompilable(replacers);
+    }
+
+    public static boolean isActual(StringTemplate template) {
+        return template.getReplacersVersion() == replacersVersion;
+    }
+
+    public static String replaceParametersInString(Executable section, StringTemplate template, Report report) {
+        if (!template.isCompiled()) {
+            return replaceParametersInString(section, template.getSource(), report);
+        } else {
+            String data = template.render(section, report);
+            if (log.isTraceEnabled()) {
+                log.trace("Template '" + template.getSource() + "' rendered to '" + data + "'");
+            }
+
+            return data;
+        }
+    }
+
     public static String replaceParametersInString(Executable section, String data, Report report) {
         Iterator var3 = getReplacers().iterator();
 
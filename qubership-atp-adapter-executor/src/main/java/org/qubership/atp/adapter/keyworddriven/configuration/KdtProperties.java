@@ -55,6 +55,9 @@ public class KdtProperties {
     public static final String KDT_WARNINGS_TO_REPORT_PROPERTY = "kdt.print.warnings.to.report";
     public static final boolean KDT_WARNINGS_TO_REPORT;
     @OptionalProperty
+    public static final String KDT_DURATION_HISTORY_FILE_PROPERTY = "kdt.duration.history.file";
+    public static final String KDT_DURATION_HISTORY_FILE;
+    @OptionalProperty
     public static final String KDT_HIGHLIGHT_UI_ELEMENT = "kdt.highlight.calculated.element";
     @OptionalProperty
     public static final String KDT_PARAMETERS_BINDER = "kdt.parameters.binder.supports.escaping";
@@ -82,6 +85,7 @@ public class KdtProperties {
         KDT_ROUTES_MATCHING_STRATEGY_LAZY = "LAZY".equalsIgnoreCase(Config.getString("kdt.routes.matching.strategy", "LAZY"));
         KDT_WARNINGS_TO_REPORT = Boolean.valueOf(Config.getString("kdt.print.warnings.to.report", "true"));
         REPLACE_PARAMETERS_ON_READ = Boolean.valueOf(Config.getString("kdt.replace.parameters.on.read", "true"));
+        KDT_DURATION_HISTORY_FILE = Config.getString("kdt.duration.history.file", "");
     }
 }
 
@@ -26,6 +26,7 @@ import org.qubership.atp.adapter.tools.tacomponents.context.DefaultContextDataSt
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -47,7 +48,16 @@ public class KDTLocalContextDataStorage implements ContextDataStorage {
     protected ContextDataStorage getStorage(Executable keyword) {
         synchronized(map) {
             return (ContextDataStorage)map.computeIfAbsent(keyword, (k) -> {
-                return new DefaultContextDataStorage();
+                DefaultContextDataStorage storage = new DefaultContextDataStorage();
+                WeakReference<Executable> owner = new WeakReference(k);
+                storage.setModificationListener(() -> {
+                    Executable executable = (Executable)owner.get();
+                    if (executable != null) {
+                        executable.invalidateEffectiveParams();
+                    }
+
+                });
+                return storage;
             });
         }
     }
@@ -65,6 +75,41 @@ public class KDTLocalContextDataStorage implements ContextDataStorage {
         }
     }
 
+    /**
+     * Own values of the executable, without falling back to its parents.
+     */
+    @Nonnull
+    public Map<String, Object> getValues(Executable e) {
+        return this.getStorage(e).getValues();
+    }
+
+    /**
+     * Modification count of the executable own storage or -1 if changes of the storage can not be tracked.
+     */
+    public int getModificationCount(Executable e) {
+        ContextDataStorage storage = this.getStorage(e);
+        return storage instanceof DefaultContextDataStorage ? ((DefaultContextDataStorage)storage).getModificationCount() : -1;
+    }
+
+    protected <T> T getValue(Executable e, String key) {
+        for(Executable current = e; current != null; current = current.getParent()) {
+            T value = this.getStorage(current).getValue(key);
+            if (value == null && current.getConfigParams() != null) {
+                value = (T) current.getConfigParams().get(key);
+            }
+
+            if (value != null) {
+                return value;
+            }
+
+            if (current.getParent() == null) {
+                return Context.getStorage(ContextType.GLOBAL).getValue(key);
+            }
+        }
+
+        return null;
+    }
+
     public <T> ContextRecord<T> putValue(@Nonnull final String key, @Nullable final T value) {
         return (ContextRecord)this.get(KDTContextDataStorageProvider.get(), new com.google.common.base.Function<ContextDataStorage, ContextRecord<T>>() {
             @Nullable
@@ -79,23 +124,13 @@ public class KDTLocalContextDataStorage implements ContextDataStorage {
     }
 
     @Nullable
-    public <T> T getValue(@Nonnull final String key) {
-        return this.get(KDTContextDataStorageProvider.get(), new com.google.common.base.Function<ContextDataStorage, T>() {
-            @Nullable
-            public T apply(@Nullable ContextDataStorage contextDataStorage) {
-                return contextDataStorage.getValue(key);
-            }
-        });
+    public <T> T getValue(@Nonnull String key) {
+        return this.getValue(KDTContextDataStorageProvider.get(), key);
     }
 
     @Nullable
-    public <T> T getValue(@Nonnull final String key, @Nonnull T defaultValue) {
-        Object value = this.get(KDTContextDataStorageProvider.get(), new com.google.common.base.Function<ContextDataStorage, T>() {
-            @Nullable
-            public T apply(@Nullable ContextDataStorage contextDataStorage) {
-                return contextDataStorage.getValue(key);
-            }
-        });
+    public <T> T getValue(@Nonnull String key, @Nonnull T defaultValue) {
+        Object value = this.getValue(KDTContextDataStorageProvider.get(), key);
         return value != null ? (T) value : defaultValue;
     }
 
@@ -20,4 +20,11 @@ import org.qubership.atp.adapter.keyworddriven.executable.DataItem;
 
 public interface Processor {
     DataItem process(DataItem var1);
+
+    /**
+     * Type of data items this processor handles, subclasses included. Processors are not applied to other data items.
+     */
+    default Class<? extends DataItem> getDataItemType() {
+        return DataItem.class;
+    }
 }
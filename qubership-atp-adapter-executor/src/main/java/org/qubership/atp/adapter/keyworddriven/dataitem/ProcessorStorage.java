@@ -16,12 +16,19 @@
 
 package org.qubership.atp.adapter.keyworddriven.dataitem;
 
+import org.qubership.atp.adapter.keyworddriven.executable.DataItem;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ProcessorStorage {
     private static final ProcessorStorage storage = new ProcessorStorage();
-    List<Processor> processors = new ArrayList();
+    List<Processor> processors = new ProcessorList();
+    private final Map<Class<?>, List<Processor>> chains = new ConcurrentHashMap();
 
     private ProcessorStorage() {
     }
@@ -34,8 +41,77 @@ public class ProcessorStorage {
         this.processors.add(processor);
     }
 
+    /**
+     * Registered processors, changes made to the returned list are taken into account by the processor chains.
+     */
     public List<Processor> getProcessors() {
         return this.processors;
     }
+
+    /**
+     * Returns processors applicable to data items of provided type in registration order.
+     * The chain is computed once per type and recomputed only after registered processors change.
+     */
+    public List<Processor> getProcessors(Class<? extends DataItem> dataItemType) {
+        List<Processor> chain = (List)this.chains.get(dataItemType);
+        if (chain == null) {
+            synchronized(this) {
+                List<Processor> applicable = new ArrayList();
+                Iterator var5 = this.processors.iterator();
+
+                while(var5.hasNext()) {
+                    Processor processor = (Processor)var5.next();
+                    if (processor.getDataItemType().isAssignableFrom(dataItemType)) {
+                        applicable.add(processor);
+                    }
+                }
+
+                chain = applicable.isEmpty() ? Collections.<Processor>emptyList() : Collections.unmodifiableList(applicable);
+                this.chains.put(dataItemType, chain);
+            }
+        }
+
+        return chain;
+    }
+
+    private class ProcessorList extends AbstractList<Processor> {
+        private final List<Processor> list = new ArrayList();
+
+        private ProcessorList() {
+        }
+
+        public Processor get(int index) {
+            return (Processor)this.list.get(index);
+        }
+
+        public int size() {
+            return this.list.size();
+        }
+
+        public Processor set(int index, Processor processor) {
+            synchronized(ProcessorStorage.this) {
+                Processor old = (Processor)this.list.set(index, processor);
+                ProcessorStorage.this.chains.clear();
+                return old;
+            }
+        }
+
+        public void add(int index, Processor processor) {
+            synchronized(ProcessorStorage.this) {
+                this.list.add(index, processor);
+                ++this.modCount;
+                ProcessorStorage.this.chains.clear();
+            }
+        }
+
+        public Processor remove(int index) {
+            synchronized(ProcessorStorage.this) {
+                Processor old = (Processor)this.list.remove(index);
+                ++this.modCount;
+                ProcessorStorage.this.chains.clear();
+                return old;
+            }
+        }
+    }
 }
 
@@ -18,6 +18,8 @@ package org.qubership.atp.adapter.keyworddriven.executable;
 
 import org.qubership.atp.adapter.keyworddriven.TestCaseException;
 import org.qubership.atp.adapter.keyworddriven.executor.Executor;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.log4j.Logger;
@@ -49,6 +51,26 @@ public interface Executable {
 
     Map<String, Object> getNormalPriorityParams();
 
+    default Map<String, Object> getConfigParams() {
+        return null;
+    }
+
+    default Map<String, Object> getEffectiveParams() {
+        Map<String, Object> params = this.getParent() == null ? new HashMap() : new HashMap(this.getParent().getEffectiveParams());
+        if (this.getConfigParams() != null) {
+            params.putAll(this.getConfigParams());
+        }
+
+        params.putAll(this.getNormalPriorityParams());
+        return Collections.unmodifiableMap(params);
+    }
+
+    default void setConfigParams(Map<String, Object> var1) {
+    }
+
+    default void invalidateEffectiveParams() {
+    }
+
     void setLog(Logger var1);
 
     Logger log();
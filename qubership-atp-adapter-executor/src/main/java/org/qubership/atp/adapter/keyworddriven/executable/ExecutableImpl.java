@@ -21,14 +21,18 @@ import com.google.common.collect.Maps;
 import org.qubership.atp.adapter.keyworddriven.TestCaseException;
 import org.qubership.atp.adapter.keyworddriven.configuration.KdtProperties;
 import org.qubership.atp.adapter.keyworddriven.context.KDTContextDataStorageProvider;
+import org.qubership.atp.adapter.keyworddriven.context.KDTLocalContextDataStorage;
 import org.qubership.atp.adapter.keyworddriven.executor.Executor;
 import org.qubership.atp.adapter.keyworddriven.executor.ExecutorFactory;
 import org.qubership.atp.adapter.report.InterruptScenarioException;
 import org.qubership.atp.adapter.tools.tacomponents.context.Context;
 import org.qubership.atp.adapter.tools.tacomponents.context.ContextDataStorage;
 import org.qubership.atp.adapter.tools.tacomponents.context.ContextType;
+import org.qubership.atp.adapter.tools.tacomponents.context.ModificationTrackingMap;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +40,9 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.log4j.Logger;
 
 public abstract class ExecutableImpl implements Executable {
-    private Map<String, Object> executeParam = new LinkedHashMap();
+    private ModificationTrackingMap<String, Object> executeParam = new ModificationTrackingMap(new LinkedHashMap());
+    private Map<String, Object> configParams;
+    private volatile EffectiveParams effectiveParams;
     private String name;
     private List<Executable> childrens = new ArrayList();
     private WeakReference<Executable> parent = null;
@@ -45,6 +51,7 @@ public abstract class ExecutableImpl implements Executable {
 
     public ExecutableImpl(String name, Executable parent) {
         this.name = name;
+        this.executeParam.setModificationListener(this::invalidateEffectiveParams);
         this.setParent(parent);
     }
 
@@ -54,6 +61,7 @@ public abstract class ExecutableImpl implements Executable {
             parent.getChildren().add(this);
         }
 
+        this.invalidateEffectiveParams();
     }
 
     public List<Executable> getChildren() {
@@ -114,14 +122,42 @@ public abstract class ExecutableImpl implements Executable {
         Object result;
         if (KdtProperties.KDT_CONTEXT_TYPE_IS_NEW) {
             KDTContextDataStorageProvider.setExecutable(this);
-            result = Context.getValue(key);
-            return result == null ? Context.getValue(key, ContextType.GLOBAL) : result;
+            if (!(Context.getStorage(ContextType.LOCAL) instanceof KDTLocalContextDataStorage)) {
+                result = Context.getValue(key);
+                if (result == null && this.configParams != null) {
+                    result = this.configParams.get(key);
+                }
+
+                return result == null ? Context.getValue(key, ContextType.GLOBAL) : result;
+            } else {
+                result = this.getInheritedParam(((KDTLocalContextDataStorage)Context.getStorage(ContextType.LOCAL)).getValues(this).get(key), key);
+                return result == null ? Context.getValue(key, ContextType.GLOBAL) : result;
+            }
         } else {
-            result = this.executeParam.get(key);
-            return result == null && this.getParent() != null ? this.getParent().getParam(key) : result;
+            return this.getInheritedParam(this.executeParam.get(key), key);
         }
     }
 
+    /**
+     * Own parameters change often, so they are read directly and only the memoized tables of ancestors are used.
+     * A null parameter hides nothing, the lookup goes on to the next ancestor as it always did.
+     */
+    private Object getInheritedParam(Object ownValue, String key) {
+        Object result = ownValue;
+        if (result == null && this.configParams != null) {
+            result = this.configParams.get(key);
+        }
+
+        Executable current = this.getParent();
+        while(result == null && current != null) {
+            Map<String, Object> params = current.getEffectiveParams();
+            result = params.get(key);
+            current = params.containsKey(key) ? current.getParent() : null;
+        }
+
+        return result;
+    }
+
     public Object getParam(String key, Object defaultValue) {
         Object result = this.getParam(key);
         return result == null ? defaultValue : result;
@@ -149,6 +185,84 @@ public abstract class ExecutableImpl implements Executable {
         }
     }
 
+    /**
+     * Shared config parameters consulted after own parameters and before the parent ones.
+     */
+    public Map<String, Object> getConfigParams() {
+        return this.configParams;
+    }
+
+    public void setConfigParams(Map<String, Object> configParams) {
+        this.configParams = configParams;
+        this.invalidateEffectiveParams();
+    }
+
+    /**
+     * Returns immutable table of parameters visible from this executable: own ones, null ones included, over config
+     * ones over the parent ones. The table is rebuilt only after parameters of this executable or of its ancestors
+     * change through {@link #setParam(String, Object)}, {@link #getNormalPriorityParams()} or the context storage;
+     * otherwise the memoized one is returned. Such changes drop the memoized tables of the whole subtree, so a
+     * memoized table is checked against the parent one only and ancestors are not walked.
+     */
+    public Map<String, Object> getEffectiveParams() {
+        Executable parent = this.getParent();
+        Map<String, Object> ownParams;
+        int modificationCount;
+        if (KdtProperties.KDT_CONTEXT_TYPE_IS_NEW && Context.getStorage(ContextType.LOCAL) instanceof KDTLocalContextDataStorage) {
+            KDTLocalContextDataStorage storage = (KDTLocalContextDataStorage)Context.getStorage(ContextType.LOCAL);
+            ownParams = storage.getValues(this);
+            modificationCount = storage.getModificationCount(this);
+        } else if (KdtProperties.KDT_CONTEXT_TYPE_IS_NEW) {
+            ownParams = this.getNormalPriorityParams();
+            modificationCount = -1;
+        } else {
+            ownParams = this.executeParam;
+            modificationCount = this.executeParam.getModificationCount();
+        }
+
+        EffectiveParams cached = this.effectiveParams;
+        if (cached != null && modificationCount >= 0 && cached.isActual(getMemoizedParams(parent), this.configParams, modificationCount)) {
+            return cached.params;
+        } else {
+            Map<String, Object> parentParams = parent == null ? Collections.emptyMap() : parent.getEffectiveParams();
+            Map<String, Object> params = new HashMap(parentParams);
+            if (this.configParams != null) {
+                params.putAll(this.configParams);
+            }
+
+            params.putAll(ownParams);
+            cached = new EffectiveParams(Collections.unmodifiableMap(params), parentParams, this.configParams, modificationCount);
+            this.effectiveParams = modificationCount >= 0 ? cached : null;
+            return cached.params;
+        }
+    }
+
+    /**
+     * Drops the memoized table of this executable and of its descendants. Descendants hold a table only while this
+     * one holds it, so the walk stops at executables which have nothing to drop.
+     */
+    public void invalidateEffectiveParams() {
+        if (this.effectiveParams != null) {
+            this.effectiveParams = null;
+
+            for(int i = 0; i < this.childrens.size(); ++i) {
+                ((Executable)this.childrens.get(i)).invalidateEffectiveParams();
+            }
+        }
+
+    }
+
+    private static Map<String, Object> getMemoizedParams(Executable parent) {
+        if (parent == null) {
+            return Collections.emptyMap();
+        } else if (parent instanceof ExecutableImpl) {
+            EffectiveParams memoized = ((ExecutableImpl)parent).effectiveParams;
+            return memoized == null ? null : memoized.params;
+        } else {
+            return parent.getEffectiveParams();
+        }
+    }
+
     public Logger log() {
         if (this.getParent() == null && this.logger == null) {
             return Logger.getLogger(this.getClass());
@@ -208,5 +322,22 @@ public abstract class ExecutableImpl implements Executable {
             return _flag == null && parentHas;
         }
     }
-}
 
+    private static class EffectiveParams {
+        private final Map<String, Object> params;
+        private final Map<String, Object> parentParams;
+        private final Map<String, Object> configParams;
+        private final int modificationCount;
+
+        private EffectiveParams(Map<String, Object> params, Map<String, Object> parentParams, Map<String, Object> configParams, int modificationCount) {
+            this.params = params;
+            this.parentParams = parentParams;
+            this.configParams = configParams;
+            this.modificationCount = modificationCount;
+        }
+
+        private boolean isActual(Map<String, Object> parentParams, Map<String, Object> configParams, int modificationCount) {
+            return this.parentParams == parentParams && this.configParams == configParams && this.modificationCount == modificationCount;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.qubership.atp.adapter.keyworddriven.executable;
 
+import org.qubership.atp.adapter.keyworddriven.basicformat.StringTemplate;
 import org.qubership.atp.adapter.keyworddriven.routing.Route;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -43,5 +44,7 @@ public interface Keyword extends Section {
     boolean isShot();
 
     void setSnapshotEnable(boolean var1);
+
+    StringTemplate getTemplate(String var1);
 }
 
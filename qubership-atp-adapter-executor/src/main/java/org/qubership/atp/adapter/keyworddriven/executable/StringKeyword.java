@@ -16,6 +16,8 @@
 
 package org.qubership.atp.adapter.keyworddriven.executable;
 
+import org.qubership.atp.adapter.keyworddriven.basicformat.StringTemplate;
+import org.qubership.atp.adapter.keyworddriven.basicformat.StringValueSubstitution;
 import org.qubership.atp.adapter.keyworddriven.routing.Route;
 import org.qubership.atp.adapter.keyworddriven.routing.RouteItem;
 import java.lang.ref.SoftReference;
@@ -26,12 +28,18 @@ import java.util.List;
 import java.util.Map;
 
 public class StringKeyword extends SectionImpl implements Keyword {
+    private static final int TEMPLATES_CACHE_SIZE = 64;
     private LinkedList<DataItem> dataItems;
     private SoftReference<LinkedHashMap<String, KeywordParameter>> keywordParams = new SoftReference((Object)null);
     private Map<String, String> optionalProperties = new LinkedHashMap();
     private Route route;
     private int validationLevel;
     private boolean isShot = true;
+    private final Map<String, StringTemplate> templates = new LinkedHashMap<String, StringTemplate>(16, 0.75F, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, StringTemplate> eldest) {
+            return this.size() > TEMPLATES_CACHE_SIZE;
+        }
+    };
 
     public StringKeyword(Executable parent, List<String> keywordDataRaw) {
         super(keywordDataRaw.size() == 0 ? "" : (String)keywordDataRaw.get(0), parent);
@@ -150,5 +158,14 @@ public class StringKeyword extends SectionImpl implements Keyword {
     public void setSnapshotEnable(boolean isShot) {
         this.isShot = isShot;
     }
-}
 
+    public synchronized StringTemplate getTemplate(String data) {
+        StringTemplate template = (StringTemplate)this.templates.get(data);
+        if (template == null || !StringValueSubstitution.isActual(template)) {
+            template = StringValueSubstitution.compile(data);
+            this.templates.put(data, template);
+        }
+
+        return template;
+    }
+}
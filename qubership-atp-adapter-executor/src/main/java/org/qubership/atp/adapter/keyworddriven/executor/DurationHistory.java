@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.executor;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.log4j.Logger;
+
+/**
+ * Durations of previously executed test cases, stored in a local properties file.
+ * New measurements are averaged with the stored value to smooth out single slow runs.
+ */
+public class DurationHistory {
+    private static final Logger log = Logger.getLogger(DurationHistory.class);
+    private final File file;
+    private final Map<String, Long> durations = new ConcurrentHashMap();
+
+    public DurationHistory(File file) {
+        this.file = file;
+        this.load();
+    }
+
+    private void load() {
+        if (!this.file.isFile()) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(this.file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("Can't read test case duration history from " + this.file, e);
+            return;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                this.durations.put(name, Long.parseLong(properties.getProperty(name)));
+            } catch (NumberFormatException e) {
+                log.warn("Skip invalid duration '" + properties.getProperty(name) + "' for test case " + name);
+            }
+        }
+    }
+
+    /**
+     * Returns stored duration in milliseconds or null if test case was never executed.
+     */
+    public Long getDuration(String name) {
+        return name == null ? null : (Long)this.durations.get(name);
+    }
+
+    /**
+     * Returns average of all stored durations or 0 if history is empty.
+     */
+    public long getAverageDuration() {
+        long total = 0L;
+        int count = 0;
+        for (Long duration : this.durations.values()) {
+            total += duration;
+            ++count;
+        }
+        return count == 0 ? 0L : total / count;
+    }
+
+    public void record(String name, long durationMillis) {
+        if (name != null) {
+            this.durations.merge(name, durationMillis, (previous, current) -> (previous + current) / 2L);
+        }
+    }
+
+    public synchronized void save() {
+        Properties properties = new Properties();
+        for (Map.Entry<String, Long> entry : this.durations.entrySet()) {
+            properties.setProperty(entry.getKey(), String.valueOf(entry.getValue()));
+        }
+        File parent = this.file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            log.warn("Can't create directory for test case duration history: " + parent);
+            return;
+        }
+        File temporary = new File(this.file.getAbsoluteFile().getParentFile(), this.file.getName() + ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(temporary)) {
+                properties.store(out, "Test case durations, ms");
+                out.getFD().sync();
+            }
+            this.replace(temporary.toPath(), this.file.toPath());
+        } catch (IOException e) {
+            log.warn("Can't write test case duration history to " + this.file, e);
+            temporary.delete();
+        }
+    }
+
+    private void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -31,7 +31,8 @@ import org.qubership.atp.adapter.testcase.Config;
 import org.qubership.atp.adapter.utils.KDTUtils;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 public class KeywordExecutor extends SectionExecutor {
@@ -107,15 +108,24 @@ public class KeywordExecutor extends SectionExecutor {
     }
 
     protected void processDataItems(Keyword keyword) {
-        LinkedList<DataItem> dataItems = keyword.getDataItems();
-
-        for(int i = 0; i < dataItems.size(); ++i) {
-            DataItem item = (DataItem)dataItems.get(i);
-            Iterator var5 = ProcessorStorage.getStorage().getProcessors().iterator();
-
-            while(var5.hasNext()) {
-                Processor dataItemProcessor = (Processor)var5.next();
-                dataItems.set(i, dataItemProcessor.process(item));
+        ProcessorStorage storage = ProcessorStorage.getStorage();
+        if (!storage.getProcessors().isEmpty()) {
+            ListIterator<DataItem> var3 = keyword.getDataItems().listIterator();
+
+            while(var3.hasNext()) {
+                DataItem item = (DataItem)var3.next();
+                List<Processor> chain = storage.getProcessors(item.getClass());
+                if (!chain.isEmpty()) {
+                    DataItem result = item;
+                    Iterator var7 = chain.iterator();
+
+                    while(var7.hasNext()) {
+                        Processor dataItemProcessor = (Processor)var7.next();
+                        result = dataItemProcessor.process(item);
+                    }
+
+                    var3.set(result);
+                }
             }
         }
 
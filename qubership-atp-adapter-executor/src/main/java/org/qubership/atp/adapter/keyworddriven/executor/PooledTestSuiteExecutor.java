@@ -26,10 +26,13 @@ import org.qubership.atp.adapter.keyworddriven.resources.ResourceFactory;
 import org.qubership.atp.adapter.keyworddriven.resources.Resources;
 import org.qubership.atp.adapter.report.Report;
 import org.qubership.atp.adapter.testcase.Config;
+import org.qubership.atp.adapter.tools.tacomponents.context.threading.ContextScope;
 import org.qubership.atp.adapter.utils.ExceptionUtils;
 import org.qubership.atp.adapter.utils.ReportUtils;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -56,6 +59,7 @@ public class PooledTestSuiteExecutor extends SectionExecutor {
         try {
             this.execute((Collection)suite.getChildren());
         } finally {
+            Report.getReport().flushAll();
             ResourceFactory.getInstance().releaseResourcesAll();
             log.info("[END] test suite execution: " + suite.getName());
         }
@@ -74,15 +78,56 @@ public class PooledTestSuiteExecutor extends SectionExecutor {
         } else {
             ExecutorService threadPool = Executors.newFixedThreadPool(threadLimit);
             List<Runnable> threads = this.prepareThreadList((Iterable)testCases);
+            DurationHistory history = StringUtils.isBlank(KdtProperties.KDT_DURATION_HISTORY_FILE) ? null : new DurationHistory(new File(KdtProperties.KDT_DURATION_HISTORY_FILE));
+            if (history != null) {
+                this.sortLongestFirst(threads, history);
+            }
+
+            ContextScope scope = ContextScope.capture();
             Iterator var4 = threads.iterator();
 
             while(var4.hasNext()) {
                 Runnable thread = (Runnable)var4.next();
-                threadPool.execute(thread);
+                threadPool.execute(scope.wrap(thread));
             }
 
             threadPool.shutdown();
             threadPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            if (history != null) {
+                history.save();
+            }
+        }
+    }
+
+    /**
+     * Orders runnables by expected duration, longest first, so that idle workers of the shared pool queue
+     * pick up the short ones at the end. Grouped test cases stay in a single runnable and keep their order.
+     * Test cases without history are expected to take an average time.
+     */
+    protected void sortLongestFirst(List<Runnable> threads, DurationHistory history) {
+        long defaultDuration = history.getAverageDuration();
+        Map<Runnable, Long> expected = new LinkedHashMap();
+        Iterator var5 = threads.iterator();
+
+        while(var5.hasNext()) {
+            Runnable thread = (Runnable)var5.next();
+            long duration = 0L;
+            if (thread instanceof ExecutableRunnable) {
+                ExecutableRunnable runnable = (ExecutableRunnable)thread;
+                runnable.setDurationHistory(history);
+
+                for(int i = 0; i < runnable.executables.length; ++i) {
+                    Long known = history.getDuration(runnable.get(i).getName());
+                    duration += known == null ? defaultDuration : known;
+                }
+            }
+
+            expected.put(thread, duration);
+        }
+
+        threads.sort(Comparator.comparing((Runnable thread) -> (Long)expected.get(thread)).reversed());
+        if (log.isDebugEnabled()) {
+            log.debug("Test cases execution order by expected duration: " + expected.values());
         }
     }
 
@@ -138,11 +183,16 @@ public class PooledTestSuiteExecutor extends SectionExecutor {
 
     public static class ExecutableRunnable implements Runnable {
         private Executable[] executables;
+        private DurationHistory durationHistory;
 
         public ExecutableRunnable(Executable... executables) {
             this.executables = executables;
         }
 
+        public void setDurationHistory(DurationHistory durationHistory) {
+            this.durationHistory = durationHistory;
+        }
+
         protected Executable get(int index) {
             return this.executables[index];
         }
@@ -154,6 +204,9 @@ public class PooledTestSuiteExecutor extends SectionExecutor {
             for(int var3 = 0; var3 < var2; ++var3) {
                 Executable executable = var1[var3];
 
+                String name = executable.getName();
+                long start = System.currentTimeMillis();
+
                 try {
                     ReportUtils.setReportFolderName(executable.getName());
                     executable.execute();
@@ -161,6 +214,10 @@ public class PooledTestSuiteExecutor extends SectionExecutor {
                     Throwable e = var9;
                     PooledTestSuiteExecutor.handleException(executable, e);
                 } finally {
+                    if (this.durationHistory != null) {
+                        this.durationHistory.record(name, System.currentTimeMillis() - start);
+                    }
+
                     this.releaseResources();
                 }
             }
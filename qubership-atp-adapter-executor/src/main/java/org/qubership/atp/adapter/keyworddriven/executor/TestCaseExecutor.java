@@ -50,6 +50,8 @@ public class TestCaseExecutor extends SectionExecutor {
             }
 
             Report.getReport().message(executable);
+            Report.getReport().releaseLog();
+            Report.getReport().flush();
         }
 
     }
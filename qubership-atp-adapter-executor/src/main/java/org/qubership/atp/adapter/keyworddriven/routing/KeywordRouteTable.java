@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -46,6 +47,7 @@ public class KeywordRouteTable {
     private static final Logger LOG = Logger.getLogger(KeywordRouteTable.class);
     public static final String DEFAULT_GROUP_NAME = "Other";
     private static LinkedHashMap<String, RouteGroup> routeGroups = new LinkedHashMap();
+    private static final AtomicInteger modificationCount = new AtomicInteger();
     @Inject
     public static KeywordMapper mapper;
 
@@ -210,6 +212,7 @@ public class KeywordRouteTable {
 
     public static void clear() {
         routeGroups.clear();
+        routesChanged();
     }
 
     public static List<Route> getRouteGroup(String groupName) {
@@ -224,6 +227,17 @@ public class KeywordRouteTable {
         return (List)routeGroups.get(groupName);
     }
 
+    /**
+     * Incremented whenever routes are added, cleared or re-rated, so results of route search can be cached.
+     */
+    public static int getModificationCount() {
+        return modificationCount.get();
+    }
+
+    static void routesChanged() {
+        modificationCount.incrementAndGet();
+    }
+
     public static LinkedHashMap<String, RouteGroup> getRouteGroups() {
         return routeGroups;
     }
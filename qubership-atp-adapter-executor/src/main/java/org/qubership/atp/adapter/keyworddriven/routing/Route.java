@@ -33,6 +33,7 @@ public abstract class Route {
     private final ArrayList<RouteItem> routeItems;
     private final ActionExecutor executor;
     private Pattern routeMask;
+    private volatile com.google.code.regexp.Pattern namedRouteMask;
     private Automaton maskAutomaton;
     private int rating;
     private final String description;
@@ -105,6 +106,31 @@ public abstract class Route {
         return Pattern.compile(clued.toString(), 34);
     }
 
+    /**
+     * Route mask with a named group per route item, compiled on first use.
+     */
+    public com.google.code.regexp.Pattern getNamedRouteMask() {
+        com.google.code.regexp.Pattern result = this.namedRouteMask;
+        if (result == null) {
+            StringBuilder clued = new StringBuilder("^");
+
+            for(int index = 0; index < this.routeItems.size(); ++index) {
+                RouteItem item = (RouteItem)this.routeItems.get(index);
+                String tab = index > 0 ? this.getDelim() : "";
+                clued.append("(?<").append(String.valueOf(index)).append(">").append(tab).append(item.getCellContentPattern()).append(")");
+                if (item.isParameter()) {
+                    clued.append("?");
+                }
+            }
+
+            clued.append("$");
+            result = com.google.code.regexp.Pattern.compile(clued.toString(), 34);
+            this.namedRouteMask = result;
+        }
+
+        return result;
+    }
+
     public String getDelim() {
         return this.delim;
     }
@@ -176,6 +202,7 @@ public abstract class Route {
 
     public void setRating(int rating) {
         this.rating = rating;
+        KeywordRouteTable.routesChanged();
     }
 
     public boolean deprecated() {
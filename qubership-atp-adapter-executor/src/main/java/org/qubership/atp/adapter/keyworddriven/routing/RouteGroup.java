@@ -61,6 +61,7 @@ public class RouteGroup extends LinkedList<Route> {
     }
 
     protected void logRouteAdding(Route... c) {
+        KeywordRouteTable.routesChanged();
         if (log.isTraceEnabled()) {
             Route[] var2 = c;
             int var3 = c.length;
@@ -0,0 +1,367 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+/**
+ * Bounded buffer between report producers and a single writer, drained by a dedicated consumer thread.
+ * Items are written through all report adapters in enqueue order.
+ * Only writers which do not depend on the calling thread may be dispatched asynchronously.
+ * With {@link OverflowPolicy#SPILL} items which do not fit the buffer are serialized to a bounded spill file,
+ * which the consumer reads after the buffered items, so the enqueue order is kept.
+ */
+public class AsyncReportDispatcher {
+    private static final Logger log = Logger.getLogger(AsyncReportDispatcher.class);
+    public static final long DEFAULT_SPILL_MAX_BYTES = 67108864L;
+    private final ReportWriter writer;
+    private final Iterable<ReportAdapter> adapters;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final long spillMaxBytes;
+    private final ArrayDeque<Object> items;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Condition written;
+    private final ThreadLocal<Long> lastEnqueued = new ThreadLocal();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread consumer;
+    private long enqueuedCount = 0L;
+    private long writtenCount = 0L;
+    private boolean stopped = false;
+    private RandomAccessFile spill;
+    private File spillFile;
+    private long spillReadPosition = 0L;
+    private long spillWritePosition = 0L;
+    private int spilledCount = 0;
+    private final AtomicLong spilled = new AtomicLong();
+
+    public AsyncReportDispatcher(ReportWriter writer, Iterable<ReportAdapter> adapters, int capacity, OverflowPolicy policy) {
+        this(writer, adapters, capacity, policy, DEFAULT_SPILL_MAX_BYTES);
+    }
+
+    public AsyncReportDispatcher(ReportWriter writer, Iterable<ReportAdapter> adapters, int capacity, OverflowPolicy policy, long spillMaxBytes) {
+        this.writer = writer;
+        this.adapters = adapters;
+        this.capacity = Math.max(1, capacity);
+        this.policy = policy;
+        this.spillMaxBytes = spillMaxBytes;
+        this.items = new ArrayDeque(this.capacity);
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+        this.written = this.lock.newCondition();
+        this.consumer = new Thread(this::consume, "report-writer-" + writer.getClass().getSimpleName());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public ReportWriter getWriter() {
+        return this.writer;
+    }
+
+    /**
+     * Put item to the buffer applying overflow policy when the buffer is full.
+     * While the spill file is not empty, items are spilled as well, since the consumer reads it after the buffer.
+     * Items which can not be spilled wait until the spill file is drained.
+     * Items put after {@link #shutdown()} are dropped.
+     */
+    public void enqueue(Object item) throws InterruptedException {
+        this.lock.lock();
+        try {
+            while ((this.items.size() >= this.capacity || this.spilledCount > 0) && !this.stopped) {
+                if (this.policy == OverflowPolicy.DROP_DEBUG && isDebug(item)) {
+                    this.dropped.incrementAndGet();
+                    return;
+                }
+                if (this.policy == OverflowPolicy.SPILL && this.spill(item)) {
+                    this.lastEnqueued.set(++this.enqueuedCount);
+                    this.notEmpty.signal();
+                    return;
+                }
+                this.notFull.await();
+            }
+            if (this.stopped) {
+                if (this.dropped.getAndIncrement() == 0L) {
+                    log.warn("Report writer " + this.writer.getClass().getSimpleName() + " is stopped, report items are dropped");
+                }
+                return;
+            }
+            this.items.addLast(item);
+            this.lastEnqueued.set(++this.enqueuedCount);
+            this.notEmpty.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Append item to the spill file. Must be called under the lock.
+     *
+     * @return false if the item is not serializable or the spill file is full
+     */
+    private boolean spill(Object item) {
+        if (!(item instanceof Serializable)) {
+            return false;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(item);
+            }
+            if (this.spillWritePosition + 4L + (long)bytes.size() > this.spillMaxBytes) {
+                return false;
+            }
+            if (this.spill == null) {
+                this.spillFile = File.createTempFile("report-spill-" + this.writer.getClass().getSimpleName() + "-", ".bin");
+                this.spillFile.deleteOnExit();
+                this.spill = new RandomAccessFile(this.spillFile, "rw");
+            }
+            this.spill.seek(this.spillWritePosition);
+            this.spill.writeInt(bytes.size());
+            this.spill.write(bytes.toByteArray());
+            this.spillWritePosition = this.spill.getFilePointer();
+            ++this.spilledCount;
+            if (this.spilled.getAndIncrement() == 0L) {
+                log.warn("Report buffer of " + this.writer.getClass().getSimpleName() + " is full, items are spilled to " + this.spillFile);
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to spill report item " + item + " of " + this.writer.getClass().getSimpleName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Read the oldest spilled item, the file is truncated when all items are read. Must be called under the lock.
+     * Items which can not be read are dropped and counted as written, so flushes do not wait for them.
+     *
+     * @return null if the item can not be read
+     */
+    private Object readSpilled() {
+        Object item = null;
+        int lost = 1;
+        try {
+            this.spill.seek(this.spillReadPosition);
+            byte[] bytes = new byte[this.spill.readInt()];
+            this.spill.readFully(bytes);
+            this.spillReadPosition = this.spill.getFilePointer();
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                item = in.readObject();
+                lost = 0;
+            } catch (IOException | ClassNotFoundException e) {
+                log.error("Failed to restore spilled report item of " + this.writer.getClass().getSimpleName(), e);
+            }
+        } catch (IOException e) {
+            log.error("Failed to read spilled report items of " + this.writer.getClass().getSimpleName() + ", they are dropped", e);
+            lost = this.spilledCount;
+        }
+        this.spilledCount -= lost == 0 ? 1 : lost;
+        if (lost > 0) {
+            this.dropped.addAndGet((long)lost);
+            this.writtenCount += (long)lost;
+            this.written.signalAll();
+        }
+        if (this.spilledCount == 0) {
+            this.spillReadPosition = 0L;
+            this.spillWritePosition = 0L;
+            try {
+                this.spill.setLength(0L);
+            } catch (IOException e) {
+                log.warn("Failed to truncate report spill file " + this.spillFile, e);
+            }
+        }
+        return item;
+    }
+
+    private void closeSpill() {
+        if (this.spill == null) {
+            return;
+        }
+        try {
+            this.spill.close();
+        } catch (IOException e) {
+            log.warn("Failed to close report spill file " + this.spillFile, e);
+        }
+        if (!this.spillFile.delete()) {
+            log.warn("Failed to delete report spill file " + this.spillFile);
+        }
+        this.spill = null;
+    }
+
+    /**
+     * Wait until all items enqueued by the calling thread are written.
+     * Items enqueued later or by other threads are not waited for, except those queued before the caller's items.
+     */
+    public void flush() throws InterruptedException {
+        Long sequence = (Long)this.lastEnqueued.get();
+        if (sequence != null) {
+            this.await(sequence);
+        }
+    }
+
+    /**
+     * Wait until all items enqueued by any thread before this call are written.
+     */
+    public void flushAll() throws InterruptedException {
+        long sequence;
+        this.lock.lock();
+        try {
+            sequence = this.enqueuedCount;
+        } finally {
+            this.lock.unlock();
+        }
+        this.await(sequence);
+    }
+
+    private void await(long sequence) throws InterruptedException {
+        if (Thread.currentThread() == this.consumer) {
+            return;
+        }
+        this.lock.lock();
+        try {
+            while (this.writtenCount < sequence && this.consumer.isAlive()) {
+                this.written.await(100L, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Write pending items, including the spilled ones, and stop consumer thread. The consumer stops when nothing
+     * is pending, so a write in progress is never interrupted.
+     */
+    public void shutdown() throws InterruptedException {
+        this.lock.lock();
+        try {
+            if (this.stopped) {
+                return;
+            }
+            this.stopped = true;
+            this.notEmpty.signal();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        if (Thread.currentThread() != this.consumer) {
+            this.consumer.join();
+        }
+    }
+
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Number of items which were put to the spill file.
+     */
+    public long getSpilledCount() {
+        return this.spilled.get();
+    }
+
+    public int getQueueSize() {
+        this.lock.lock();
+        try {
+            return this.items.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            Object item;
+            this.lock.lock();
+            try {
+                while (this.items.isEmpty() && this.spilledCount == 0 && !this.stopped) {
+                    this.notEmpty.awaitUninterruptibly();
+                }
+                if (!this.items.isEmpty()) {
+                    item = this.items.pollFirst();
+                } else if (this.spilledCount > 0) {
+                    item = this.readSpilled();
+                    if (item == null) {
+                        this.notFull.signalAll();
+                        continue;
+                    }
+                } else {
+                    this.closeSpill();
+                    return;
+                }
+                this.notFull.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+
+            try {
+                this.write(item);
+            } finally {
+                this.lock.lock();
+                try {
+                    ++this.writtenCount;
+                    this.written.signalAll();
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        }
+    }
+
+    private void write(Object item) {
+        Iterator var2 = this.adapters.iterator();
+
+        while(var2.hasNext()) {
+            ReportAdapter adapter = (ReportAdapter)var2.next();
+            try {
+                adapter.write(this.writer, item);
+            } catch (Throwable e) {
+                log.error("Failed to write report item " + item + " to " + this.writer.getClass().getSimpleName(), e);
+            }
+        }
+
+    }
+
+    private static boolean isDebug(Object item) {
+        return item instanceof WebReportItem.Message && ((WebReportItem.Message)item).getLevel() != null
+                && !((WebReportItem.Message)item).getLevel().isGreaterOrEqual(Level.INFO);
+    }
+
+    public static enum OverflowPolicy {
+        BLOCK,
+        DROP_DEBUG,
+        SPILL;
+
+        private OverflowPolicy() {
+        }
+    }
+}
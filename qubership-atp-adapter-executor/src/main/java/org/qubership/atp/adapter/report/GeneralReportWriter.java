@@ -191,7 +191,7 @@ public class GeneralReportWriter implements ReportWriter {
                 } else if (WebReportItem.printReportThrowableMessageShort && throwable.getMessage() != null) {
                     cause = throwable.getMessage();
                 } else {
-                    cause = "<pre>" + Utils.getStackTrace(throwable) + "</pre>";
+                    cause = "<pre>" + message.getStackTrace() + "</pre>";
                 }
 
                 ((ScenarioInfo)scenarioList.get(scenarioList.size() - 1)).setCause(cause);
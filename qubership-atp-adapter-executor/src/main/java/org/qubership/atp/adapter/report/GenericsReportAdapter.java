@@ -17,8 +17,13 @@
 package org.qubership.atp.adapter.report;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class GenericsReportAdapter<T extends ReportWriter> implements ReportAdapterWithSupport {
+    private static final Map<Class<?>, Class<?>> SUPPORTED_WRITERS = new ConcurrentHashMap();
+    private final Class<?> supportedWriter = getSupportedWriter(this.getClass());
+
     public GenericsReportAdapter() {
     }
 
@@ -31,13 +36,22 @@ public abstract class GenericsReportAdapter<T extends ReportWriter> implements R
     protected abstract void writeItem(T var1, Object var2);
 
     public boolean isSupported(ReportWriter writer) {
-        Class<?> thisClass = this.getClass();
+        return this.supportedWriter.isInstance(writer);
+    }
+
+    /**
+     * Resolves writer type from the generic parameter once per adapter class.
+     */
+    static Class<?> getSupportedWriter(Class<?> adapterClass) {
+        return (Class) SUPPORTED_WRITERS.computeIfAbsent(adapterClass, GenericsReportAdapter::resolveSupportedWriter);
+    }
+
+    private static Class<?> resolveSupportedWriter(Class<?> adapterClass) {
+        Class<?> thisClass = adapterClass;
 
         for(Class<?> breakClass = GenericsReportAdapter.class; thisClass.getSuperclass() != breakClass; thisClass = thisClass.getSuperclass()) {
         }
 
-        Class<?> Clazz = (Class)((ParameterizedType)thisClass.getGenericSuperclass()).getActualTypeArguments()[0];
-        return Clazz.isInstance(writer);
+        return (Class)((ParameterizedType)thisClass.getGenericSuperclass()).getActualTypeArguments()[0];
     }
 }
-
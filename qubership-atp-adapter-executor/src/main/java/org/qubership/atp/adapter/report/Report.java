@@ -24,16 +24,32 @@ import org.qubership.atp.adapter.report.rmi.RemoteParametersStorage;
 import org.qubership.atp.adapter.report.rmi.WebReportWriterWrapperRemote;
 import org.qubership.atp.adapter.testcase.Config;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
 
 public class Report {
+    private static final Logger log = Logger.getLogger(Report.class);
+    private static final Set<String> ASYNC_WRITERS = new HashSet(Arrays.asList(StringUtils.split(Config.getString("report.async.writers", ""), ", ")));
+    private static final int ASYNC_BUFFER_SIZE = Config.getInt("report.async.buffer.size", 1024);
+    private static final AsyncReportDispatcher.OverflowPolicy ASYNC_OVERFLOW_POLICY = getOverflowPolicy(Config.getString("report.async.overflow.policy", "BLOCK"));
+    private static final long ASYNC_SPILL_MAX_BYTES = (long)Config.getInt("report.async.spill.max.bytes", (int)AsyncReportDispatcher.DEFAULT_SPILL_MAX_BYTES);
     private static Report instance;
     private Queue<ReportWriter> reportWriters = new ConcurrentLinkedQueue();
     private Queue<ReportAdapter> reportAdapters = new ConcurrentLinkedQueue();
+    private Map<ReportWriter, AsyncReportDispatcher> dispatchers = new ConcurrentHashMap();
+    private volatile Route[] routes = new Route[0];
     private static ThreadLocal<Boolean> init = new ThreadLocal();
 
     private Report() {
@@ -71,15 +87,47 @@ public class Report {
     }
 
     public boolean addWriter(ReportWriter e) {
-        return this.reportWriters.add(e);
+        if (ASYNC_WRITERS.contains(e.getClass().getName()) || ASYNC_WRITERS.contains(e.getClass().getSimpleName())) {
+            this.dispatchers.put(e, new AsyncReportDispatcher(e, this.reportAdapters, ASYNC_BUFFER_SIZE, ASYNC_OVERFLOW_POLICY, ASYNC_SPILL_MAX_BYTES));
+        }
+
+        boolean added = this.reportWriters.add(e);
+        this.rebuildRoutes();
+        return added;
     }
 
     public boolean removeWriter(ReportWriter o) {
-        return this.reportWriters.remove(o);
+        boolean removed = this.reportWriters.remove(o);
+        AsyncReportDispatcher dispatcher = (AsyncReportDispatcher)this.dispatchers.remove(o);
+        this.rebuildRoutes();
+        if (dispatcher != null) {
+            this.shutdown(dispatcher);
+        }
+
+        if (removed) {
+            o.awaitPendingWrites();
+        }
+
+        return removed;
     }
 
     public void removeAllWriters() {
-        this.reportWriters.clear();
+        List<ReportWriter> removed = new ArrayList(this.reportWriters);
+        this.reportWriters.removeAll(removed);
+        Iterator var1 = this.dispatchers.values().iterator();
+
+        while(var1.hasNext()) {
+            this.shutdown((AsyncReportDispatcher)var1.next());
+        }
+
+        this.dispatchers.clear();
+        this.rebuildRoutes();
+        Iterator var2 = removed.iterator();
+
+        while(var2.hasNext()) {
+            ((ReportWriter)var2.next()).awaitPendingWrites();
+        }
+
     }
 
     public Iterator<ReportAdapter> adapterIterator() {
@@ -87,18 +135,99 @@ public class Report {
     }
 
     public boolean addAdapter(ReportAdapter e) {
-        return this.reportAdapters.add(e);
+        boolean added = this.reportAdapters.add(e);
+        this.rebuildRoutes();
+        return added;
     }
 
     public boolean removeAdapter(ReportAdapter o) {
-        return this.reportAdapters.remove(o);
+        boolean removed = this.reportAdapters.remove(o);
+        this.rebuildRoutes();
+        return removed;
     }
 
     public void removeAllAdapters() {
         this.reportAdapters.clear();
+        this.rebuildRoutes();
     }
 
     public void message(Object item) {
+        Route[] currentRoutes = this.routes;
+
+        for(int i = 0; i < currentRoutes.length; ++i) {
+            currentRoutes[i].adapter.write(currentRoutes[i].writer, item);
+        }
+
+        if (!this.dispatchers.isEmpty()) {
+            Iterator dispatcherIterator = this.dispatchers.values().iterator();
+
+            while(dispatcherIterator.hasNext()) {
+                AsyncReportDispatcher dispatcher = (AsyncReportDispatcher)dispatcherIterator.next();
+
+                try {
+                    dispatcher.enqueue(item);
+                } catch (InterruptedException var6) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while putting report item to the buffer of " + dispatcher.getWriter().getClass().getSimpleName());
+                }
+            }
+
+            if (item instanceof WebReportItem.CloseLog) {
+                this.flush();
+            }
+        }
+
+    }
+
+    /**
+     * Wait until items put to asynchronous writers by the current thread are written
+     * and writers finish their background writes.
+     */
+    public void flush() {
+        this.flush(false);
+    }
+
+    /**
+     * Wait until items put to asynchronous writers by any thread before this call are written
+     * and writers finish their background writes.
+     */
+    public void flushAll() {
+        this.flush(true);
+    }
+
+    private void flush(boolean allThreads) {
+        Iterator var2 = this.dispatchers.values().iterator();
+
+        while(var2.hasNext()) {
+            AsyncReportDispatcher dispatcher = (AsyncReportDispatcher)var2.next();
+
+            try {
+                if (allThreads) {
+                    dispatcher.flushAll();
+                } else {
+                    dispatcher.flush();
+                }
+            } catch (InterruptedException var5) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while flushing report buffer of " + dispatcher.getWriter().getClass().getSimpleName());
+                return;
+            }
+        }
+
+        Iterator var6 = this.reportWriters.iterator();
+
+        while(var6.hasNext()) {
+            ((ReportWriter)var6.next()).awaitPendingWrites();
+        }
+
+    }
+
+    /**
+     * Precomputes adapter and synchronous writer pairs which items are written to,
+     * so that {@link #message(Object)} does not resolve writer support for every item.
+     */
+    private synchronized void rebuildRoutes() {
+        List<Route> result = new ArrayList();
         Iterator reportAdapterIterator = this.reportAdapters.iterator();
 
         while(reportAdapterIterator.hasNext()) {
@@ -107,10 +236,32 @@ public class Report {
 
             while(reportWriterIterator.hasNext()) {
                 ReportWriter report = (ReportWriter)reportWriterIterator.next();
-                adapter.write(report, item);
+                if (!this.dispatchers.containsKey(report)
+                        && (!(adapter instanceof ReportAdapterWithSupport) || ((ReportAdapterWithSupport)adapter).isSupported(report))) {
+                    result.add(new Route(adapter, report));
+                }
             }
         }
 
+        this.routes = (Route[])result.toArray(new Route[result.size()]);
+    }
+
+    private static AsyncReportDispatcher.OverflowPolicy getOverflowPolicy(String name) {
+        try {
+            return AsyncReportDispatcher.OverflowPolicy.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException var2) {
+            log.warn("Unknown report.async.overflow.policy '" + name + "', BLOCK is used");
+            return AsyncReportDispatcher.OverflowPolicy.BLOCK;
+        }
+    }
+
+    private void shutdown(AsyncReportDispatcher dispatcher) {
+        try {
+            dispatcher.shutdown();
+        } catch (InterruptedException var3) {
+            Thread.currentThread().interrupt();
+        }
+
     }
 
     public void info(String title) {
@@ -193,6 +344,10 @@ public class Report {
         this.message(WebReportItem.closeLog());
     }
 
+    public void releaseLog() {
+        this.message(WebReportItem.releaseLog());
+    }
+
     public void openSection(String sectionName) {
         this.openSection(sectionName, (String)null, (SourceProvider)null);
     }
@@ -226,6 +381,16 @@ public class Report {
         return abstractWebReportWriter == null ? null : ((AbstractWebReportWriter)abstractWebReportWriter).getReportDir();
     }
 
+    private static class Route {
+        private final ReportAdapter adapter;
+        private final ReportWriter writer;
+
+        private Route(ReportAdapter adapter, ReportWriter writer) {
+            this.adapter = adapter;
+            this.writer = writer;
+        }
+    }
+
     static {
         if (Config.getBoolean("use.diff.report", false)) {
             getReport().addWriter(new WebReportWriterDiff());
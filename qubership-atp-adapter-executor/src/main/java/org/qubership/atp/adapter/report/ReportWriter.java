@@ -17,4 +17,10 @@
 package org.qubership.atp.adapter.report;
 
 public interface ReportWriter {
+    /**
+     * Waits until writes the writer does in background are finished.
+     * Called by {@link Report#flush()}, {@link Report#flushAll()} and when the writer is removed.
+     */
+    default void awaitPendingWrites() {
+    }
 }
@@ -27,6 +27,7 @@ import org.qubership.atp.adapter.utils.Utils;
 
 public abstract class WebReportItem implements Serializable {
     public static Boolean printReportThrowableMessageShort = Config.getBoolean("report.throwable.message.short");
+    public static int reportThrowableMaxFrames = Config.getInt("report.throwable.max.frames", 0);
 
     public WebReportItem() {
     }
@@ -59,6 +60,10 @@ public abstract class WebReportItem implements Serializable {
         return new CloseLog();
     }
 
+    public static ReleaseLog releaseLog() {
+        return new ReleaseLog();
+    }
+
     public String getNewConvertedFieldValue(String value) {
         try {
             if (value == null) {
@@ -94,6 +99,20 @@ public abstract class WebReportItem implements Serializable {
         }
 
         public void message(WebReportWriterWraper webReportWriter) {
+            webReportWriter.getWebReportWriter().closeLog();
+        }
+    }
+
+    /**
+     * Sent at the end of a test case: the web report writes its buffered messages and releases the report files.
+     * Unlike {@link CloseLog} it does not close the log for other writers.
+     */
+    public static class ReleaseLog extends WebReportItem {
+        public ReleaseLog() {
+        }
+
+        public void message(WebReportWriterWraper webReportWriter) {
+            webReportWriter.getWebReportWriter().closeLog();
         }
     }
 
@@ -176,6 +195,7 @@ public abstract class WebReportItem implements Serializable {
         private SourceProvider page;
         private Throwable throwable;
         private LinkedHashMap<Object, Object> addValues;
+        private transient volatile String stackTrace;
 
         public Message(String title, Level level, String message, Throwable throwable, SourceProvider page) {
             this.title = this.getNewFieldValue(title);
@@ -219,6 +239,31 @@ public abstract class WebReportItem implements Serializable {
             return this.throwable;
         }
 
+        /**
+         * Stack trace of the throwable rendered once and shared by all writers, or null if there is no throwable.
+         */
+        public String getStackTrace() {
+            if (this.throwable == null) {
+                return null;
+            } else {
+                String result = this.stackTrace;
+                if (result == null) {
+                    result = Utils.getStackTrace(this.throwable, reportThrowableMaxFrames);
+                    this.stackTrace = result;
+                }
+
+                return result;
+            }
+        }
+
+        /**
+         * Message followed by the rendered stack trace in a {@code <pre>} block.
+         */
+        public String getMessageWithStackTrace() {
+            String message = this.message == null ? "" : this.message;
+            return this.throwable == null ? message : message + "<pre>" + this.getStackTrace() + "</pre>";
+        }
+
         public Object getAddValue(String key, Object defaultValue) {
             return this.getAddValues().containsKey(key) ? this.getAddValues().get(key) : defaultValue;
         }
@@ -230,7 +275,7 @@ public abstract class WebReportItem implements Serializable {
                 if (printReportThrowableMessageShort && this.throwable.getMessage() != null) {
                     message = message + this.throwable.getMessage();
                 } else {
-                    message = message + Utils.getStackTrace(this.throwable);
+                    message = message + this.getStackTrace();
                 }
 
                 message = message + "</pre>";
@@ -18,6 +18,7 @@ package org.qubership.atp.adapter.report;
 
 import org.qubership.atp.adapter.testcase.Config;
 import org.qubership.atp.adapter.utils.Utils;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
@@ -26,6 +27,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -52,6 +54,8 @@ public class WebReportWriter extends AbstractWebReportWriter {
     private static final SimpleDateFormat timeFormat;
     private static final String LOG_REPORT_SNAPSHOTS = "report.log.snapshots";
     private static final String SPLIT_REPORT = "report.split.enable";
+    private static final String REPORT_BUFFER_SIZE = "report.buffer.size";
+    private static final int TAIL_REGION_SIZE = 1024;
     private static final boolean SHOW_PAGE_SOURCES;
     private static ReportThreadLocal report;
     private static ArrayList<File> snapshotFiles;
@@ -64,6 +68,11 @@ public class WebReportWriter extends AbstractWebReportWriter {
     private Stack<Long> timeStack = new Stack();
     private File reportFile;
     private long reportFileLength;
+    private int tailRegionSize;
+    private final ByteArrayOutputStream reportBuffer = new ByteArrayOutputStream();
+    private int reportBufferSize;
+    private FileChannel reportChannel;
+    private FileChannel indexChannel;
     private long indexPosition;
     private File reportDir;
     private boolean logReportSnapshots = false;
@@ -89,6 +98,7 @@ public class WebReportWriter extends AbstractWebReportWriter {
     private void createReportDir(Properties p) {
         this.logReportSnapshots = Config.getBoolean("report.log.snapshots", false);
         this.reportEncoding = Config.getString("report.encoding", "utf-8");
+        this.reportBufferSize = Config.getInt(REPORT_BUFFER_SIZE, 0);
         changeEncoding(this.reportEncoding);
         String reportDirname = this.getReportDirName(p);
         this.reportDir = new File(this.getReportDirRoot(p), Utils.sanitizeFilename(reportDirname));
@@ -147,6 +157,7 @@ public class WebReportWriter extends AbstractWebReportWriter {
     }
 
     public synchronized void openLog(String logName, String description) {
+        this.closeLog();
         if (Boolean.parseBoolean(Config.getString("report.split.enable"))) {
             this.createReportDir((Properties)null);
         }
@@ -168,47 +179,102 @@ public class WebReportWriter extends AbstractWebReportWriter {
         this.timeStack.clear();
         this.reportFile = new File(this.reportDir, filename);
         this.reportFile.delete();
+        this.reportFileLength = 0L;
+        this.tailRegionSize = 0;
         reportFiles.set(this.reportFile.getAbsolutePath());
         this.appendReportFile("<?xml version=\"1.0\" encoding=\"" + this.reportEncoding + "\"?>\n" + "<?xml-stylesheet type=\"text/xsl\" href=\"template/tree.xsl\"?>\n" + "<LOG date=\"" + dateFormat.format(new Date()) + "\" t=\"" + timeFormat.format(new Date()) + "\">\n" + "<logName id='" + this.logId + "'><![CDATA[" + logName + "]]></logName>\n");
-        this.reportFileLength = this.reportFile.length();
         this.timeStack.push(System.currentTimeMillis());
         this.msgId = 0;
         this.maxPriorityReported = 20000;
         this.indexPosition = this.indexFile.length();
+        this.flushReport();
     }
 
-    public void closeLog() {
+    /**
+     * Writes buffered messages and releases the report files.
+     * The log stays current: a message written after this call reopens the files and continues the log.
+     */
+    public synchronized void closeLog() {
+        this.flushReport();
+        this.closeChannels();
+    }
+
+    private void closeChannels() {
+        Utils.close(new Closeable[]{this.reportChannel, this.indexChannel});
+        this.reportChannel = null;
+        this.indexChannel = null;
     }
 
     private void appendTail() {
+        if (this.reportBuffer.size() >= this.reportBufferSize) {
+            this.flushReport();
+        }
+
+    }
+
+    private void flushReport() {
         if (this.reportFile != null) {
-            this.reportFileLength = this.reportFile.length();
+            StringBuilder tail = new StringBuilder();
             int i = 0;
 
             for(int size = this.currentLogCallStack.size(); i < size; ++i) {
-                this.appendReportFile(this.formatMessageClose());
+                tail.append(this.formatMessageClose());
             }
 
-            this.appendReportFile(this.formatMessageTime((Long)this.timeStack.lastElement(), System.currentTimeMillis()) + "</LOG>");
-            FileChannel indexFileChannel = null;
+            tail.append(this.formatMessageTime((Long)this.timeStack.lastElement(), System.currentTimeMillis())).append("</LOG>");
+            byte[] tailBytes = tail.toString().getBytes();
+            int regionSize = Math.max(this.tailRegionSize, (tailBytes.length + TAIL_REGION_SIZE - 1) / TAIL_REGION_SIZE * TAIL_REGION_SIZE);
+            byte[] region = Arrays.copyOf(tailBytes, regionSize);
+            Arrays.fill(region, tailBytes.length, regionSize, (byte)32);
+            byte[] body = this.reportBuffer.toByteArray();
+            this.reportBuffer.reset();
 
             try {
-                indexFileChannel = (new RandomAccessFile(this.indexFile, "rw")).getChannel();
-                byte[] indexBytes = ("<div id='" + this.logId + "' class=\"" + Level.toLevel(this.maxPriorityReported).toString().toLowerCase() + "\">" + "<a href=\"" + this.reportFile.getName() + "\" " + (this.description == null ? "" : (this.description.isEmpty() ? "" : "TITLE=\"" + this.description.replaceAll("\"", "'") + "\" ")) + " onclick=\"highlight(this);\">" + this.currentLogName + "</a>" + "</div>").getBytes();
-                indexFileChannel.write(ByteBuffer.wrap(indexBytes), this.indexPosition);
-                indexFileChannel.truncate(this.indexPosition + (long)indexBytes.length);
-            } catch (IOException var6) {
-                log.error("Unable to write to index file", var6);
-            } finally {
-                Utils.close(new Closeable[]{indexFileChannel});
+                if (this.reportChannel == null) {
+                    this.reportChannel = (new RandomAccessFile(this.reportFile, "rw")).getChannel();
+                }
+
+                ByteBuffer[] buffers = new ByteBuffer[]{ByteBuffer.wrap(body), ByteBuffer.wrap(region)};
+                this.reportChannel.position(this.reportFileLength);
+
+                while(buffers[1].hasRemaining()) {
+                    this.reportChannel.write(buffers);
+                }
+
+                this.reportFileLength += (long)body.length;
+                this.tailRegionSize = regionSize;
+            } catch (IOException var8) {
+                IOException e = var8;
+                log.error("Unable to write to " + this.reportFile.getName(), e);
+                Utils.close(new Closeable[]{this.reportChannel});
+                this.reportChannel = null;
             }
 
+            this.writeIndex();
         }
     }
 
+    private void writeIndex() {
+        try {
+            if (this.indexChannel == null) {
+                this.indexChannel = (new RandomAccessFile(this.indexFile, "rw")).getChannel();
+            }
+
+            FileChannel indexFileChannel = this.indexChannel;
+            byte[] indexBytes = ("<div id='" + this.logId + "' class=\"" + Level.toLevel(this.maxPriorityReported).toString().toLowerCase() + "\">" + "<a href=\"" + this.reportFile.getName() + "\" " + (this.description == null ? "" : (this.description.isEmpty() ? "" : "TITLE=\"" + this.description.replaceAll("\"", "'") + "\" ")) + " onclick=\"highlight(this);\">" + this.currentLogName + "</a>" + "</div>").getBytes();
+            writeFully(indexFileChannel, ByteBuffer.wrap(indexBytes), this.indexPosition);
+            indexFileChannel.truncate(this.indexPosition + (long)indexBytes.length);
+        } catch (IOException var3) {
+            log.error("Unable to write to index file", var3);
+            Utils.close(new Closeable[]{this.indexChannel});
+            this.indexChannel = null;
+        }
+
+    }
+
     public synchronized void openSection(String sectionName, String message, SourceProvider page, LinkedHashMap<Object, Object> addValues) {
         this.currentLogCallStack.push(sectionName);
-        this.appendReportFile(this.formatMessageOpen(sectionName, (Level)null, message, page, addValues), this.reportFileLength);
+        this.appendReportFile(this.formatMessageOpen(sectionName, (Level)null, message, page, addValues));
         Iterator i$ = this.customLoggers.iterator();
 
         while(i$.hasNext()) {
@@ -223,7 +289,7 @@ public class WebReportWriter extends AbstractWebReportWriter {
     public synchronized void closeSection() {
         if (!this.currentLogCallStack.isEmpty()) {
             this.currentLogCallStack.pop();
-            this.appendReportFile(this.formatMessageTime((Long)this.timeStack.pop(), System.currentTimeMillis()) + this.formatMessageClose(), this.reportFileLength);
+            this.appendReportFile(this.formatMessageTime((Long)this.timeStack.pop(), System.currentTimeMillis()) + this.formatMessageClose());
             this.appendTail();
         }
     }
@@ -234,7 +300,7 @@ public class WebReportWriter extends AbstractWebReportWriter {
 
     public synchronized void message(String title, Level level, String message, SourceProvider page, LinkedHashMap<Object, Object> addValues) {
         this.maxPriorityReported = Math.max(this.maxPriorityReported, level.toInt());
-        this.appendReportFile(this.formatMessageOpen(title, level, message, page, addValues) + this.formatMessageClose(), this.reportFileLength);
+        this.appendReportFile(this.formatMessageOpen(title, level, message, page, addValues) + this.formatMessageClose());
         String msg = this.currentLogCallStack.toString() + " Title: " + (title == null ? "" : title) + ", Message: " + (message == null ? "" : message);
         Iterator i$ = this.customLoggers.iterator();
 
@@ -349,38 +415,17 @@ public class WebReportWriter extends AbstractWebReportWriter {
     }
 
     private void appendReportFile(String data) {
-        this.appendReportFile(data, -1L);
-    }
-
-    private void appendReportFile(String data, long position) {
         if (this.reportFile != null) {
-            FileChannel fileChannel = null;
             byte[] dataBytes = data.getBytes();
+            this.reportBuffer.write(dataBytes, 0, dataBytes.length);
+        }
+    }
 
-            try {
-                fileChannel = (new RandomAccessFile(this.reportFile, "rw")).getChannel();
-                if (position > 0L) {
-                    fileChannel.write(ByteBuffer.wrap(dataBytes), position);
-                    fileChannel.truncate(position + (long)dataBytes.length);
-                } else {
-                    fileChannel.write(ByteBuffer.wrap(dataBytes), fileChannel.size());
-                }
-            } catch (IOException var15) {
-                IOException e = var15;
-                log.error("Unable to write to " + this.reportFile.getName(), e);
-            } finally {
-                try {
-                    if (fileChannel != null) {
-                        fileChannel.close();
-                    }
-                } catch (IOException var14) {
-                    IOException e = var14;
-                    log.error("Unable to close " + this.reportFile.getName(), e);
-                }
-
-            }
-
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while(buffer.hasRemaining()) {
+            position += (long)channel.write(buffer, position);
         }
+
     }
 
     public File getReportDir() {
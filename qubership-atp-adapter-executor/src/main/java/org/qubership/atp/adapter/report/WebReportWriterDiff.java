@@ -27,6 +27,7 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.FileChannel;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Formatter;
 import java.util.Iterator;
@@ -35,6 +36,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
 import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.logging.Log;
@@ -56,12 +60,17 @@ public class WebReportWriterDiff extends AbstractWebReportWriter {
     private static AtomicInteger LOG_COUNTER;
     private static ReportThreadLocal REPORT;
     private static String REPORT_JAR_DIR;
+    private static final boolean DIFF_ASYNC = Config.getBoolean("report.diff.async", false);
+    private static final int DIFF_TIMEOUT_MS = Config.getInt("report.diff.timeout.ms", 1000);
+    private static final int DIFF_MAX_SIZE = Config.getInt("report.diff.max.size", 0);
     private String reportEncoding;
     private File reportDir;
     private List<Logger> customLoggers;
     private String originContent;
     private String originName;
     private boolean isInit = false;
+    private ExecutorService diffExecutor;
+    private volatile boolean rebaseRequested = false;
 
     public WebReportWriterDiff() {
         this.init();
@@ -140,6 +149,34 @@ public class WebReportWriterDiff extends AbstractWebReportWriter {
     }
 
     public void closeLog() {
+        this.awaitDiffs();
+    }
+
+    public void awaitPendingWrites() {
+        this.awaitDiffs();
+    }
+
+    /**
+     * Wait until diffs submitted to the background worker are written.
+     */
+    public void awaitDiffs() {
+        ExecutorService executor;
+        synchronized(this) {
+            executor = this.diffExecutor;
+        }
+
+        if (executor != null) {
+            try {
+                executor.submit(() -> {
+                }).get();
+            } catch (InterruptedException var3) {
+                Thread.currentThread().interrupt();
+                LOG.error("Interrupted while waiting for snapshot diffs", var3);
+            } catch (ExecutionException var4) {
+                LOG.error("Unable to wait for snapshot diffs", var4);
+            }
+        }
+
     }
 
     private void writeIndex() {
@@ -214,33 +251,89 @@ public class WebReportWriterDiff extends AbstractWebReportWriter {
     }
 
     private String createSnapshot(SourceProvider page) {
-        Long startTime = System.currentTimeMillis();
         String pageFilename = "page" + String.format("%04d", PAGE_COUNTER.incrementAndGet());
         File pageFileHTML = new File(new File(this.reportDir, "pages"), pageFilename + "." + page.getExtension());
+        String source = page.getSource();
         if (this.originName == null) {
-            this.originName = pageFileHTML.getName();
-            this.originContent = page.getSource();
-            Utils.writeStringToFile(pageFileHTML, this.originContent);
+            this.setOrigin(pageFileHTML, source);
         } else if ("xml".equals(page.getExtension())) {
-            Utils.writeStringToFile(pageFileHTML, page.getSource());
+            Utils.writeStringToFile(pageFileHTML, source);
+        } else if (this.rebaseRequested || DIFF_MAX_SIZE > 0 && (source.length() > DIFF_MAX_SIZE || this.originContent.length() > DIFF_MAX_SIZE)) {
+            this.rebaseRequested = false;
+            this.setOrigin(pageFileHTML, source);
         } else {
-            DiffMatchPatch dfp = new DiffMatchPatch();
-            LinkedList<DiffMatchPatch.Diff> difs = dfp.diff_main(this.originContent, page.getSource());
-            String textDiff = dfp.diff_toDelta(difs);
-            if (textDiff.length() >= page.getSource().length()) {
-                this.originName = pageFileHTML.getName();
-                this.originContent = page.getSource();
-                Utils.writeStringToFile(pageFileHTML, this.originContent);
-            } else {
-                File pageFileDiff = new File(new File(this.reportDir, "pages"), pageFilename + ".diff");
-                Utils.writeStringToFile(pageFileDiff, textDiff);
+            File pageFileDiff = new File(new File(this.reportDir, "pages"), pageFilename + ".diff");
+            String origin = this.originContent;
+            if (DIFF_ASYNC) {
+                this.getDiffExecutor().execute(() -> this.writeDiff(origin, source, pageFileDiff));
                 pageFileHTML = pageFileDiff;
+            } else {
+                String textDiff = this.diff(origin, source);
+                if (textDiff == null) {
+                    this.setOrigin(pageFileHTML, source);
+                } else {
+                    Utils.writeStringToFile(pageFileDiff, textDiff);
+                    pageFileHTML = pageFileDiff;
+                }
             }
         }
 
         return pageFileHTML.getName();
     }
 
+    private void setOrigin(File pageFile, String source) {
+        this.originName = pageFile.getName();
+        this.originContent = source;
+        Utils.writeStringToFile(pageFile, source);
+    }
+
+    private synchronized ExecutorService getDiffExecutor() {
+        if (this.diffExecutor == null) {
+            this.diffExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+                Thread thread = new Thread(runnable, "report-snapshot-diff");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return this.diffExecutor;
+    }
+
+    /**
+     * Runs on the diff worker. The file name is already referenced from the report,
+     * so when diff budget is exceeded the whole page is written as a replacement delta
+     * and the next snapshot becomes a new base version.
+     */
+    private void writeDiff(String origin, String source, File pageFileDiff) {
+        String textDiff = this.diff(origin, source);
+        if (textDiff == null) {
+            DiffMatchPatch dfp = new DiffMatchPatch();
+            LinkedList<DiffMatchPatch.Diff> replacement = new LinkedList(Arrays.asList(new DiffMatchPatch.Diff(DiffMatchPatch.Operation.DELETE, origin), new DiffMatchPatch.Diff(DiffMatchPatch.Operation.INSERT, source)));
+            textDiff = dfp.diff_toDelta(replacement);
+            this.rebaseRequested = true;
+        }
+
+        Utils.writeStringToFile(pageFileDiff, textDiff);
+    }
+
+    /**
+     * Returns delta between pages or null if it can't be computed within the time budget
+     * or is not shorter than the page itself.
+     */
+    private String diff(String origin, String source) {
+        DiffMatchPatch dfp = new DiffMatchPatch();
+        dfp.Diff_Timeout = DIFF_TIMEOUT_MS <= 0 ? 0.0F : (float)DIFF_TIMEOUT_MS / 1000.0F;
+        long startTime = System.currentTimeMillis();
+        LinkedList<DiffMatchPatch.Diff> difs = dfp.diff_main(origin, source);
+        if (DIFF_TIMEOUT_MS > 0 && System.currentTimeMillis() - startTime >= (long)DIFF_TIMEOUT_MS) {
+            LOG.debug("Snapshot diff exceeded " + DIFF_TIMEOUT_MS + " ms, full snapshot is used");
+            return null;
+        } else {
+            String textDiff = dfp.diff_toDelta(difs);
+            return textDiff.length() >= source.length() ? null : textDiff;
+        }
+    }
+
     private String formatMessageOpen(String title, Level level, String message, SourceProvider page) {
         StringBuilder result = new StringBuilder();
         result.append("<MSG id=\"").append(this.log().msgId++).append("\"");
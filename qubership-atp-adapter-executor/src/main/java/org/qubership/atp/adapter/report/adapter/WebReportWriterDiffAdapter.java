@@ -19,7 +19,6 @@ package org.qubership.atp.adapter.report.adapter;
 import org.qubership.atp.adapter.report.GenericsReportAdapter;
 import org.qubership.atp.adapter.report.WebReportItem;
 import org.qubership.atp.adapter.report.WebReportWriterDiff;
-import org.qubership.atp.adapter.utils.Utils;
 
 public class WebReportWriterDiffAdapter extends GenericsReportAdapter<WebReportWriterDiff> {
     public WebReportWriterDiffAdapter() {
@@ -28,12 +27,7 @@ public class WebReportWriterDiffAdapter extends GenericsReportAdapter<WebReportW
     public void writeItem(WebReportWriterDiff writer, Object item) {
         if (item instanceof WebReportItem.Message) {
             WebReportItem.Message msg = (WebReportItem.Message)item;
-            StringBuilder message = new StringBuilder(msg.getMessage());
-            if (msg.getThrowable() != null) {
-                message.append("<pre>").append(Utils.getStackTrace(msg.getThrowable())).append("</pre>");
-            }
-
-            writer.message(msg.getTitle(), msg.getLevel(), message.toString(), msg.getPage());
+            writer.message(msg.getTitle(), msg.getLevel(), msg.getMessageWithStackTrace(), msg.getPage());
         } else if (item instanceof WebReportItem.OpenSection) {
             WebReportItem.OpenSection os = (WebReportItem.OpenSection)item;
             writer.openSection(os.getTitle(), os.getMessage(), os.getPage());
@@ -20,7 +20,6 @@ import org.qubership.atp.adapter.report.WebReportItem;
 import org.qubership.atp.adapter.report.WebReportWriterDiff;
 import org.qubership.atp.adapter.report.WebReportWriterWraper;
 import org.qubership.atp.adapter.testcase.Config;
-import org.qubership.atp.adapter.utils.Utils;
 import java.rmi.RemoteException;
 import java.rmi.server.UnicastRemoteObject;
 
@@ -40,12 +39,7 @@ public class LocalToRemoteReportAdapter extends UnicastRemoteObject implements R
             if (Config.getBoolean("use.diff.report", false)) {
                 if (item instanceof WebReportItem.Message) {
                     WebReportItem.Message msg = (WebReportItem.Message)item;
-                    StringBuilder message = new StringBuilder(msg.getMessage());
-                    if (msg.getThrowable() != null) {
-                        message.append("<pre>").append(Utils.getStackTrace(msg.getThrowable())).append("</pre>");
-                    }
-
-                    this.writer.message(msg.getTitle(), msg.getLevel(), message.toString(), msg.getPage());
+                    this.writer.message(msg.getTitle(), msg.getLevel(), msg.getMessageWithStackTrace(), msg.getPage());
                 }
             } else {
                 ((WebReportItem)item).message(this.wraper);
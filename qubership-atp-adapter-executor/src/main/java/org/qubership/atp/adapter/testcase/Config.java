@@ -47,6 +47,7 @@ public class Config {
     public static final String PROPERTIES_FILE;
     private static final Pattern PARAMETRIZATION_PATTERN;
     private static Properties config;
+    private static volatile int modificationCount;
     private static final DocumentBuilder builder;
     private static final TimeZone serverTimeZone;
     private static String tempDirPathname;
@@ -65,6 +66,14 @@ public class Config {
     public static void setTestPropertiesFilePath(String _propertiesFilePath) {
         config = readParameterizedPropertiesFile(new File(_propertiesFilePath));
         propertiesFilePath = _propertiesFilePath;
+        ++modificationCount;
+    }
+
+    /**
+     * Incremented whenever config is reloaded or changed through this class.
+     */
+    public static int getModificationCount() {
+        return modificationCount;
     }
 
     public static String getString(String key) {
@@ -103,6 +112,7 @@ public class Config {
 
     public static void setString(String key, String value) {
         config.setProperty(key.trim(), value.trim());
+        ++modificationCount;
     }
 
     public static Map<String, String> getStringsByPrefix(String prefix) {
@@ -217,6 +227,8 @@ public class Config {
             config.setProperty(element, System.getProperty(element));
         }
 
+        ++modificationCount;
+
         return config;
     }
 
@@ -17,6 +17,7 @@
 package org.qubership.atp.adapter.tools.tacomponents.context;
 
 import com.google.common.base.Preconditions;
+import org.qubership.atp.adapter.tools.tacomponents.context.threading.ContextScope;
 import org.qubership.atp.adapter.tools.tacomponents.context.threading.ScopeModel;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -58,11 +59,8 @@ abstract class ContextProvider implements ContextDataStorageProvider {
 
     @Nullable
     protected ContextDataStorage findInThreadGroups(@Nonnull Class<?> targetProviderClass) {
-        ThreadGroup threadGroup;
-        for(threadGroup = Thread.currentThread().getThreadGroup(); !targetProviderClass.isAssignableFrom(threadGroup.getClass()) && threadGroup.getParent() != null; threadGroup = threadGroup.getParent()) {
-        }
-
-        return targetProviderClass.isAssignableFrom(threadGroup.getClass()) ? ((ContextDataStorageProvider)threadGroup).getContextDataStorage() : null;
+        ContextScope scope = ContextScope.current();
+        ContextDataStorageProvider provider = scope != null ? scope.find(targetProviderClass) : ContextScope.findInThreadGroups(Thread.currentThread().getThreadGroup(), targetProviderClass);
+        return provider == null ? null : provider.getContextDataStorage();
     }
 }
-
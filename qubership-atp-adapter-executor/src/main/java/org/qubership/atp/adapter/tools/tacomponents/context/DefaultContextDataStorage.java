@@ -40,7 +40,7 @@ public class DefaultContextDataStorage implements ContextDataStorage {
             return input.getValue();
         }
     };
-    private final Map<String, ContextRecord<?>> records = new HashMap();
+    private final ModificationTrackingMap<String, ContextRecord<?>> records = new ModificationTrackingMap(new HashMap());
     private final transient Map<String, Object> proxyView;
     private final transient EventBus eventBus;
 
@@ -64,7 +64,7 @@ public class DefaultContextDataStorage implements ContextDataStorage {
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeObject(this.records);
+        out.writeObject(this.records.getMap());
     }
 
     public <T> ContextRecord<T> putValue(@Nonnull String key, @Nullable T value) {
@@ -142,6 +142,21 @@ public class DefaultContextDataStorage implements ContextDataStorage {
         this.eventBus.post(new ClearValuesEvent(this));
     }
 
+    /**
+     * Incremented on every change made through this storage or its live maps, lets callers detect that cached views
+     * are stale.
+     */
+    public int getModificationCount() {
+        return this.records.getModificationCount();
+    }
+
+    /**
+     * Listener run after every change counted by {@link #getModificationCount()}.
+     */
+    public void setModificationListener(Runnable modificationListener) {
+        this.records.setModificationListener(modificationListener);
+    }
+
     @Nonnull
     public EventBus getEventBus() {
         return this.eventBus;
@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.tools.tacomponents.context;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+/**
+ * Map view which counts changes made through it, including the ones made through its key, value and entry views,
+ * so callers can detect that tables built from the map are stale.
+ */
+public class ModificationTrackingMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> map;
+    private final Set<Map.Entry<K, V>> entrySet = new EntrySet();
+    private final AtomicInteger modificationCount = new AtomicInteger();
+    private volatile Runnable modificationListener;
+
+    public ModificationTrackingMap(@Nonnull Map<K, V> map) {
+        this.map = map;
+    }
+
+    /**
+     * Underlying map, changes made directly to it are not counted.
+     */
+    @Nonnull
+    public Map<K, V> getMap() {
+        return this.map;
+    }
+
+    public int getModificationCount() {
+        return this.modificationCount.get();
+    }
+
+    /**
+     * Listener run after every counted change, lets owners of tables built from the map drop them eagerly.
+     */
+    public void setModificationListener(Runnable modificationListener) {
+        this.modificationListener = modificationListener;
+    }
+
+    private void modified() {
+        this.modificationCount.incrementAndGet();
+        Runnable listener = this.modificationListener;
+        if (listener != null) {
+            listener.run();
+        }
+
+    }
+
+    public int size() {
+        return this.map.size();
+    }
+
+    public boolean containsKey(Object key) {
+        return this.map.containsKey(key);
+    }
+
+    public boolean containsValue(Object value) {
+        return this.map.containsValue(value);
+    }
+
+    public V get(Object key) {
+        return this.map.get(key);
+    }
+
+    public V put(K key, V value) {
+        V oldValue = this.map.put(key, value);
+        this.modified();
+        return oldValue;
+    }
+
+    public void putAll(Map<? extends K, ? extends V> values) {
+        this.map.putAll(values);
+        this.modified();
+    }
+
+    public V remove(Object key) {
+        V oldValue = this.map.remove(key);
+        this.modified();
+        return oldValue;
+    }
+
+    public void clear() {
+        this.map.clear();
+        this.modified();
+    }
+
+    @Nonnull
+    public Set<Map.Entry<K, V>> entrySet() {
+        return this.entrySet;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        private EntrySet() {
+        }
+
+        public int size() {
+            return ModificationTrackingMap.this.map.size();
+        }
+
+        public void clear() {
+            ModificationTrackingMap.this.clear();
+        }
+
+        @Nonnull
+        public Iterator<Map.Entry<K, V>> iterator() {
+            final Iterator<Map.Entry<K, V>> iterator = ModificationTrackingMap.this.map.entrySet().iterator();
+            return new Iterator<Map.Entry<K, V>>() {
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                public Map.Entry<K, V> next() {
+                    return new TrackingEntry((Map.Entry)iterator.next());
+                }
+
+                public void remove() {
+                    iterator.remove();
+                    ModificationTrackingMap.this.modified();
+                }
+            };
+        }
+    }
+
+    private class TrackingEntry implements Map.Entry<K, V> {
+        private final Map.Entry<K, V> entry;
+
+        private TrackingEntry(Map.Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        public K getKey() {
+            return this.entry.getKey();
+        }
+
+        public V getValue() {
+            return this.entry.getValue();
+        }
+
+        public V setValue(V value) {
+            V oldValue = this.entry.setValue(value);
+            ModificationTrackingMap.this.modified();
+            return oldValue;
+        }
+
+        public boolean equals(Object o) {
+            return this.entry.equals(o);
+        }
+
+        public int hashCode() {
+            return this.entry.hashCode();
+        }
+
+        public String toString() {
+            return this.entry.toString();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.tools.tacomponents.context.threading;
+
+import org.qubership.atp.adapter.tools.tacomponents.context.ContextDataStorageProvider;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Explicitly propagated scope handle.
+ * A scope is bound to a thread only for the duration of a task wrapped by {@link #wrap(Runnable)}
+ * or {@link #propagate(Runnable)}, and it is not inherited by threads started from that task,
+ * so threads started in nested scope thread groups resolve their own groups.
+ * A bound scope is resolved instead of the current thread group, so it works the same way for platform threads
+ * and for virtual threads, which all belong to a single fixed thread group.
+ * Providers are resolved once per scope and target class.
+ */
+public final class ContextScope {
+    private static final ThreadLocal<ContextScope> current = new ThreadLocal();
+    private static final ContextDataStorageProvider NOT_FOUND = () -> null;
+    @Nonnull
+    private final ThreadGroup group;
+    private final Map<Class<?>, ContextDataStorageProvider> providers = new ConcurrentHashMap();
+
+    private ContextScope(@Nonnull ThreadGroup group) {
+        this.group = group;
+    }
+
+    @Nonnull
+    public static ContextScope of(@Nonnull ThreadGroup group) {
+        return new ContextScope(group);
+    }
+
+    @Nullable
+    public static ContextScope current() {
+        return (ContextScope)current.get();
+    }
+
+    /**
+     * Scope of the calling thread: the bound one or the scope of the current thread group.
+     * Capture it once to share resolved providers between tasks submitted to a pool.
+     */
+    @Nonnull
+    public static ContextScope capture() {
+        ContextScope scope = current();
+        return scope == null ? of(Thread.currentThread().getThreadGroup()) : scope;
+    }
+
+    @Nullable
+    private ContextScope bind() {
+        ContextScope previous = (ContextScope)current.get();
+        current.set(this);
+        return previous;
+    }
+
+    private static void restore(@Nullable ContextScope previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    @Nonnull
+    public Runnable wrap(@Nonnull Runnable task) {
+        return () -> {
+            ContextScope previous = this.bind();
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    @Nonnull
+    public <T> Callable<T> wrap(@Nonnull Callable<T> task) {
+        return () -> {
+            ContextScope previous = this.bind();
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wrap task with the scope of the calling thread, see {@link #capture()}.
+     * Use it for pooled executors where worker threads are shared between scopes.
+     */
+    @Nonnull
+    public static Runnable propagate(@Nonnull Runnable task) {
+        return capture().wrap(task);
+    }
+
+    @Nonnull
+    public ThreadGroup getGroup() {
+        return this.group;
+    }
+
+    @Nullable
+    public ContextDataStorageProvider find(@Nonnull Class<?> targetProviderClass) {
+        ContextDataStorageProvider provider = (ContextDataStorageProvider)this.providers.computeIfAbsent(targetProviderClass, (key) -> {
+            ContextDataStorageProvider found = findInThreadGroups(this.group, key);
+            return found == null ? NOT_FOUND : found;
+        });
+        return provider == NOT_FOUND ? null : provider;
+    }
+
+    @Nullable
+    public static ContextDataStorageProvider findInThreadGroups(@Nonnull ThreadGroup threadGroup, @Nonnull Class<?> targetProviderClass) {
+        while(!targetProviderClass.isAssignableFrom(threadGroup.getClass()) && threadGroup.getParent() != null) {
+            threadGroup = threadGroup.getParent();
+        }
+
+        return targetProviderClass.isAssignableFrom(threadGroup.getClass()) ? (ContextDataStorageProvider)threadGroup : null;
+    }
+}
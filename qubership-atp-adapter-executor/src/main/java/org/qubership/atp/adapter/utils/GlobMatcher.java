@@ -0,0 +1,284 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches the whole input against a glob where {@code *} is any sequence and {@code ?} is any single character.
+ * All other characters are literals. Matching is the same as for the regular expression built by
+ * {@link Utils#convertGlobMetaCharsToRegexpMetaChars(String)}: {@code ?} and {@code *} match line breaks
+ * {@code \n} and {@code \r}, but not the other line terminators U+0085, U+2028 and U+2029, and characters are code points.
+ * <p>
+ * The glob is split by those line terminators into pieces, which have to match the input lines one to one.
+ * Every piece is split by {@code *} into segments. The first and the last segments are anchored to the start
+ * and the end of the line, the others are searched leftmost one after another. Leftmost placement never has to be
+ * revisited, so matching does not backtrack. Segments without {@code ?} are searched with Knuth-Morris-Pratt,
+ * segments with {@code ?} with a bit-parallel shift-and, so matching is linear in the input length.
+ */
+public final class GlobMatcher {
+    private static final int ANY = -1;
+    private final String glob;
+    private final Piece[] pieces;
+    private final int[] terminators;
+
+    private GlobMatcher(String glob) {
+        this.glob = glob;
+        List<Piece> pieces = new ArrayList();
+        List<Integer> terminators = new ArrayList();
+        int[] codePoints = glob.codePoints().toArray();
+        int start = 0;
+
+        for (int i = 0; i <= codePoints.length; ++i) {
+            if (i == codePoints.length || isTerminator(codePoints[i])) {
+                pieces.add(new Piece(codePoints, start, i));
+                if (i < codePoints.length) {
+                    terminators.add(codePoints[i]);
+                }
+
+                start = i + 1;
+            }
+        }
+
+        this.pieces = (Piece[]) pieces.toArray(new Piece[pieces.size()]);
+        this.terminators = new int[terminators.size()];
+
+        for (int i = 0; i < this.terminators.length; ++i) {
+            this.terminators[i] = (Integer) terminators.get(i);
+        }
+
+    }
+
+    public static GlobMatcher compile(String glob) {
+        return new GlobMatcher(glob);
+    }
+
+    public String getGlob() {
+        return this.glob;
+    }
+
+    public boolean matches(CharSequence input) {
+        int[] text = input.toString().codePoints().toArray();
+        int piece = 0;
+        int start = 0;
+
+        for (int i = 0; i <= text.length; ++i) {
+            if (i == text.length || isTerminator(text[i])) {
+                if (piece == this.pieces.length || !this.pieces[piece].matches(text, start, i)) {
+                    return false;
+                }
+
+                if (i < text.length && (piece == this.terminators.length || this.terminators[piece] != text[i])) {
+                    return false;
+                }
+
+                ++piece;
+                start = i + 1;
+            }
+        }
+
+        return piece == this.pieces.length;
+    }
+
+    /**
+     * Line terminators which {@code .} of a regular expression does not match besides {@code \n} and {@code \r}.
+     */
+    private static boolean isTerminator(int codePoint) {
+        return codePoint == 0x0085 || codePoint == 0x2028 || codePoint == 0x2029;
+    }
+
+    public String toString() {
+        return this.glob;
+    }
+
+    private static final class Piece {
+        private final Segment[] segments;
+
+        private Piece(int[] codePoints, int from, int to) {
+            List<Segment> segments = new ArrayList();
+            int start = from;
+
+            for (int i = from; i < to; ++i) {
+                if (codePoints[i] == '*') {
+                    segments.add(new Segment(codePoints, start, i));
+                    start = i + 1;
+                }
+            }
+
+            segments.add(new Segment(codePoints, start, to));
+            this.segments = (Segment[]) segments.toArray(new Segment[segments.size()]);
+        }
+
+        private boolean matches(int[] text, int from, int to) {
+            Segment head = this.segments[0];
+            if (this.segments.length == 1) {
+                return to - from == head.length() && head.matchesAt(text, from);
+            } else {
+                Segment tail = this.segments[this.segments.length - 1];
+                int end = to - tail.length();
+                if (end < from + head.length() || !head.matchesAt(text, from) || !tail.matchesAt(text, end)) {
+                    return false;
+                } else {
+                    int position = from + head.length();
+
+                    for (int i = 1; i < this.segments.length - 1; ++i) {
+                        Segment segment = this.segments[i];
+                        if (segment.length() > 0) {
+                            int found = segment.indexOf(text, position, end);
+                            if (found < 0) {
+                                return false;
+                            }
+
+                            position = found + segment.length();
+                        }
+                    }
+
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class Segment {
+        private final int[] tokens;
+        private final int[] failure;
+        private final Map<Integer, long[]> masks;
+        private final long[] anyMask;
+
+        private Segment(int[] codePoints, int from, int to) {
+            this.tokens = new int[to - from];
+            boolean hasAny = false;
+
+            for (int i = from; i < to; ++i) {
+                this.tokens[i - from] = codePoints[i] == '?' ? ANY : codePoints[i];
+                hasAny |= codePoints[i] == '?';
+            }
+
+            if (hasAny) {
+                this.failure = null;
+                this.masks = new HashMap();
+                this.anyMask = new long[(this.tokens.length + 63) / 64];
+
+                for (int i = 0; i < this.tokens.length; ++i) {
+                    if (this.tokens[i] == ANY) {
+                        this.anyMask[i >>> 6] |= 1L << i;
+                    }
+                }
+
+                for (int i = 0; i < this.tokens.length; ++i) {
+                    if (this.tokens[i] != ANY) {
+                        long[] mask = (long[]) this.masks.get(this.tokens[i]);
+                        if (mask == null) {
+                            mask = (long[]) this.anyMask.clone();
+                            this.masks.put(this.tokens[i], mask);
+                        }
+
+                        mask[i >>> 6] |= 1L << i;
+                    }
+                }
+            } else {
+                this.masks = null;
+                this.anyMask = null;
+                this.failure = new int[this.tokens.length];
+                int k = 0;
+
+                for (int i = 1; i < this.tokens.length; ++i) {
+                    while (k > 0 && this.tokens[i] != this.tokens[k]) {
+                        k = this.failure[k - 1];
+                    }
+
+                    if (this.tokens[i] == this.tokens[k]) {
+                        ++k;
+                    }
+
+                    this.failure[i] = k;
+                }
+            }
+
+        }
+
+        private int length() {
+            return this.tokens.length;
+        }
+
+        private boolean matchesAt(int[] text, int offset) {
+            for (int i = 0; i < this.tokens.length; ++i) {
+                if (this.tokens[i] != ANY && this.tokens[i] != text[offset + i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns start of the leftmost occurrence within {@code [from, to)} or -1.
+         */
+        private int indexOf(int[] text, int from, int to) {
+            return this.failure != null ? this.indexOfLiteral(text, from, to) : this.indexOfWithAny(text, from, to);
+        }
+
+        private int indexOfLiteral(int[] text, int from, int to) {
+            int k = 0;
+
+            for (int i = from; i < to; ++i) {
+                while (k > 0 && text[i] != this.tokens[k]) {
+                    k = this.failure[k - 1];
+                }
+
+                if (text[i] == this.tokens[k]) {
+                    ++k;
+                }
+
+                if (k == this.tokens.length) {
+                    return i - k + 1;
+                }
+            }
+
+            return -1;
+        }
+
+        private int indexOfWithAny(int[] text, int from, int to) {
+            long[] state = new long[this.anyMask.length];
+            int last = this.tokens.length - 1;
+
+            for (int i = from; i < to; ++i) {
+                long[] mask = (long[]) this.masks.get(text[i]);
+                if (mask == null) {
+                    mask = this.anyMask;
+                }
+
+                long carry = 1L;
+
+                for (int word = 0; word < state.length; ++word) {
+                    long next = state[word] >>> 63;
+                    state[word] = (state[word] << 1 | carry) & mask[word];
+                    carry = next;
+                }
+
+                if ((state[last >>> 6] & 1L << last) != 0L) {
+                    return i - last;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
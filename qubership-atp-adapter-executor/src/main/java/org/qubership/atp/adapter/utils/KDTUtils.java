@@ -18,6 +18,8 @@ package org.qubership.atp.adapter.utils;
 
 import org.qubership.atp.adapter.keyworddriven.basicformat.BasicFormatTestSuiteReader;
 import org.qubership.atp.adapter.keyworddriven.basicformat.StringValueSubstitution;
+import org.qubership.atp.adapter.keyworddriven.configuration.KdtProperties;
+import org.qubership.atp.adapter.keyworddriven.context.KDTLocalContextDataStorage;
 import org.qubership.atp.adapter.keyworddriven.executable.Executable;
 import org.qubership.atp.adapter.keyworddriven.executable.Keyword;
 import org.qubership.atp.adapter.keyworddriven.executable.Section;
@@ -27,12 +29,16 @@ import org.qubership.atp.adapter.report.Report;
 import org.qubership.atp.adapter.report.SourceProvider;
 import org.qubership.atp.adapter.report.WebReportWriter;
 import org.qubership.atp.adapter.testcase.Config;
+import org.qubership.atp.adapter.tools.tacomponents.context.Context;
+import org.qubership.atp.adapter.tools.tacomponents.context.ContextType;
 import org.qubership.atp.adapter.wd.shell.browser.ReportType;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -51,6 +57,9 @@ public class KDTUtils {
     public static final String STORE_TEST_CASE_PARAMETERS_SHEET = "Stored Parameters";
     private static final Log log = LogFactory.getLog(KDTUtils.class);
     public static final String HTML_STYLES = "<style type='text/css'>\r\ntable.colored {border: 0px; } table.colored th {background-color: #CCCCCC; } table.colored td {white-space: pre-wrap; } table.colored .errorBorder { border-color: coral;} table.colored .errorBackGround { background-color: #F78181;} table.colored .warnBorder { border-color: #FFFF00;} table.colored .warnBackGround { background-color: #FFFF00;} table.colored .successBorder { border-color: #81F781;} table.colored .successBackGround { background-color: #81F781;} table.colored .normal { border-width: 0px;} </style> ";
+    private static Properties configParamsSource;
+    private static int configParamsVersion;
+    private static Map<String, Object> configParams;
     private static final boolean PRINT_PARAM_PAGE = Boolean.parseBoolean(Config.getString("kdt.print.parampages", "false"));
 
     public KDTUtils() {
@@ -403,13 +412,7 @@ public class KDTUtils {
     }
 
     public static Map<String, Object> getFinalPropTable(Executable section) {
-        return getFinalPropTableNormal(section);
-    }
-
-    private static Map<String, Object> getFinalPropTableNormal(Executable section) {
-        Map<String, Object> finalPropTable = section.getParent() == null ? new HashMap() : getFinalPropTableNormal(section.getParent());
-        ((Map)finalPropTable).putAll(section.getNormalPriorityParams());
-        return (Map)finalPropTable;
+        return new HashMap(section.getEffectiveParams());
     }
 
     public static <T extends Section> void replaceParametersInDescription(T section) {
@@ -422,6 +425,10 @@ public class KDTUtils {
     }
 
     public static String replaceParametersInString(Executable section, String data, Report report) {
+        if (section instanceof Keyword && StringValueSubstitution.isCompilable()) {
+            return StringValueSubstitution.replaceParametersInString(section, ((Keyword)section).getTemplate(data), report);
+        }
+
         return StringValueSubstitution.replaceParametersInString(section, data, report);
     }
 
@@ -454,24 +461,79 @@ public class KDTUtils {
         return null;
     }
 
+    /**
+     * Makes config parameters visible to the executable as a shared layer between its own and its parent parameters.
+     * Own parameters set before loading are overridden by config ones, the same way as copying config used to do.
+     * Context storages which know nothing about the layer still get config parameters copied.
+     */
     public static void loadConfigParams(Executable executable) {
-        Properties p = getAllConfigContent();
-        if (p != null) {
-            Iterator var2 = p.entrySet().iterator();
-
-            while(var2.hasNext()) {
-                Map.Entry<Object, Object> prop = (Map.Entry)var2.next();
-                String key = String.valueOf(prop.getKey());
-                String value = String.valueOf(prop.getValue());
-                executable.setParam(key, value);
-                if (log.isTraceEnabled()) {
-                    log.trace("Config param set: " + key + "=" + value);
+        Map<String, Object> params = getConfigParams();
+        if (params != null) {
+            Iterator var3;
+            if (KdtProperties.KDT_CONTEXT_TYPE_IS_NEW && !(Context.getStorage(ContextType.LOCAL) instanceof KDTLocalContextDataStorage)) {
+                var3 = params.entrySet().iterator();
+
+                while(var3.hasNext()) {
+                    Map.Entry<String, Object> param = (Map.Entry)var3.next();
+                    executable.setParam(param.getKey(), param.getValue());
                 }
+            } else {
+                List<String> overridden = new ArrayList();
+                var3 = executable.getNormalPriorityParams().keySet().iterator();
+
+                while(var3.hasNext()) {
+                    String key = (String)var3.next();
+                    if (params.containsKey(key)) {
+                        overridden.add(key);
+                    }
+                }
+
+                var3 = overridden.iterator();
+
+                while(var3.hasNext()) {
+                    String key = (String)var3.next();
+                    executable.setParam(key, params.get(key));
+                }
+
+                executable.setConfigParams(params);
+            }
+
+            if (log.isTraceEnabled()) {
+                log.trace("Config params set: " + params);
             }
         }
 
     }
 
+    /**
+     * Returns an immutable snapshot of config parameters shared by all executables.
+     * The snapshot is rebuilt after config is reloaded or changed through {@link Config}.
+     */
+    public static synchronized Map<String, Object> getConfigParams() {
+        Properties p = getAllConfigContent();
+        if (p == null) {
+            return null;
+        } else {
+            if (configParams == null || configParamsSource != p || configParamsVersion != Config.getModificationCount()) {
+                configParamsVersion = Config.getModificationCount();
+                Map<String, Object> params = new HashMap(p.size() * 4 / 3 + 1);
+                synchronized(p) {
+                    Iterator var3 = p.entrySet().iterator();
+
+                    while(var3.hasNext()) {
+                        Map.Entry<Object, Object> prop = (Map.Entry)var3.next();
+                        params.put(String.valueOf(prop.getKey()), String.valueOf(prop.getValue()));
+                    }
+                }
+
+                configParams = Collections.unmodifiableMap(params);
+                configParamsSource = p;
+            }
+
+            return configParams;
+        }
+    }
+
     public static String prettifyToHtml(String source) {
         return String.format("<script src=\"https://cdn.rawgit.com/google/code-prettify/main/loader/run_prettify.js\">"
                 + "</script><pre class=\"prettyprint\">%s</pre>", StringEscapeUtils.escapeHtml4(source));
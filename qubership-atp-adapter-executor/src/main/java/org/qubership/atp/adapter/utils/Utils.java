@@ -28,8 +28,13 @@ import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -46,6 +51,8 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import org.apache.commons.io.FileUtils;
@@ -59,6 +66,31 @@ public class Utils {
     private static final Logger log = Logger.getLogger(Utils.class);
     protected static final Pattern XML_PROLOG_JUNK_PATTERN = Pattern.compile("^([\\W]+)<");
     private static HtmlCompressor compressor = new HtmlCompressor();
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final int PATTERN_CACHE_SIZE = 256;
+    private static final Map<String, Pattern> PATTERNS = new LinkedHashMap<String, Pattern>(16, 0.75F, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return this.size() > PATTERN_CACHE_SIZE;
+        }
+    };
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal();
+    private static final ThreadLocal<Transformer> NODE_TRANSFORMER = new ThreadLocal();
+    private static final ThreadLocal<Transformer> PRETTY_TRANSFORMER = new ThreadLocal();
+    private static final ThreadLocal<XPath> XPATH = new ThreadLocal();
+    private static final ThreadLocal<Map<String, XPathExpression>> XPATH_EXPRESSIONS = new ThreadLocal<Map<String, XPathExpression>>() {
+        protected Map<String, XPathExpression> initialValue() {
+            return new LinkedHashMap<String, XPathExpression>(16, 0.75F, true) {
+                protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+                    return this.size() > PATTERN_CACHE_SIZE;
+                }
+            };
+        }
+    };
+    private static final Map<String, GlobMatcher> GLOBS = new LinkedHashMap<String, GlobMatcher>(16, 0.75F, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, GlobMatcher> eldest) {
+            return this.size() > PATTERN_CACHE_SIZE;
+        }
+    };
 
     public Utils() {
     }
@@ -107,12 +139,19 @@ public class Utils {
         StringWriter sw = new StringWriter();
 
         try {
-            Transformer t = TransformerFactory.newInstance().newTransformer();
-            t.setOutputProperty("omit-xml-declaration", "yes");
-            t.setOutputProperty("indent", "no");
+            Transformer t = (Transformer)NODE_TRANSFORMER.get();
+            if (t == null) {
+                t = TransformerFactory.newInstance().newTransformer();
+                t.setOutputProperty("omit-xml-declaration", "yes");
+                t.setOutputProperty("indent", "no");
+                NODE_TRANSFORMER.set(t);
+            }
+
             t.transform(new DOMSource(node), new StreamResult(sw));
         } catch (TransformerException var3) {
-            System.out.println("nodeToString Transformer Exception");
+            TransformerException e = var3;
+            NODE_TRANSFORMER.remove();
+            log.error("Failed to convert node to String", e);
         }
 
         return sw.toString();
@@ -121,18 +160,22 @@ public class Utils {
     public static Document parseXml(String xmlString) {
         Matcher junkMatcher = XML_PROLOG_JUNK_PATTERN.matcher(xmlString.trim());
         xmlString = junkMatcher.replaceFirst("<");
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setAttribute("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
-        factory.setAttribute("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = null;
+        DocumentBuilder builder = (DocumentBuilder)DOCUMENT_BUILDER.get();
+        if (builder == null) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setAttribute("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
+            factory.setAttribute("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            factory.setNamespaceAware(true);
 
-        try {
-            builder = factory.newDocumentBuilder();
-        } catch (ParserConfigurationException var7) {
-            ParserConfigurationException e = var7;
-            log.fatal("ParserConfigurationException", e);
-            throw new RuntimeException("ParserConfigurationException", e);
+            try {
+                builder = factory.newDocumentBuilder();
+            } catch (ParserConfigurationException var7) {
+                ParserConfigurationException e = var7;
+                log.fatal("ParserConfigurationException", e);
+                throw new RuntimeException("ParserConfigurationException", e);
+            }
+
+            DOCUMENT_BUILDER.set(builder);
         }
 
         if (xmlString.length() > 0) {
@@ -144,6 +187,8 @@ public class Utils {
             } catch (IOException var6) {
                 IOException e = var6;
                 log.error("Failed to parse XML", e);
+            } finally {
+                builder.reset();
             }
         }
 
@@ -156,9 +201,14 @@ public class Utils {
 
     public static String writeXmlToString(Node node) {
         try {
-            Transformer transformer = TransformerFactory.newInstance().newTransformer();
-            transformer.setOutputProperty("indent", "yes");
-            transformer.setOutputProperty("{http://xml.apache.org/xalan}indent-amount", "4");
+            Transformer transformer = (Transformer)PRETTY_TRANSFORMER.get();
+            if (transformer == null) {
+                transformer = TransformerFactory.newInstance().newTransformer();
+                transformer.setOutputProperty("indent", "yes");
+                transformer.setOutputProperty("{http://xml.apache.org/xalan}indent-amount", "4");
+                PRETTY_TRANSFORMER.set(transformer);
+            }
+
             StreamResult result = new StreamResult(new StringWriter());
             DOMSource source = new DOMSource(node);
             transformer.transform(source, result);
@@ -171,6 +221,7 @@ public class Utils {
             log.error("Failed to output XML to String", e);
         } catch (TransformerException var6) {
             TransformerException e = var6;
+            PRETTY_TRANSFORMER.remove();
             log.error("Failed to output XML to String", e);
         }
 
@@ -179,13 +230,33 @@ public class Utils {
 
     public static String evaluateXPath(String expression, Node node) {
         try {
-            return XPathFactory.newInstance().newXPath().evaluate(expression, node);
+            return getXPathExpression(expression).evaluate(node);
         } catch (XPathExpressionException var3) {
             log.error("Failed to extract xpath value from xml: xpath=" + expression);
             return "";
         }
     }
 
+    /**
+     * Compiled expressions are not thread-safe, so each thread keeps its own XPath and bounded expression cache.
+     */
+    private static XPathExpression getXPathExpression(String expression) throws XPathExpressionException {
+        Map<String, XPathExpression> expressions = (Map)XPATH_EXPRESSIONS.get();
+        XPathExpression compiled = (XPathExpression)expressions.get(expression);
+        if (compiled == null) {
+            XPath xpath = (XPath)XPATH.get();
+            if (xpath == null) {
+                xpath = XPathFactory.newInstance().newXPath();
+                XPATH.set(xpath);
+            }
+
+            compiled = xpath.compile(expression);
+            expressions.put(expression, compiled);
+        }
+
+        return compiled;
+    }
+
     public static Properties readPropertiesFile(File propertiesFile) {
         Properties p = new Properties();
         InputStream is = null;
@@ -413,12 +484,75 @@ public class Utils {
         return sw.toString();
     }
 
+    /**
+     * Renders stack trace in {@link Throwable#printStackTrace()} format, printing at most {@code maxFrames} own frames
+     * of every throwable in the chain. Frames in common with the enclosing trace are collapsed as usual.
+     * Non-positive {@code maxFrames} means no limit.
+     */
+    public static String getStackTrace(Throwable t, int maxFrames) {
+        if (maxFrames <= 0) {
+            return getStackTrace(t);
+        } else {
+            StringBuilder sb = new StringBuilder();
+            Set<Throwable> rendered = Collections.newSetFromMap(new IdentityHashMap());
+            rendered.add(t);
+            sb.append(t).append(LINE_SEPARATOR);
+            StackTraceElement[] trace = t.getStackTrace();
+            appendFrames(sb, "", trace, trace.length, maxFrames);
+            appendEnclosed(sb, t, trace, "", maxFrames, rendered);
+            return sb.toString();
+        }
+    }
+
+    private static void appendEnclosed(StringBuilder sb, Throwable t, StackTraceElement[] trace, String prefix, int maxFrames, Set<Throwable> rendered) {
+        Throwable[] suppressed = t.getSuppressed();
+
+        for (int i = 0; i < suppressed.length; ++i) {
+            appendCause(sb, suppressed[i], trace, "Suppressed: ", prefix + "\t", maxFrames, rendered);
+        }
+
+        if (t.getCause() != null) {
+            appendCause(sb, t.getCause(), trace, "Caused by: ", prefix, maxFrames, rendered);
+        }
+
+    }
+
+    private static void appendCause(StringBuilder sb, Throwable cause, StackTraceElement[] enclosingTrace, String caption, String prefix, int maxFrames, Set<Throwable> rendered) {
+        if (!rendered.add(cause)) {
+            sb.append(prefix).append(caption).append("[CIRCULAR REFERENCE:").append(cause).append(']').append(LINE_SEPARATOR);
+        } else {
+            StackTraceElement[] trace = cause.getStackTrace();
+            int m = trace.length - 1;
+
+            for (int n = enclosingTrace.length - 1; m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n]); --n) {
+                --m;
+            }
+
+            sb.append(prefix).append(caption).append(cause).append(LINE_SEPARATOR);
+            appendFrames(sb, prefix, trace, m + 1, maxFrames);
+            appendEnclosed(sb, cause, trace, prefix, maxFrames, rendered);
+        }
+    }
+
+    private static void appendFrames(StringBuilder sb, String prefix, StackTraceElement[] trace, int ownFrames, int maxFrames) {
+        int printed = Math.min(ownFrames, maxFrames);
+
+        for (int i = 0; i < printed; ++i) {
+            sb.append(prefix).append("\tat ").append(trace[i]).append(LINE_SEPARATOR);
+        }
+
+        if (printed < trace.length) {
+            sb.append(prefix).append("\t... ").append(trace.length - printed).append(" more").append(LINE_SEPARATOR);
+        }
+
+    }
+
     public static String normalizeString(String s) {
         return s == null ? "" : s.replace(' ', ' ').trim();
     }
 
     public static String convertGlobMetaCharsToRegexpMetaChars(String glob) {
-        return glob.replaceAll("([\\.\\^\\$\\+\\(\\)\\{\\}\\[\\]\\\\\\|])", "\\\\$1").replaceAll("\\?", "(.|[\n\r])").replaceAll("\\*", "(.|[\n\r])*");
+        return glob.replaceAll("([\\.\\^\\$\\+\\(\\)\\{\\}\\[\\]\\\\\\|])", "\\\\$1").replaceAll("\\?", "[^\\\\u0085\\\\u2028\\\\u2029]").replaceAll("\\*", "[^\\\\u0085\\\\u2028\\\\u2029]*");
     }
 
     public static String getRegexp(String expression) {
@@ -426,7 +560,32 @@ public class Utils {
     }
 
     public static Pattern preparePattern(String expression) {
-        return Pattern.compile(getRegexp(expression));
+        synchronized(PATTERNS) {
+            Pattern pattern = (Pattern)PATTERNS.get(expression);
+            if (pattern == null) {
+                pattern = Pattern.compile(getRegexp(expression));
+                PATTERNS.put(expression, pattern);
+            }
+
+            return pattern;
+        }
+    }
+
+    public static boolean matches(String expression, CharSequence input) {
+        if (expression.startsWith("regexp:")) {
+            return preparePattern(expression).matcher(input).matches();
+        } else {
+            GlobMatcher glob;
+            synchronized(GLOBS) {
+                glob = (GlobMatcher)GLOBS.get(expression);
+                if (glob == null) {
+                    glob = GlobMatcher.compile(expression);
+                    GLOBS.put(expression, glob);
+                }
+            }
+
+            return glob.matches(input);
+        }
     }
 
     static {
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.excel;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExcelSheetTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void getRowNumsByIndexAndContent_returnsAllMatchingRowsInOrder() throws Exception {
+        ExcelSheet sheet = openSheet("Section", "A", "B", "A", null, "A");
+
+        Assert.assertEquals(Arrays.asList(2, 4, 6), sheet.getRowNumsByIndexAndContent(1, "A"));
+        Assert.assertEquals(Collections.singletonList(3), sheet.getRowNumsByIndexAndContent(1, "B"));
+        Assert.assertTrue(sheet.getRowNumsByIndexAndContent(1, "C").isEmpty());
+    }
+
+    @Test
+    public void getRowNumsByIndexAndContent_rowInsertedAboveIndexedRows_indexIsRebuilt() throws Exception {
+        ExcelSheet sheet = openSheet("Section", "A", "B");
+        Assert.assertEquals(Collections.singletonList(2), sheet.getRowNumsByIndexAndContent(1, "A"));
+        Assert.assertEquals(Collections.singletonList(3), sheet.getRowNumsByIndexAndContent(1, "B"));
+
+        sheet.createRow(2).createCell(1).setValue("A");
+
+        Assert.assertEquals(Arrays.asList(2, 3), sheet.getRowNumsByIndexAndContent(1, "A"));
+        Assert.assertEquals(Collections.singletonList(4), sheet.getRowNumsByIndexAndContent(1, "B"));
+    }
+
+    private ExcelSheet openSheet(String header, String... values) throws Exception {
+        File file = folder.newFile("book.xlsx");
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Sheet");
+        sheet.createRow(0).createCell(0).setCellValue(header);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                sheet.createRow(i + 1).createCell(0).setCellValue(values[i]);
+            }
+        }
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            workbook.write(out);
+        }
+        return new ExcelBook(file).openSheet("Sheet");
+    }
+}
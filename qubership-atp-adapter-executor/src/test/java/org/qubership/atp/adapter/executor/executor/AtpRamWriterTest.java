@@ -28,9 +28,11 @@ import static org.powermock.api.mockito.PowerMockito.when;
 
 //import org.qubership.atp.adapter.wd.shell.elements.common.Page;
 import org.apache.log4j.Level;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -41,12 +43,17 @@ import org.qubership.atp.adapter.common.context.AtpCompaund;
 import org.qubership.atp.adapter.common.context.TestRunContext;
 import org.qubership.atp.adapter.common.context.TestRunContextHolder;
 import org.qubership.atp.adapter.common.entities.Message;
+import org.qubership.atp.adapter.executor.executor.sourceproviders.TestSnapshot;
 
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.enums.TypeAction;
+import org.qubership.atp.adapter.report.SourceProvider;
 import org.qubership.atp.adapter.report.WebReportItem;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({TestRunContextHolder.class})
@@ -116,6 +123,31 @@ public class AtpRamWriterTest {
         Mockito.verify(atpReceiverRamAdapter).openSection(section);
     }
 
+    @Test
+    public void updateMessageTestingStatusAndFiles_severalFiles_sourcesAreTakenInCallingThread() {
+        List<Thread> sourceThreads = Collections.synchronizedList(new ArrayList<>());
+        List<SourceProvider> files = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            files.add(new TestSnapshot("source " + i) {
+                @Override
+                public String getSource() {
+                    sourceThreads.add(Thread.currentThread());
+                    return super.getSource();
+                }
+            });
+        }
+
+        writer.updateMessageTestingStatusAndFiles("message", TestingStatuses.PASSED, files);
+
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(atpReceiverRamAdapter).updateMessageTestingStatusAndFiles(message.capture());
+        message.getValue().getAttributes().forEach(attributes -> attributes.values().stream()
+                .filter(File.class::isInstance)
+                .forEach(file -> ((File) file).delete()));
+        Assert.assertEquals(Collections.nCopies(3, Thread.currentThread()), sourceThreads);
+        Assert.assertEquals(3, message.getValue().getFileMetadata().size());
+    }
+
 //    @Test
 //    public void deletingScreenshot_callDelete_screenshotDeleted() throws Exception {
 //        setMocks(createTestRunContext(true));
@@ -96,4 +96,12 @@ public class AttachmentCreatorTest {
         Assert.assertEquals(expectedFileMetadata, attachment.getFileMetadata());
         attachment.getFileSource().delete();
     }
+
+    @Test
+    public void testCreate_CreateAttachmentFromSnapshotWithTakenSource_WritesTakenSource() throws Exception {
+        NttAttachment attachment = AttachmentCreator.create(new TestSnapshot("test"), "taken");
+
+        Assert.assertEquals("taken", FileUtils.readFileToString(attachment.getFileSource(), StandardCharsets.UTF_8));
+        attachment.getFileSource().delete();
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.basicformat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.keyworddriven.executable.Keyword;
+import org.qubership.atp.adapter.keyworddriven.handlers.ActionExecutor;
+import org.qubership.atp.adapter.keyworddriven.routing.KeywordRouteTable;
+import org.qubership.atp.adapter.keyworddriven.routing.Route;
+
+public class BasicFormatKeywordsReaderTest {
+
+    private Route route;
+
+    @Before
+    public void setUp() {
+        KeywordRouteTable.clear();
+        route = new Route(Route.parseMaskInRouteItems(new Object[]{"Open", "[page]"}), NoAction.class) {
+        };
+        KeywordRouteTable.registerLast(route);
+    }
+
+    @After
+    public void tearDown() {
+        KeywordRouteTable.clear();
+    }
+
+    @Test
+    public void getNamedRouteMask_calledTwice_returnsSamePattern() {
+        Assert.assertSame(route.getNamedRouteMask(), route.getNamedRouteMask());
+    }
+
+    @Test
+    public void parseKeyword_sameKeyword_returnsCopyOfCachedItems() {
+        List<String> first = BasicFormatKeywordsReader.parseKeyword("Open\tmain");
+        first.set(1, "changed");
+
+        List<String> second = BasicFormatKeywordsReader.parseKeyword("Open\tmain");
+
+        Assert.assertEquals(Arrays.asList("Open", "main"), second);
+        Assert.assertEquals(1, BasicFormatKeywordsReader.getParsedKeywordsCount());
+    }
+
+    @Test
+    public void parseKeyword_moreKeywordsThanCacheSize_evictsEldestOnes() {
+        for (int i = 0; i < 5000; i++) {
+            BasicFormatKeywordsReader.parseKeyword("Open\tpage " + i);
+        }
+
+        Assert.assertEquals(4096, BasicFormatKeywordsReader.getParsedKeywordsCount());
+        Assert.assertEquals(Arrays.asList("Open", "page 0"), BasicFormatKeywordsReader.parseKeyword("Open\tpage 0"));
+    }
+
+    @Test
+    public void parseKeyword_routesChanged_cacheIsDropped() {
+        BasicFormatKeywordsReader.parseKeyword("Open\tmain");
+
+        KeywordRouteTable.clear();
+
+        Assert.assertNull(BasicFormatKeywordsReader.parseKeyword("Open\tmain"));
+        Assert.assertEquals(0, BasicFormatKeywordsReader.getParsedKeywordsCount());
+        KeywordRouteTable.registerLast(route);
+        Assert.assertEquals(Arrays.asList("Open", "main"), BasicFormatKeywordsReader.parseKeyword("Open\tmain"));
+    }
+
+    @Test
+    public void parseKeyword_routeAdded_cacheIsDropped() {
+        BasicFormatKeywordsReader.parseKeyword("Open\tmain");
+
+        KeywordRouteTable.registerLast(new Route(Route.parseMaskInRouteItems(new Object[]{"Close", "[page]"}),
+                NoAction.class) {
+        });
+        BasicFormatKeywordsReader.parseKeyword("Close\tmain");
+
+        Assert.assertEquals(1, BasicFormatKeywordsReader.getParsedKeywordsCount());
+    }
+
+    public static class NoAction implements ActionExecutor {
+
+        @Override
+        public void execute(Keyword keyword) {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.basicformat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.keyworddriven.executable.Executable;
+import org.qubership.atp.adapter.report.Report;
+
+public class StringTemplateTest {
+
+    @Test
+    public void testRender_TextWithPlaceholders_CallsReplacerOnlyForPlaceholders() {
+        List<String> calls = new ArrayList<>();
+        ParamReplacer replacer = new DelimitedReplacer("${", "}", calls);
+
+        StringTemplate template = StringTemplate.compile("a ${x} b ${y}", Collections.singletonList(replacer), 0);
+
+        Assert.assertTrue(template.isCompiled());
+        Assert.assertEquals("a X b Y", template.render(null, null));
+        Assert.assertEquals(Arrays.asList("${x}", "${y}"), calls);
+    }
+
+    @Test
+    public void testRender_TextWithoutPlaceholders_IsLiteral() {
+        List<String> calls = new ArrayList<>();
+        StringTemplate template = StringTemplate.compile("plain text",
+                Collections.singletonList(new DelimitedReplacer("${", "}", calls)), 0);
+
+        Assert.assertTrue(template.isLiteral());
+        Assert.assertEquals("plain text", template.render(null, null));
+        Assert.assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void testCompile_ReplacerWithoutMarkers_NotCompiled() {
+        ParamReplacer legacy = (section, data, report) -> data;
+        StringTemplate template = StringTemplate.compile("a ${x}", Collections.singletonList(legacy), 0);
+
+        Assert.assertFalse(template.isCompiled());
+    }
+
+    @Test
+    public void testCompile_NestedPlaceholders_NotCompiled() {
+        StringTemplate template = StringTemplate.compile("${a${b}}",
+                Collections.singletonList(new DelimitedReplacer("${", "}", new ArrayList<>())), 0);
+
+        Assert.assertFalse(template.isCompiled());
+    }
+
+    @Test
+    public void testRender_PlaceholderValueWithOtherPlaceholder_IsResolvedByFollowingReplacer() {
+        ParamReplacer first = new MapReplacer("${", "}", Collections.singletonMap("x", "#{y}!"));
+        ParamReplacer second = new MapReplacer("#{", "}", Collections.singletonMap("y", "Y"));
+        List<ParamReplacer> replacers = Arrays.asList(first, second);
+        String text = "a ${x} b #{y}";
+
+        StringTemplate template = StringTemplate.compile(text, replacers, 0);
+
+        Assert.assertTrue(template.isCompiled());
+        String sequential = text;
+        for (ParamReplacer replacer : replacers) {
+            sequential = replacer.replaceParam(null, sequential, null);
+        }
+        Assert.assertEquals(sequential, template.render(null, null));
+        Assert.assertEquals("a Y! b Y", template.render(null, null));
+    }
+
+    @Test
+    public void testIsCompilable_SomeReplacerWithoutMarkers_False() {
+        ParamReplacer legacy = (section, data, report) -> data;
+
+        Assert.assertTrue(StringTemplate.isCompilable(
+                Collections.singletonList(new DelimitedReplacer("${", "}", new ArrayList<>()))));
+        Assert.assertFalse(StringTemplate.isCompilable(
+                Arrays.asList(new DelimitedReplacer("${", "}", new ArrayList<>()), legacy)));
+    }
+
+    private static class DelimitedReplacer implements ParamReplacer {
+        private final String start;
+        private final String end;
+        private final List<String> calls;
+
+        private DelimitedReplacer(String start, String end, List<String> calls) {
+            this.start = start;
+            this.end = end;
+            this.calls = calls;
+        }
+
+        @Override
+        public String replaceParam(Executable section, String data, Report report) {
+            calls.add(data);
+            return data.substring(start.length(), data.length() - end.length()).toUpperCase();
+        }
+
+        @Override
+        public String getPlaceholderStart() {
+            return start;
+        }
+
+        @Override
+        public String getPlaceholderEnd() {
+            return end;
+        }
+    }
+
+    private static class MapReplacer implements ParamReplacer {
+        private final String start;
+        private final String end;
+        private final Map<String, String> values;
+
+        private MapReplacer(String start, String end, Map<String, String> values) {
+            this.start = start;
+            this.end = end;
+            this.values = values;
+        }
+
+        @Override
+        public String replaceParam(Executable section, String data, Report report) {
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                data = data.replace(start + value.getKey() + end, value.getValue());
+            }
+            return data;
+        }
+
+        @Override
+        public String getPlaceholderStart() {
+            return start;
+        }
+
+        @Override
+        public String getPlaceholderEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.dataitem;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.keyworddriven.executable.DataItem;
+
+public class ProcessorStorageTest {
+
+    private final ProcessorStorage storage = ProcessorStorage.getStorage();
+
+    @After
+    public void tearDown() {
+        storage.getProcessors().clear();
+    }
+
+    @Test
+    public void testGetProcessors_TypedProcessors_ChainContainsOnlyApplicableInRegistrationOrder() {
+        Processor first = new TypedProcessor(MarkedItem.class);
+        Processor other = new TypedProcessor(OtherItem.class);
+        Processor second = new TypedProcessor(MarkedItem.class);
+        storage.add(first);
+        storage.add(other);
+        storage.add(second);
+
+        List<Processor> chain = storage.getProcessors(MarkedItem.class);
+
+        Assert.assertEquals(Arrays.asList(first, second), chain);
+        Assert.assertSame(chain, storage.getProcessors(MarkedItem.class));
+        Assert.assertFalse(storage.getProcessors(DataItem.class).contains(first));
+    }
+
+    @Test
+    public void testGetProcessors_ProcessorListChanged_ChainIsRecomputed() {
+        Processor first = new TypedProcessor(DataItem.class);
+        Processor second = new TypedProcessor(MarkedItem.class);
+        storage.add(first);
+        List<Processor> chain = storage.getProcessors(MarkedItem.class);
+
+        storage.getProcessors().add(second);
+        Assert.assertEquals(Arrays.asList(first, second), storage.getProcessors(MarkedItem.class));
+        storage.getProcessors().remove(first);
+        Assert.assertEquals(Arrays.asList(second), storage.getProcessors(MarkedItem.class));
+        storage.getProcessors().set(0, first);
+
+        Assert.assertEquals(Arrays.asList(first), storage.getProcessors(MarkedItem.class));
+        Assert.assertNotSame(chain, storage.getProcessors(MarkedItem.class));
+    }
+
+    @Test
+    public void testGetProcessors_ProcessorsCleared_ChainIsEmpty() {
+        storage.add(new TypedProcessor(DataItem.class));
+        storage.getProcessors(MarkedItem.class);
+
+        storage.getProcessors().clear();
+
+        Assert.assertTrue(storage.getProcessors(MarkedItem.class).isEmpty());
+    }
+
+    private static class MarkedItem extends DataItem {
+        MarkedItem() {
+            super("marked");
+        }
+    }
+
+    private static class OtherItem extends DataItem {
+        OtherItem() {
+            super("other");
+        }
+    }
+
+    private static class TypedProcessor implements Processor {
+        private final Class<? extends DataItem> type;
+
+        TypedProcessor(Class<? extends DataItem> type) {
+            this.type = type;
+        }
+
+        @Override
+        public DataItem process(DataItem item) {
+            return item;
+        }
+
+        @Override
+        public Class<? extends DataItem> getDataItemType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.executable;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.keyworddriven.context.KDTContextDataStorageProvider;
+import org.qubership.atp.adapter.tools.tacomponents.context.ContextType;
+import org.qubership.atp.adapter.tools.tacomponents.context.threading.ScopeModel;
+
+public class ExecutableImplTest {
+
+    private Executable testCase;
+    private Executable section;
+
+    @Before
+    public void setUp() {
+        ContextType.LOCAL.setContextProvider(new KDTContextDataStorageProvider());
+        testCase = new TestCaseImpl("test case", null);
+        section = new SectionImpl("section", testCase);
+        testCase.setParam("inherited", "test case");
+    }
+
+    @After
+    public void tearDown() {
+        ContextType.resetProviders(ScopeModel.PRIMITIVE);
+    }
+
+    @Test
+    public void getEffectiveParams_nothingChanged_returnsMemoizedTable() {
+        Map<String, Object> params = section.getEffectiveParams();
+
+        section.getParam("inherited");
+
+        Assert.assertSame(params, section.getEffectiveParams());
+        Assert.assertEquals("test case", params.get("inherited"));
+    }
+
+    @Test
+    public void getEffectiveParams_parentParamChanged_rebuildsTable() {
+        Map<String, Object> params = section.getEffectiveParams();
+
+        testCase.setParam("inherited", "changed");
+
+        Assert.assertNotSame(params, section.getEffectiveParams());
+        Assert.assertEquals("changed", section.getEffectiveParams().get("inherited"));
+    }
+
+    @Test
+    public void getEffectiveParams_ancestorParamChanged_rebuildsTablesOfSubtree() {
+        Executable keyword = new SectionImpl("keyword", section);
+        Map<String, Object> params = keyword.getEffectiveParams();
+
+        testCase.setParam("inherited", "changed");
+
+        Assert.assertNotSame(params, keyword.getEffectiveParams());
+        Assert.assertEquals("changed", keyword.getParam("inherited"));
+    }
+
+    @Test
+    public void getEffectiveParams_tableIsMemoized_ancestorsAreNotWalked() {
+        final AtomicInteger lookups = new AtomicInteger();
+        Executable root = new TestCaseImpl("root", null) {
+            @Override
+            public Map<String, Object> getEffectiveParams() {
+                lookups.incrementAndGet();
+                return super.getEffectiveParams();
+            }
+        };
+        Executable keyword = new SectionImpl("keyword", new SectionImpl("section", root));
+        root.setParam("inherited", "root");
+        keyword.getEffectiveParams();
+        lookups.set(0);
+
+        Assert.assertEquals("root", keyword.getParam("inherited"));
+        keyword.getEffectiveParams();
+
+        Assert.assertEquals(0, lookups.get());
+    }
+
+    @Test
+    public void getEffectiveParams_paramRemovedThroughLiveMap_rebuildsTable() {
+        Map<String, Object> params = section.getEffectiveParams();
+
+        testCase.getNormalPriorityParams().keySet().remove("inherited");
+
+        Assert.assertNotSame(params, section.getEffectiveParams());
+        Assert.assertFalse(section.getEffectiveParams().containsKey("inherited"));
+    }
+
+    @Test
+    public void getEffectiveParams_nullParam_isKeptButDoesNotHideParentOne() {
+        section.setParam("inherited", null);
+
+        Assert.assertTrue(section.getEffectiveParams().containsKey("inherited"));
+        Assert.assertNull(section.getEffectiveParams().get("inherited"));
+        Assert.assertEquals("test case", new SectionImpl("keyword", section).getParam("inherited"));
+    }
+}
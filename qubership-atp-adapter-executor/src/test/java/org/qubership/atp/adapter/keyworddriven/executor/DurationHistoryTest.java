@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.executor;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DurationHistoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void save_recordedDurations_areLoadedByNewHistory() {
+        File file = new File(folder.getRoot(), "history/durations.properties");
+        DurationHistory history = new DurationHistory(file);
+        history.record("first", 100L);
+        history.record("first", 300L);
+        history.record("second", 1000L);
+
+        history.save();
+        DurationHistory loaded = new DurationHistory(file);
+
+        Assert.assertEquals(Long.valueOf(200L), loaded.getDuration("first"));
+        Assert.assertEquals(Long.valueOf(1000L), loaded.getDuration("second"));
+        Assert.assertNull(loaded.getDuration("unknown"));
+        Assert.assertEquals(600L, loaded.getAverageDuration());
+        Assert.assertFalse(new File(file.getParentFile(), "durations.properties.tmp").exists());
+    }
+
+    @Test
+    public void save_existingHistory_isReplacedWithoutLosingOtherEntries() throws Exception {
+        File file = folder.newFile("durations.properties");
+        Files.write(file.toPath(), "first=100\nbroken=abc\n".getBytes(StandardCharsets.ISO_8859_1));
+        DurationHistory history = new DurationHistory(file);
+        history.record("second", 50L);
+
+        history.save();
+        DurationHistory loaded = new DurationHistory(file);
+
+        Assert.assertEquals(Long.valueOf(100L), loaded.getDuration("first"));
+        Assert.assertEquals(Long.valueOf(50L), loaded.getDuration("second"));
+        Assert.assertNull(loaded.getDuration("broken"));
+    }
+
+    @Test
+    public void getAverageDuration_emptyHistory_isZero() {
+        Assert.assertEquals(0L, new DurationHistory(new File(folder.getRoot(), "missing")).getAverageDuration());
+    }
+}
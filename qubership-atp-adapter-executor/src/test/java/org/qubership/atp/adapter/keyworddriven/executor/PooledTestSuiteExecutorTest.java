@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.keyworddriven.executor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import org.qubership.atp.adapter.keyworddriven.executable.Executable;
+
+public class PooledTestSuiteExecutorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sortLongestFirst_knownAndUnknownTestCases_longestRunnableGoesFirst() {
+        DurationHistory history = new DurationHistory(new File(folder.getRoot(), "durations.properties"));
+        history.record("short", 10L);
+        history.record("long", 1000L);
+        history.record("middle", 200L);
+        PooledTestSuiteExecutor.ExecutableRunnable shortCase = runnable("short");
+        PooledTestSuiteExecutor.ExecutableRunnable longCase = runnable("long");
+        PooledTestSuiteExecutor.ExecutableRunnable unknownCase = runnable("unknown");
+        PooledTestSuiteExecutor.ExecutableRunnable groupedCases = runnable("short", "middle");
+        List<Runnable> threads = new ArrayList<>(Arrays.asList(shortCase, unknownCase, groupedCases, longCase));
+
+        new PooledTestSuiteExecutor().sortLongestFirst(threads, history);
+
+        // unknown test case is expected to take an average time: (10 + 1000 + 200) / 3 = 403
+        Assert.assertEquals(Arrays.asList(longCase, unknownCase, groupedCases, shortCase), threads);
+    }
+
+    @Test
+    public void sortLongestFirst_equalDurations_keepsSubmissionOrder() {
+        DurationHistory history = new DurationHistory(new File(folder.getRoot(), "durations.properties"));
+        PooledTestSuiteExecutor.ExecutableRunnable first = runnable("first");
+        PooledTestSuiteExecutor.ExecutableRunnable second = runnable("second");
+        List<Runnable> threads = new ArrayList<>(Arrays.asList(first, second));
+
+        new PooledTestSuiteExecutor().sortLongestFirst(threads, history);
+
+        Assert.assertEquals(Arrays.asList(first, second), threads);
+    }
+
+    private static PooledTestSuiteExecutor.ExecutableRunnable runnable(String... names) {
+        Executable[] executables = new Executable[names.length];
+        for (int i = 0; i < names.length; i++) {
+            executables[i] = Mockito.mock(Executable.class);
+            Mockito.when(executables[i].getName()).thenReturn(names[i]);
+        }
+        return new PooledTestSuiteExecutor.ExecutableRunnable(executables);
+    }
+}
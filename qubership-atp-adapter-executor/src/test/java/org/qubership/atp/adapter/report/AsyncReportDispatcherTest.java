@@ -0,0 +1,191 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncReportDispatcherTest {
+
+    private final List<Object> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<Boolean> interrupted = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService producers = Executors.newFixedThreadPool(2);
+    private final ReportAdapter adapter = (writer, item) -> {
+        if ("blocked".equals(item)) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        interrupted.add(Thread.currentThread().isInterrupted());
+        written.add(item);
+    };
+    private final AsyncReportDispatcher dispatcher = new AsyncReportDispatcher(new ReportWriter() {
+    }, Collections.singletonList(adapter), 16, AsyncReportDispatcher.OverflowPolicy.BLOCK);
+
+    @After
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        producers.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    @Test(timeout = 10000)
+    public void flush_otherThreadItemIsStuck_returnsWhenOwnItemsAreWritten() throws Exception {
+        dispatcher.enqueue("own");
+        producers.submit(() -> {
+            dispatcher.enqueue("blocked");
+            return null;
+        }).get();
+
+        dispatcher.flush();
+
+        Assert.assertEquals("own", written.get(0));
+        Assert.assertFalse(written.contains("blocked"));
+    }
+
+    @Test(timeout = 10000)
+    public void flush_otherThreadKeepsProducing_returns() throws Exception {
+        AtomicBoolean producing = new AtomicBoolean(true);
+        Future<?> producer = producers.submit(() -> {
+            while (producing.get()) {
+                dispatcher.enqueue("other");
+            }
+            return null;
+        });
+        dispatcher.enqueue("own");
+
+        dispatcher.flush();
+        dispatcher.flushAll();
+
+        Assert.assertTrue(written.contains("own"));
+        producing.set(false);
+        producer.get();
+    }
+
+    @Test(timeout = 10000)
+    public void flush_threadWithoutItems_returnsImmediately() throws Exception {
+        producers.submit(() -> {
+            dispatcher.enqueue("blocked");
+            return null;
+        }).get();
+
+        dispatcher.flush();
+
+        Assert.assertTrue(written.isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void shutdown_pendingItems_areWrittenInOrderWithoutInterruptingWriter() throws Exception {
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dispatcher.enqueue(i);
+            expected.add(i);
+        }
+
+        dispatcher.shutdown();
+        dispatcher.enqueue("late");
+
+        Assert.assertEquals(expected, written);
+        Assert.assertFalse(interrupted.contains(true));
+        Assert.assertEquals(1, dispatcher.getDroppedCount());
+    }
+
+    @Test(timeout = 10000)
+    public void enqueue_fullBufferWithBlockPolicy_waitsForConsumer() throws Exception {
+        dispatcher.enqueue("blocked");
+        Future<?> producer = producers.submit(() -> {
+            for (int i = 0; i < 32; i++) {
+                dispatcher.enqueue(i);
+            }
+            return null;
+        });
+        Thread.sleep(200);
+
+        Assert.assertFalse(producer.isDone());
+        Assert.assertTrue(dispatcher.getQueueSize() <= 16);
+        release.countDown();
+        producer.get();
+        dispatcher.flushAll();
+        Assert.assertEquals(33, written.size());
+    }
+
+    @Test(timeout = 10000)
+    public void enqueue_fullBufferWithSpillPolicy_spillsAndWritesInOrder() throws Exception {
+        AsyncReportDispatcher spilling = new AsyncReportDispatcher(new ReportWriter() {
+        }, Collections.singletonList(adapter), 4, AsyncReportDispatcher.OverflowPolicy.SPILL);
+        List<Object> expected = new ArrayList<>();
+        expected.add("blocked");
+        try {
+            spilling.enqueue("blocked");
+            for (int i = 0; i < 32; i++) {
+                spilling.enqueue(i);
+                expected.add(i);
+            }
+
+            Assert.assertTrue(spilling.getSpilledCount() > 0);
+            Assert.assertTrue(spilling.getQueueSize() <= 4);
+            release.countDown();
+            spilling.flushAll();
+            Assert.assertEquals(expected, written);
+            Assert.assertEquals(0, spilling.getDroppedCount());
+        } finally {
+            spilling.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void enqueue_spillFileIsFull_waitsForConsumer() throws Exception {
+        AsyncReportDispatcher spilling = new AsyncReportDispatcher(new ReportWriter() {
+        }, Collections.singletonList(adapter), 4, AsyncReportDispatcher.OverflowPolicy.SPILL, 256);
+        try {
+            spilling.enqueue("blocked");
+            Future<?> producer = producers.submit(() -> {
+                for (int i = 0; i < 32; i++) {
+                    spilling.enqueue(i);
+                }
+                return null;
+            });
+            Thread.sleep(200);
+
+            Assert.assertFalse(producer.isDone());
+            Assert.assertTrue(spilling.getSpilledCount() > 0);
+            release.countDown();
+            producer.get();
+            spilling.flushAll();
+            Assert.assertEquals(33, written.size());
+            for (int i = 0; i < 32; i++) {
+                Assert.assertEquals(i, written.get(i + 1));
+            }
+        } finally {
+            spilling.shutdown();
+        }
+    }
+}
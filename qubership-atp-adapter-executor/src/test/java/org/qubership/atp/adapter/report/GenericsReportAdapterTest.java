@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+public class GenericsReportAdapterTest {
+
+    @Test
+    public void getSupportedWriter_subclassOfAdapter_resolvesGenericParameterOfSuperclass() {
+        Assert.assertSame(FirstWriter.class, GenericsReportAdapter.getSupportedWriter(ExtendedAdapter.class));
+    }
+
+    @Test
+    public void getSupportedWriter_adapterClassIsResolved_cachedWriterIsReturned() {
+        Map<Class<?>, Class<?>> cache = Whitebox.getInternalState(GenericsReportAdapter.class, "SUPPORTED_WRITERS");
+        cache.remove(ExtendedAdapter.class);
+
+        GenericsReportAdapter.getSupportedWriter(ExtendedAdapter.class);
+        Assert.assertSame(FirstWriter.class, cache.get(ExtendedAdapter.class));
+        cache.put(ExtendedAdapter.class, SecondWriter.class);
+
+        try {
+            Assert.assertSame(SecondWriter.class, GenericsReportAdapter.getSupportedWriter(ExtendedAdapter.class));
+        } finally {
+            cache.remove(ExtendedAdapter.class);
+        }
+    }
+
+    @Test
+    public void write_supportedAndOtherWriters_writesOnlyToSupportedOne() {
+        ExtendedAdapter adapter = new ExtendedAdapter();
+        FirstWriter writer = new FirstWriter();
+
+        adapter.write(writer, "item");
+        adapter.write(new SecondWriter(), "other");
+
+        Assert.assertTrue(adapter.isSupported(writer));
+        Assert.assertFalse(adapter.isSupported(new SecondWriter()));
+        Assert.assertEquals(1, adapter.written.size());
+        Assert.assertEquals("item", adapter.written.get(0));
+    }
+
+    private static class FirstWriter implements ReportWriter {
+    }
+
+    private static class SecondWriter implements ReportWriter {
+    }
+
+    private static class FirstAdapter extends GenericsReportAdapter<FirstWriter> {
+        final List<Object> written = new ArrayList<>();
+
+        @Override
+        protected void writeItem(FirstWriter writer, Object item) {
+            written.add(item);
+        }
+    }
+
+    private static class ExtendedAdapter extends FirstAdapter {
+    }
+}
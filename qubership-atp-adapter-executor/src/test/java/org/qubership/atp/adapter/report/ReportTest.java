@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+public class ReportTest {
+
+    private final PendingWriter writer = new PendingWriter();
+    private final NamedWriter first = new NamedWriter("first");
+    private final NamedWriter second = new NamedWriter("second");
+    private final AsyncWriter asyncWriter = new AsyncWriter();
+    private final RecordingAdapter adapter = new RecordingAdapter();
+
+    @After
+    public void tearDown() {
+        Report.getReport().removeWriter(writer);
+        Report.getReport().removeWriter(first);
+        Report.getReport().removeWriter(second);
+        Report.getReport().removeWriter(asyncWriter);
+        Report.getReport().removeAdapter(adapter);
+        getAsyncWriters().remove(AsyncWriter.class.getName());
+    }
+
+    @Test
+    public void message_writersAndAdaptersAreAddedAndRemoved_itemsFollowCurrentRoutes() {
+        Report.getReport().addWriter(first);
+        Report.getReport().addAdapter(adapter);
+        Report.getReport().message("1");
+        Report.getReport().addWriter(second);
+        Report.getReport().message("2");
+        Report.getReport().removeWriter(first);
+        Report.getReport().message("3");
+        Report.getReport().removeAdapter(adapter);
+        Report.getReport().message("4");
+        Report.getReport().addAdapter(adapter);
+        Report.getReport().message("5");
+
+        Assert.assertEquals(Arrays.asList("first:1", "first:2", "second:2", "second:3", "second:5"),
+                adapter.written);
+    }
+
+    @Test
+    public void message_adapterDoesNotSupportWriter_itemIsNotWrittenToIt() {
+        NamedWriterAdapter supporting = new NamedWriterAdapter();
+        Report.getReport().addWriter(writer);
+        Report.getReport().addWriter(first);
+        Report.getReport().addAdapter(supporting);
+        try {
+            Report.getReport().message("item");
+        } finally {
+            Report.getReport().removeAdapter(supporting);
+        }
+
+        Assert.assertEquals(Collections.singletonList("first:item"), supporting.written);
+    }
+
+    @Test
+    public void message_asyncWriter_isWrittenOnlyByDispatcherThread() {
+        getAsyncWriters().add(AsyncWriter.class.getName());
+        Report.getReport().addAdapter(adapter);
+        Report.getReport().addWriter(first);
+        Report.getReport().addWriter(asyncWriter);
+
+        Report.getReport().message("item");
+        Report.getReport().flush();
+
+        Assert.assertEquals(Arrays.asList("first:item", "async:item"), adapter.written);
+        Assert.assertSame(Thread.currentThread(), adapter.threads.get(0));
+        Assert.assertNotSame(Thread.currentThread(), adapter.threads.get(1));
+    }
+
+    private static Set<String> getAsyncWriters() {
+        return Whitebox.getInternalState(Report.class, "ASYNC_WRITERS");
+    }
+
+    @Test
+    public void flush_writerHasBackgroundWrites_waitsForThem() {
+        Report.getReport().addWriter(writer);
+
+        Report.getReport().flush();
+
+        Assert.assertEquals(1, writer.awaited.get());
+    }
+
+    @Test
+    public void flushAll_writerHasBackgroundWrites_waitsForThem() {
+        Report.getReport().addWriter(writer);
+
+        Report.getReport().flushAll();
+
+        Assert.assertEquals(1, writer.awaited.get());
+    }
+
+    @Test
+    public void removeWriter_writerHasBackgroundWrites_waitsForThem() {
+        Report.getReport().addWriter(writer);
+
+        Assert.assertTrue(Report.getReport().removeWriter(writer));
+
+        Assert.assertEquals(1, writer.awaited.get());
+    }
+
+    private static class NamedWriter implements ReportWriter {
+        private final String name;
+
+        private NamedWriter(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class AsyncWriter extends NamedWriter {
+        private AsyncWriter() {
+            super("async");
+        }
+    }
+
+    private static class RecordingAdapter implements ReportAdapter {
+        private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(ReportWriter writer, Object item) {
+            if (writer instanceof NamedWriter) {
+                threads.add(Thread.currentThread());
+                written.add(((NamedWriter) writer).name + ":" + item);
+            }
+        }
+    }
+
+    private static class NamedWriterAdapter extends GenericsReportAdapter<NamedWriter> {
+        private final List<String> written = new ArrayList<>();
+
+        @Override
+        protected void writeItem(NamedWriter writer, Object item) {
+            written.add(writer.name + ":" + item);
+        }
+    }
+
+    private static class PendingWriter implements ReportWriter {
+        private final AtomicInteger awaited = new AtomicInteger();
+
+        @Override
+        public void awaitPendingWrites() {
+            awaited.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import org.apache.log4j.Level;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qubership.atp.adapter.utils.Utils;
+
+public class WebReportItemTest {
+
+    private final int maxFrames = WebReportItem.reportThrowableMaxFrames;
+
+    @After
+    public void tearDown() {
+        WebReportItem.reportThrowableMaxFrames = maxFrames;
+    }
+
+    @Test
+    public void getStackTrace_calledTwice_renderedOnceAndReused() {
+        WebReportItem.reportThrowableMaxFrames = 0;
+        IllegalStateException throwable = new IllegalStateException("failed");
+        WebReportItem.Message message = WebReportItem.message("title", Level.ERROR, "failed", throwable, null);
+
+        String stackTrace = message.getStackTrace();
+
+        Assert.assertEquals(Utils.getStackTrace(throwable), stackTrace);
+        Assert.assertSame(stackTrace, message.getStackTrace());
+        Assert.assertTrue(message.getMessageWithStackTrace().endsWith("<pre>" + stackTrace + "</pre>"));
+    }
+
+    @Test
+    public void getStackTrace_frameLimitIsConfigured_limitIsApplied() {
+        WebReportItem.reportThrowableMaxFrames = 1;
+        IllegalStateException throwable = new IllegalStateException("failed");
+        WebReportItem.Message message = WebReportItem.message("title", Level.ERROR, "failed", throwable, null);
+
+        Assert.assertEquals(Utils.getStackTrace(throwable, 1), message.getStackTrace());
+    }
+
+    @Test
+    public void getStackTrace_noThrowable_returnsNull() {
+        WebReportItem.Message message = WebReportItem.message("title", Level.INFO, "passed", null, null);
+
+        Assert.assertNull(message.getStackTrace());
+        Assert.assertEquals("passed", message.getMessageWithStackTrace());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.apache.log4j.Level;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WebReportWriterDiffTest {
+
+    private static File root;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        root = folder.getRoot();
+    }
+
+    @Test
+    public void message_snapshotIsLargerThanOneMegabyte_snapshotIsStoredAsDiff() {
+        WebReportWriterDiff writer = createWriter();
+        writer.openLog("log");
+        char[] page = new char[1536 * 1024];
+        Arrays.fill(page, 'a');
+
+        writer.message("first", Level.INFO, "", new PageSource(new String(page) + "1"));
+        writer.message("second", Level.INFO, "", new PageSource(new String(page) + "2"));
+        writer.awaitPendingWrites();
+
+        String[] pages = new File(new File(root, "report"), "pages").list();
+        Arrays.sort(pages);
+        Assert.assertEquals(2, pages.length);
+        Assert.assertTrue(pages[0].endsWith(".html"));
+        Assert.assertTrue(pages[1].endsWith(".diff"));
+    }
+
+    /**
+     * Report dir is resolved against {@link WebReportWriterDiff#getReportDir()} in the constructor,
+     * templates are not on the test classpath.
+     */
+    private WebReportWriterDiff createWriter() {
+        return new WebReportWriterDiff() {
+            @Override
+            public File getReportDir() {
+                return root;
+            }
+
+            @Override
+            protected String getReportDirName(Properties p) {
+                return "report";
+            }
+
+            @Override
+            protected void prepareReportTemplate() {
+                new File(root, "report").mkdirs();
+            }
+        };
+    }
+
+    private static class PageSource implements SourceProvider {
+        private final String source;
+
+        private PageSource(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public String getSource() {
+            return source;
+        }
+
+        @Override
+        public String getExtension() {
+            return "html";
+        }
+
+        @Override
+        public String getReportType() {
+            return ReportType.SNAPSHOT.toString();
+        }
+
+        @Override
+        public void setReportType(String reportType) {
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.report;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.log4j.Level;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.qubership.atp.adapter.testcase.Config;
+import org.w3c.dom.Document;
+
+public class WebReportWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        Config.getConfig().remove("report.buffer.size");
+    }
+
+    @Test
+    public void message_bufferIsNotFull_messageIsWrittenOnCloseLog() throws Exception {
+        WebReportWriter writer = createWriter(4096);
+        writer.openLog("log");
+        File reportFile = getReportFile(writer);
+        long opened = reportFile.length();
+
+        writer.message("title", Level.INFO, "first", null);
+        Assert.assertEquals(opened, reportFile.length());
+
+        writer.closeLog();
+        Document report = parse(reportFile);
+        Assert.assertEquals(1, report.getElementsByTagName("MSG").getLength());
+    }
+
+    @Test
+    public void message_bufferSizeIsZero_messageIsWrittenWithTailRegion() throws Exception {
+        WebReportWriter writer = createWriter(0);
+        writer.openLog("log");
+        File reportFile = getReportFile(writer);
+
+        writer.message("title", Level.INFO, "first", null);
+
+        String content = read(reportFile);
+        Assert.assertEquals(1, parse(reportFile).getElementsByTagName("MSG").getLength());
+        Assert.assertEquals(1024, content.length() - (content.lastIndexOf("</MSG>\n") + "</MSG>\n".length()));
+        writer.closeLog();
+    }
+
+    @Test
+    public void message_bufferSizeIsNotConfigured_messageIsWrittenImmediately() throws Exception {
+        WebReportWriter writer = createWriter();
+        writer.openLog("log");
+        File reportFile = getReportFile(writer);
+
+        writer.message("title", Level.INFO, "first", null);
+
+        Assert.assertEquals(1, parse(reportFile).getElementsByTagName("MSG").getLength());
+        writer.closeLog();
+    }
+
+    @Test
+    public void closeSection_tailIsShorter_tailRegionIsRewrittenInPlace() throws Exception {
+        WebReportWriter writer = createWriter(0);
+        writer.openLog("log");
+        File reportFile = getReportFile(writer);
+        for (int i = 0; i < 200; i++) {
+            writer.openSection("section" + i, "message", null, null);
+        }
+        String nested = read(reportFile);
+        Assert.assertEquals(2048, nested.length() - nested.indexOf("</MSG>"));
+
+        writer.closeSection();
+
+        String content = read(reportFile);
+        Assert.assertEquals(2048, content.length() - (content.indexOf("</MSG>\n") + "</MSG>\n".length()));
+        Assert.assertEquals(200, parse(reportFile).getElementsByTagName("MSG").getLength());
+        writer.closeLog();
+    }
+
+    @Test
+    public void message_afterCloseLog_logIsContinued() throws Exception {
+        WebReportWriter writer = createWriter(4096);
+        writer.openLog("log");
+        File reportFile = getReportFile(writer);
+        writer.message("title", Level.INFO, "first", null);
+        writer.closeLog();
+
+        writer.message("title", Level.WARN, "second", null);
+        writer.closeLog();
+
+        Document report = parse(reportFile);
+        Assert.assertEquals(2, report.getElementsByTagName("MSG").getLength());
+        Assert.assertEquals("second", report.getElementsByTagName("message").item(1).getTextContent());
+    }
+
+    private WebReportWriter createWriter(int bufferSize) {
+        Config.setString("report.buffer.size", String.valueOf(bufferSize));
+        return createWriter();
+    }
+
+    private WebReportWriter createWriter() {
+        Properties properties = new Properties();
+        properties.setProperty("report.dir.root", folder.getRoot().getAbsolutePath());
+        properties.setProperty("report.dir", "report");
+        return new WebReportWriter(properties) {
+            @Override
+            protected void prepareReportTemplate() {
+                getReportDir().mkdirs();
+            }
+        };
+    }
+
+    private File getReportFile(WebReportWriter writer) {
+        return new File(writer.getReportDir(), "report0000.xml");
+    }
+
+    private String read(File file) throws Exception {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private Document parse(File file) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.tools.tacomponents.context;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DefaultContextDataStorageTest {
+
+    private final DefaultContextDataStorage storage = new DefaultContextDataStorage();
+
+    @Test
+    public void clear_storageWithValues_changesModificationCount() {
+        storage.putValue("key", "value");
+        int count = storage.getModificationCount();
+
+        storage.clear();
+
+        Assert.assertNotEquals(count, storage.getModificationCount());
+    }
+
+    @Test
+    public void getValues_valueRemovedThroughLiveViews_changesModificationCount() {
+        storage.putValue("first", "value");
+        storage.putValue("second", "value");
+        storage.putValue("third", "value");
+        int count = storage.getModificationCount();
+
+        storage.getValues().keySet().remove("first");
+        Assert.assertNotEquals(count, count = storage.getModificationCount());
+        Iterator<Map.Entry<String, Object>> iterator = storage.getValues().entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        Assert.assertNotEquals(count, count = storage.getModificationCount());
+        storage.getRecords().put("fourth", new ContextRecord<>("fourth", "value"));
+
+        Assert.assertNotEquals(count, storage.getModificationCount());
+        Assert.assertEquals(2, storage.getValues().size());
+    }
+
+    @Test
+    public void getValue_unchangedStorage_keepsModificationCount() {
+        storage.putValue("key", "value");
+        int count = storage.getModificationCount();
+
+        storage.getValue("key");
+        storage.getValues().get("key");
+        storage.getValues().entrySet().iterator().next();
+
+        Assert.assertEquals(count, storage.getModificationCount());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.tools.tacomponents.context.threading;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.tools.tacomponents.context.ContextDataStorage;
+import org.qubership.atp.adapter.tools.tacomponents.context.LocalContextProvider;
+
+public class ContextScopeTest {
+
+    private final LocalContextProvider provider = new LocalContextProvider(ScopeModel.MULTI);
+
+    @Test
+    public void wrap_threadStartedInNestedGroup_resolvesNestedGroup() throws Exception {
+        ScopeItemThreadGroup outer = new ScopeItemThreadGroup("outer");
+        ScopeItemThreadGroup inner = new ScopeItemThreadGroup(outer, "inner");
+        AtomicReference<ContextDataStorage> boundStorage = new AtomicReference<>();
+        AtomicReference<ContextDataStorage> nestedStorage = new AtomicReference<>();
+        AtomicReference<ContextScope> nestedScope = new AtomicReference<>();
+
+        ContextScope.of(outer).wrap(() -> {
+            boundStorage.set(provider.getContextDataStorage());
+            Thread nested = new Thread(inner, () -> {
+                nestedScope.set(ContextScope.current());
+                nestedStorage.set(provider.getContextDataStorage());
+            });
+            nested.start();
+            try {
+                nested.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).run();
+
+        Assert.assertSame(outer.getContextDataStorage(), boundStorage.get());
+        Assert.assertNull(nestedScope.get());
+        Assert.assertSame(inner.getContextDataStorage(), nestedStorage.get());
+        Assert.assertNull(ContextScope.current());
+    }
+
+    @Test
+    public void wrap_poolThreadCreatedWhileScopeIsBound_doesNotKeepScope() throws Exception {
+        ScopeItemThreadGroup group = new ScopeItemThreadGroup("group");
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<ContextScope> seenInTask = new AtomicReference<>();
+            ContextScope scope = ContextScope.of(group);
+            scope.wrap(() -> {
+                try {
+                    pool.submit(() -> seenInTask.set(ContextScope.current())).get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).run();
+            Assert.assertNull(seenInTask.get());
+
+            pool.submit(scope.wrap(() -> seenInTask.set(ContextScope.current()))).get();
+            Assert.assertSame(scope, seenInTask.get());
+
+            Assert.assertNull(pool.submit(ContextScope::current).get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void propagate_taskOfBoundThread_runsInCallerScope() throws Exception {
+        ScopeItemThreadGroup group = new ScopeItemThreadGroup("group");
+        ContextScope scope = ContextScope.of(group);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<ContextDataStorage> storage = new AtomicReference<>();
+            scope.wrap(() -> {
+                Assert.assertSame(scope, ContextScope.capture());
+                try {
+                    pool.submit(ContextScope.propagate(() -> storage.set(provider.getContextDataStorage()))).get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).run();
+
+            Assert.assertSame(group.getContextDataStorage(), storage.get());
+            Assert.assertSame(Thread.currentThread().getThreadGroup(), ContextScope.capture().getGroup());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
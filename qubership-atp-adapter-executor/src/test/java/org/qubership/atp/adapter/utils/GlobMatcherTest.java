@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.utils;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GlobMatcherTest {
+
+    @Test
+    public void matches_starsAndQuestionMarks_matchAnyCharactersIncludingLineBreaks() {
+        Assert.assertTrue(GlobMatcher.compile("a*b?c").matches("a\nxx\rbzc"));
+        Assert.assertTrue(GlobMatcher.compile("*").matches(""));
+        Assert.assertTrue(GlobMatcher.compile("a**").matches("a"));
+        Assert.assertFalse(GlobMatcher.compile("a*b").matches("ab\n"));
+        Assert.assertFalse(GlobMatcher.compile("ab*ba").matches("aba"));
+        Assert.assertFalse(GlobMatcher.compile("a?").matches("a"));
+    }
+
+    @Test
+    public void matches_regexpMetaCharacters_areLiterals() {
+        Assert.assertTrue(GlobMatcher.compile("(a.b)*[x]").matches("(a.b) and [x]"));
+        Assert.assertFalse(GlobMatcher.compile("a.b").matches("axb"));
+    }
+
+    @Test
+    public void matches_longMultiLineInput_doesNotOverflowStack() {
+        char[] input = new char[1000000];
+        Arrays.fill(input, '\n');
+        input[input.length - 1] = 'z';
+
+        Assert.assertTrue(Utils.matches("*\n*z", new String(input)));
+        Assert.assertTrue(Utils.preparePattern("*z").matcher(new String(input)).matches());
+    }
+
+    @Test
+    public void matches_regexpPrefix_usesRegularExpression() {
+        Assert.assertTrue(Utils.matches("regexp:a+b", "aaab"));
+        Assert.assertFalse(Utils.matches("a+b", "aaab"));
+        Assert.assertSame(Utils.preparePattern("regexp:a+b"), Utils.preparePattern("regexp:a+b"));
+    }
+
+    @Test
+    public void matches_unicodeLineTerminators_matchOnlyThemselves() {
+        for (String terminator : new String[]{"\u0085", "\u2028", "\u2029"}) {
+            Assert.assertFalse(GlobMatcher.compile("*").matches("a" + terminator + "b"));
+            Assert.assertFalse(GlobMatcher.compile("a?b").matches("a" + terminator + "b"));
+            Assert.assertTrue(GlobMatcher.compile("a*" + terminator + "*b").matches("ax" + terminator + "yb"));
+            Assert.assertFalse(Utils.matches("*", "a" + terminator + "b"));
+            Assert.assertFalse(Utils.preparePattern("a?b").matcher("a" + terminator + "b").matches());
+            Assert.assertTrue(Utils.preparePattern("a*" + terminator + "*b").matcher("ax" + terminator + "yb").matches());
+        }
+        Assert.assertFalse(GlobMatcher.compile("a\u2028b").matches("a\u2029b"));
+    }
+
+    @Test
+    public void matches_sameAsFormerRegularExpression() {
+        String[] globs = {"", "*", "?", "a*b?c", "*a?a*", "?\u2028*", "*\u0085", "a**\u2029?", "??", "*?*", "a?*?a"};
+        String[] inputs = {"", "a", "ab\nzc", "a\rbzc", "\u2028", "x\u2028", "x\u2028yz", "a\u0085", "\u0085",
+                "a\u2029x", "a\u2029", "\ud83d\ude00", "\ud83d\ude00\ud83d\ude00", "aXa", "aa", "a\u2028a", "a\nxa"};
+        for (String glob : globs) {
+            Pattern former = Pattern.compile("^" + glob.replace("?", "(.|[\n\r])").replace("*", "(.|[\n\r])*") + "$");
+            for (String input : inputs) {
+                boolean expected = former.matcher(input).matches();
+                Assert.assertEquals(glob + " / " + input, expected, GlobMatcher.compile(glob).matches(input));
+                Assert.assertEquals(glob + " / " + input, expected, Utils.preparePattern(glob).matcher(input).matches());
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void matches_manyPartialOccurrences_isLinear() {
+        char[] input = new char[1000000];
+        Arrays.fill(input, 'a');
+        char[] segment = new char[2000];
+        Arrays.fill(segment, 'a');
+        segment[segment.length - 1] = 'b';
+        String literal = new String(segment);
+        segment[segment.length / 2] = '?';
+        String withAny = new String(segment);
+
+        Assert.assertFalse(GlobMatcher.compile("*" + literal + "*").matches(new String(input)));
+        Assert.assertFalse(GlobMatcher.compile("*" + withAny + "*").matches(new String(input)));
+        input[input.length - 1] = 'b';
+        Assert.assertTrue(GlobMatcher.compile("*" + literal).matches(new String(input)));
+        Assert.assertTrue(GlobMatcher.compile("*" + withAny + "*").matches(new String(input)));
+    }
+}
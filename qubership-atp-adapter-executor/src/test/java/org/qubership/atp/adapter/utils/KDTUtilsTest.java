@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.utils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.qubership.atp.adapter.keyworddriven.context.KDTContextDataStorageProvider;
+import org.qubership.atp.adapter.keyworddriven.executable.Executable;
+import org.qubership.atp.adapter.keyworddriven.executable.SectionImpl;
+import org.qubership.atp.adapter.keyworddriven.executable.TestCaseImpl;
+import org.qubership.atp.adapter.testcase.Config;
+import org.qubership.atp.adapter.tools.tacomponents.context.ContextType;
+import org.qubership.atp.adapter.tools.tacomponents.context.threading.ScopeModel;
+
+public class KDTUtilsTest {
+
+    private static final String KEY = "kdt.utils.test.param";
+
+    @Before
+    public void setUp() {
+        Config.setString(KEY, "config");
+    }
+
+    @After
+    public void tearDown() {
+        Config.getConfig().remove(KEY);
+        ContextType.resetProviders(ScopeModel.PRIMITIVE);
+    }
+
+    @Test
+    public void loadConfigParams_kdtLocalStorage_configIsSharedAndOverridesOwnParams() {
+        ContextType.LOCAL.setContextProvider(new KDTContextDataStorageProvider());
+        Executable testCase = new TestCaseImpl("test case", null);
+        testCase.setParam(KEY, "own");
+
+        KDTUtils.loadConfigParams(testCase);
+        Executable section = new SectionImpl("section", testCase);
+
+        Assert.assertNotNull(testCase.getConfigParams());
+        Assert.assertEquals("config", testCase.getParam(KEY));
+        Assert.assertEquals("config", section.getParam(KEY));
+        section.setParam(KEY, "later");
+        Assert.assertEquals("later", section.getParam(KEY));
+    }
+
+    @Test
+    public void loadConfigParams_otherLocalStorage_configIsCopiedIntoContext() {
+        Executable testCase = new TestCaseImpl("test case", null);
+        testCase.setParam(KEY, "own");
+
+        KDTUtils.loadConfigParams(testCase);
+
+        Assert.assertNull(testCase.getConfigParams());
+        Assert.assertEquals("config", testCase.getParam(KEY));
+        Assert.assertEquals("config", testCase.getNormalPriorityParams().get(KEY));
+    }
+}
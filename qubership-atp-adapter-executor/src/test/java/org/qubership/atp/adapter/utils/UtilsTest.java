@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.qubership.atp.adapter.utils;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.xpath.XPathExpression;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.reflect.Whitebox;
+import org.w3c.dom.Document;
+
+public class UtilsTest {
+
+    @Test
+    public void getStackTrace_noFrameLimit_equalsPrintStackTraceWithCausesAndSuppressed() {
+        Throwable t = createThrowableWithCauseAndSuppressed();
+
+        Assert.assertEquals(Utils.getStackTrace(t), Utils.getStackTrace(t, 0));
+        Assert.assertEquals(Utils.getStackTrace(t), Utils.getStackTrace(t, -1));
+        Assert.assertTrue(Utils.getStackTrace(t, 0).contains("Caused by: java.io.IOException: cause"));
+        Assert.assertTrue(Utils.getStackTrace(t, 0)
+                .contains("\tSuppressed: java.lang.IllegalStateException: suppressed"));
+    }
+
+    @Test
+    public void getStackTrace_frameLimitAboveDepth_equalsPrintStackTrace() {
+        Throwable t = createThrowableWithCauseAndSuppressed();
+
+        Assert.assertEquals(Utils.getStackTrace(t), Utils.getStackTrace(t, 10000));
+    }
+
+    @Test
+    public void getStackTrace_frameLimit_printsLimitedOwnFramesOfEveryThrowable() {
+        Throwable t = createThrowableWithCauseAndSuppressed();
+        String separator = System.getProperty("line.separator");
+
+        String[] lines = Utils.getStackTrace(t, 2).split(separator);
+
+        Assert.assertEquals(t.toString(), lines[0]);
+        Assert.assertTrue(lines[1].startsWith("\tat "));
+        Assert.assertTrue(lines[2].startsWith("\tat "));
+        Assert.assertEquals("\t... " + (t.getStackTrace().length - 2) + " more", lines[3]);
+        Assert.assertEquals("\tSuppressed: " + t.getSuppressed()[0], lines[4]);
+        Assert.assertTrue(lines[5].startsWith("\t\tat "));
+        Assert.assertTrue(lines[6].startsWith("\t\tat "));
+        Assert.assertTrue(lines[7].startsWith("\t\t... "));
+        Assert.assertEquals("Caused by: " + t.getCause(), lines[8]);
+        Assert.assertTrue(lines[9].startsWith("\tat "));
+        Assert.assertTrue(lines[10].startsWith("\tat "));
+        Assert.assertTrue(lines[11].startsWith("\t... "));
+        Assert.assertEquals(12, lines.length);
+    }
+
+    @Test
+    public void parseXml_previousParseFailed_cachedBuilderParsesNextDocument() {
+        Document malformed = Utils.parseXml("<root><a>");
+        DocumentBuilder builder = getDocumentBuilderCache().get();
+
+        Document document = Utils.parseXml("<root><a>1</a></root>");
+
+        Assert.assertNull(malformed.getDocumentElement());
+        Assert.assertEquals("root", document.getDocumentElement().getNodeName());
+        Assert.assertSame(builder, getDocumentBuilderCache().get());
+    }
+
+    @Test
+    public void nodeToString_cachedTransformerFails_transformerIsDiscarded() throws Exception {
+        Document document = Utils.parseXml("<root><a>1</a></root>");
+        ThreadLocal<Transformer> transformers = Whitebox.getInternalState(Utils.class, "NODE_TRANSFORMER");
+        Transformer broken = Mockito.mock(Transformer.class);
+        Mockito.doThrow(new TransformerException("broken")).when(broken)
+                .transform(Mockito.any(Source.class), Mockito.any(Result.class));
+        transformers.set(broken);
+
+        Assert.assertEquals("", Utils.nodeToString(document.getDocumentElement()));
+        Assert.assertNull(transformers.get());
+        Assert.assertEquals("<root><a>1</a></root>", Utils.nodeToString(document.getDocumentElement()));
+        Assert.assertNotNull(transformers.get());
+        Assert.assertNotSame(broken, transformers.get());
+    }
+
+    @Test
+    public void evaluateXPath_repeatedAndInterleavedExpressions_areCompiledOncePerExpression() {
+        Document document = Utils.parseXml("<root><a>1</a><b>2</b></root>");
+        ThreadLocal<Map<String, XPathExpression>> cache = Whitebox.getInternalState(Utils.class,
+                "XPATH_EXPRESSIONS");
+        cache.get().clear();
+
+        Assert.assertEquals("1", Utils.evaluateXPath("/root/a", document));
+        XPathExpression compiled = cache.get().get("/root/a");
+        Assert.assertEquals("2", Utils.evaluateXPath("/root/b", document));
+        Assert.assertEquals("1", Utils.evaluateXPath("/root/a", document));
+        Assert.assertEquals("2", Utils.evaluateXPath("/root/b", document));
+        Assert.assertEquals("", Utils.evaluateXPath("/root/c", document));
+
+        Assert.assertSame(compiled, cache.get().get("/root/a"));
+        Assert.assertNotSame(compiled, cache.get().get("/root/b"));
+        Assert.assertEquals(3, cache.get().size());
+    }
+
+    private static ThreadLocal<DocumentBuilder> getDocumentBuilderCache() {
+        return Whitebox.getInternalState(Utils.class, "DOCUMENT_BUILDER");
+    }
+
+    private static Throwable createThrowableWithCauseAndSuppressed() {
+        try {
+            recurse(5);
+            throw new AssertionError("Not thrown");
+        } catch (RuntimeException e) {
+            e.addSuppressed(createSuppressed(3));
+            return e;
+        }
+    }
+
+    private static Throwable createSuppressed(int depth) {
+        return depth > 0 ? createSuppressed(depth - 1) : new IllegalStateException("suppressed");
+    }
+
+    private static void recurse(int depth) {
+        if (depth > 0) {
+            recurse(depth - 1);
+            return;
+        }
+        try {
+            fail();
+        } catch (IOException e) {
+            throw new RuntimeException("wrapper", e);
+        }
+    }
+
+    private static void fail() throws IOException {
+        throw new IOException("cause");
+    }
+}